@@ -15,13 +15,13 @@ package com.cronutils;
 
 import com.cronutils.model.field.constraint.FieldConstraints;
 import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.VisibleForTesting;
 
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.cronutils.model.field.value.SpecialChar.*;
 
@@ -29,59 +29,82 @@ import static com.cronutils.model.field.value.SpecialChar.*;
  * Utility class for string validations.
  */
 public class StringValidations {
-    private static final String ESCAPED_END = ")\\b";
-    private static final String ESCAPED_START = "\\b(";
     private static final SpecialChar[] SPECIAL_CHARS = new SpecialChar[] { L, LW, W };
-    private static final Pattern NUMS_AND_CHARS_PATTERN = Pattern.compile("[#\\?/\\*0-9]");
+    private static final int MAXIMUM_CACHED = 256;
+    private static final Map<FieldConstraints, StringValidations> CACHE = new ConcurrentHashMap<>();
 
-    private final Pattern stringToIntKeysPattern;
-    private final Pattern lwPattern;
+    private final Set<String> validWords;
 
     public StringValidations(final FieldConstraints constraints) {
-        lwPattern = buildLWPattern(constraints.getSpecialChars());
-        stringToIntKeysPattern = buildStringToIntPattern(constraints.getStringMappingKeySet());
+        final Set<String> words = new HashSet<>(constraints.getStringMappingKeySet());
+        for (final SpecialChar sc : SPECIAL_CHARS) {
+            if (constraints.getSpecialChars().contains(sc)) {
+                words.add(sc.name());
+            }
+        }
+        validWords = words;
     }
 
-    @VisibleForTesting
-    Pattern buildStringToIntPattern(final Set<String> strings) {
-        return buildWordsPattern(strings);
+    /**
+     * Provides validations for given constraints. Constraints are immutable, so instances are shared by equal constraints.
+     *
+     * @param constraints - FieldConstraints instance. If null, a NullPointerException will be raised.
+     * @return StringValidations instance, never null
+     */
+    public static StringValidations forConstraints(final FieldConstraints constraints) {
+        Preconditions.checkNotNull(constraints, "FieldConstraints must not be null");
+        final StringValidations cached = CACHE.get(constraints);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAXIMUM_CACHED) {
+            CACHE.clear();
+        }
+        return CACHE.computeIfAbsent(constraints, StringValidations::new);
     }
 
+    /**
+     * Removes numbers, special chars, separators and words known to the field constraints, in a single pass.
+     * Digits and #?/* are removed before words are delimited, so they do not split words.
+     *
+     * @param exp - expression to check
+     * @return upper case chars not allowed by the field constraints, empty if all are valid
+     */
     @VisibleForTesting
     public String removeValidChars(final String exp) {
-        final Matcher numsAndCharsMatcher = NUMS_AND_CHARS_PATTERN.matcher(exp.toUpperCase());
-        final Matcher stringToIntKeysMatcher = stringToIntKeysPattern.matcher(numsAndCharsMatcher.replaceAll(""));
-        final Matcher specialWordsMatcher = lwPattern.matcher(stringToIntKeysMatcher.replaceAll(""));
-        return specialWordsMatcher.replaceAll("").replaceAll("\\s+", "").replaceAll(",", "").replaceAll("-", "");
+        final String upperCase = exp.toUpperCase();
+        final StringBuilder invalidChars = new StringBuilder();
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i < upperCase.length(); i++) {
+            final char c = upperCase.charAt(i);
+            if (isNumberOrChar(c)) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c) || c == '_') {
+                word.append(c);
+                continue;
+            }
+            appendInvalidWord(word, invalidChars);
+            if (!isSeparator(c)) {
+                invalidChars.append(c);
+            }
+        }
+        appendInvalidWord(word, invalidChars);
+        return invalidChars.toString();
     }
 
-    @VisibleForTesting
-    Pattern buildLWPattern(final Set<SpecialChar> specialChars) {
-        final Set<String> scs = new HashSet<>();
-        for (final SpecialChar sc : SPECIAL_CHARS) {
-            if (specialChars.contains(sc)) {
-                scs.add(sc.name());
-            }
+    private void appendInvalidWord(final StringBuilder word, final StringBuilder invalidChars) {
+        if (word.length() > 0 && !validWords.contains(word.toString())) {
+            invalidChars.append(word);
         }
-        return buildWordsPattern(scs);
+        word.setLength(0);
     }
 
-    @VisibleForTesting
-    Pattern buildWordsPattern(final Set<String> words) {
-        final StringBuilder builder = new StringBuilder(ESCAPED_START);
-        final Iterator<String> iterator = words.iterator();
+    private static boolean isNumberOrChar(final char c) {
+        return (c >= '0' && c <= '9') || c == '#' || c == '?' || c == '/' || c == '*';
+    }
 
-        if (!iterator.hasNext()) {
-            builder.append(ESCAPED_END);
-            return Pattern.compile(builder.toString());
-        }
-        final String next = iterator.next();
-        builder.append(next);
-        while (iterator.hasNext()) {
-            builder.append("|");
-            builder.append(iterator.next());
-        }
-        builder.append(ESCAPED_END);
-        return Pattern.compile(builder.toString());
+    private static boolean isSeparator(final char c) {
+        return c == ',' || c == '-' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
@@ -16,17 +16,32 @@ package com.cronutils.converter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
 import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.StringUtils;
 
+/**
+ * Converts five field crons (minute, hour, day of month, month and day of week) between time zones,
+ * using offsets both zones have now.
+ * The {@link #using(String)}, {@link #from(ZoneId)} and {@link #to(ZoneId)} builder keeps state and must not be shared,
+ * while {@link #convert(String, ZoneId, ZoneId)} does not modify the instance and can be called concurrently.
+ * See {@link CronZoneConverter} to convert parsed crons of any definition.
+ */
 public class CronConverter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CronConverter.class);
 
 	private static final String CRON_FIELDS_SEPARATOR = " ";
+	private static final CronParser UNIX_PARSER = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+
+	private final Clock clock;
 	private String[] cronParts;
 	private Calendar fromCalendar;
 	private String sourceCron;
@@ -36,9 +51,18 @@ public class CronConverter {
 	private CronToCalendarTransformer toCalendarConverter;
 	private CalendarToCronTransformer toCronConverter;
 
+	public CronConverter() {
+		this(new CronToCalendarTransformer(), new CalendarToCronTransformer());
+	}
+
 	public CronConverter(CronToCalendarTransformer toCalendarConverter, CalendarToCronTransformer toCronConverter){
+		this(toCalendarConverter, toCronConverter, Clock.systemUTC());
+	}
+
+	CronConverter(CronToCalendarTransformer toCalendarConverter, CalendarToCronTransformer toCronConverter, Clock clock) {
 		this.toCalendarConverter = toCalendarConverter;
 		this.toCronConverter = toCronConverter;
+		this.clock = clock;
 	}
 
 	public CronConverter using(String cronExpression) {
@@ -72,11 +96,31 @@ public class CronConverter {
 
 	public String convert() {
 		String targetCron = StringUtils.join(cronParts, CRON_FIELDS_SEPARATOR);
-		LOGGER.info("Converted CRON -- {} :[{}] => {} :[{}]", sourceZoneId,
+		LOGGER.debug("Converted CRON -- {} :[{}] => {} :[{}]", sourceZoneId,
 				sourceCron, targetZoneId, targetCron);
 		return targetCron;
 	}
 
+	/**
+	 * Converts a cron between time zones, without modifying this instance.
+	 * The cron is parsed as a Unix cron and shifted by {@link CronZoneConverter}, using offsets both zones have now,
+	 * so that ranges, lists and steps are shifted as well as single values.
+	 *
+	 * @param cron - five field Unix cron. If null, a NullPointerException will be raised.
+	 * @param from - zone the cron is expressed in. If null, a NullPointerException will be raised.
+	 * @param to   - zone to express the cron in. If null, a NullPointerException will be raised.
+	 * @return converted cron. Executions falling into several days are joined with {@code |}.
+	 * @throws IllegalArgumentException if the cron is not a valid Unix cron, or cannot be shifted
+	 */
+	public String convert(String cron, ZoneId from, ZoneId to) {
+		Preconditions.checkNotNull(cron, "Cron must not be null");
+		Preconditions.checkNotNull(from, "Source zone must not be null");
+		Preconditions.checkNotNull(to, "Target zone must not be null");
+		final String converted = CronZoneConverter.convert(UNIX_PARSER.parse(cron), from, to, clock.instant()).asString();
+		LOGGER.debug("Converted CRON -- {} :[{}] => {} :[{}]", from, cron, to, converted);
+		return converted;
+	}
+
 	private Calendar getCalendar(ZoneId id) {
 		return Calendar.getInstance(TimeZone.getTimeZone(id));
 	}
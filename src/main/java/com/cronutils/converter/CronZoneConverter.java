@@ -0,0 +1,296 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.converter;
+
+import com.cronutils.mapper.ConstantsMapper;
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.definition.DayOfWeekFieldDefinition;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.cronutils.model.field.expression.FieldExpressionFactory.always;
+import static com.cronutils.model.field.expression.FieldExpressionFactory.and;
+import static com.cronutils.model.field.expression.FieldExpressionFactory.between;
+import static com.cronutils.model.field.expression.FieldExpressionFactory.every;
+import static com.cronutils.model.field.expression.FieldExpressionFactory.on;
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.daysOfMonthMask;
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.daysOfWeekMask;
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.forCronField;
+
+/**
+ * Converts parsed crons from one time zone to another.
+ * Hours and minutes are shifted by the difference between zone offsets, whatever their expression (values, ranges, lists or steps).
+ * Executions moved to the previous or next day shift their day of week and day of month fields accordingly.
+ * When shifted executions cannot be described by a single expression, a {@link CompositeCron} is returned.
+ * Crons whose days cannot be shifted exactly, such as nth day of week or days crossing a restricted month, are rejected.
+ * The class is stateless and thread safe.
+ */
+public final class CronZoneConverter {
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	//plain days of month shifted by one day never cross a month boundary
+	private static final int LAST_SAFE_DAY_OF_MONTH = 27;
+	private static final long ALL_DAYS_OF_WEEK = 0xFEL;
+
+	private CronZoneConverter() {
+	}
+
+	/**
+	 * Converts a cron using the offsets both zones have at given instant.
+	 *
+	 * @param cron    - cron to convert. If null, a NullPointerException will be raised.
+	 * @param from    - zone the cron is expressed in. If null, a NullPointerException will be raised.
+	 * @param to      - zone to express the cron in. If null, a NullPointerException will be raised.
+	 * @param instant - instant offsets are taken at. If null, a NullPointerException will be raised.
+	 * @return converted cron, never null
+	 */
+	public static Cron convert(final Cron cron, final ZoneId from, final ZoneId to, final Instant instant) {
+		Preconditions.checkNotNull(from, "Source zone must not be null");
+		Preconditions.checkNotNull(to, "Target zone must not be null");
+		Preconditions.checkNotNull(instant, "Instant must not be null");
+		return convert(cron, from.getRules().getOffset(instant), to.getRules().getOffset(instant));
+	}
+
+	/**
+	 * Converts a cron between two offsets.
+	 *
+	 * @param cron - cron to convert. If null, a NullPointerException will be raised.
+	 * @param from - offset the cron is expressed in. If null, a NullPointerException will be raised.
+	 * @param to   - offset to express the cron in. If null, a NullPointerException will be raised.
+	 * @return converted cron, never null
+	 * @throws IllegalArgumentException if the offsets differ by seconds, or the cron days cannot be shifted
+	 */
+	public static Cron convert(final Cron cron, final ZoneOffset from, final ZoneOffset to) {
+		Preconditions.checkNotNull(cron, "Cron must not be null");
+		Preconditions.checkNotNull(from, "Source offset must not be null");
+		Preconditions.checkNotNull(to, "Target offset must not be null");
+		final int shiftSeconds = to.getTotalSeconds() - from.getTotalSeconds();
+		Preconditions.checkArgument(shiftSeconds % 60 == 0, "Offsets %s and %s must differ by whole minutes", from, to);
+		final List<Cron> converted = new ArrayList<>();
+		convert(cron, shiftSeconds / 60, converted);
+		return converted.size() == 1 ? converted.get(0) : new CompositeCron(converted);
+	}
+
+	private static void convert(final Cron cron, final int shiftMinutes, final List<Cron> converted) {
+		if (cron instanceof CompositeCron) {
+			for (final Cron member : ((CompositeCron) cron).getCrons()) {
+				convert(member, shiftMinutes, converted);
+			}
+			return;
+		}
+		if (shiftMinutes == 0) {
+			converted.add(cron);
+			return;
+		}
+		final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
+		final CronField hours = fields.get(CronFieldName.HOUR);
+		final CronField minutes = fields.get(CronFieldName.MINUTE);
+		Preconditions.checkArgument(hours != null && minutes != null, "Cron %s must define hours and minutes", cron.asString());
+
+		//minutes matched at each hour, for executions moved to the previous, same and next day
+		final long[][] shifted = new long[3][24];
+		final boolean sameDays = isEveryDay(fields);
+		for (final int hour : forCronField(hours).generateCandidateValues(0, 23)) {
+			for (final int minute : forCronField(minutes).generateCandidateValues(0, 59)) {
+				final int minuteOfDay = hour * 60 + minute + shiftMinutes;
+				final int dayShift = sameDays ? 0 : Math.floorDiv(minuteOfDay, MINUTES_PER_DAY);
+				final int shiftedMinute = Math.floorMod(minuteOfDay, MINUTES_PER_DAY);
+				shifted[dayShift + 1][shiftedMinute / 60] |= 1L << (shiftedMinute % 60);
+			}
+		}
+		for (int dayShift = -1; dayShift <= 1; dayShift++) {
+			final long[] minutesPerHour = shifted[dayShift + 1];
+			//hours sharing the same minutes are described by a single cron
+			final Map<Long, Long> hoursPerMinutes = new LinkedHashMap<>();
+			for (int hour = 0; hour < 24; hour++) {
+				if (minutesPerHour[hour] != 0) {
+					hoursPerMinutes.merge(minutesPerHour[hour], 1L << hour, (a, b) -> a | b);
+				}
+			}
+			if (hoursPerMinutes.isEmpty()) {
+				continue;
+			}
+			final Map<CronFieldName, CronField> days = shiftDays(cron, fields, dayShift);
+			for (final Map.Entry<Long, Long> entry : hoursPerMinutes.entrySet()) {
+				final Map<CronFieldName, CronField> replaced = new EnumMap<>(days);
+				replaced.put(CronFieldName.HOUR, new CronField(CronFieldName.HOUR, expression(entry.getValue(), 0, 23), hours.getConstraints()));
+				replaced.put(CronFieldName.MINUTE, new CronField(CronFieldName.MINUTE, expression(entry.getKey(), 0, 59), minutes.getConstraints()));
+				converted.add(new SingleCron(cron.getCronDefinition(), new ArrayList<>(replaced.values())));
+			}
+		}
+	}
+
+	/**
+	 * Whether the cron executes every day, so that executions moved to another day keep their day fields.
+	 */
+	private static boolean isEveryDay(final Map<CronFieldName, CronField> fields) {
+		return isUnrestricted(fields.get(CronFieldName.DAY_OF_MONTH)) && isUnrestricted(fields.get(CronFieldName.DAY_OF_WEEK))
+				&& isUnrestricted(fields.get(CronFieldName.DAY_OF_YEAR)) && isUnrestricted(fields.get(CronFieldName.MONTH))
+				&& isUnrestricted(fields.get(CronFieldName.YEAR));
+	}
+
+	private static boolean isUnrestricted(final CronField field) {
+		return field == null || field.getExpression() instanceof Always || field.getExpression() instanceof QuestionMark;
+	}
+
+	/**
+	 * Fields of given cron, with days moved by given number of days.
+	 */
+	private static Map<CronFieldName, CronField> shiftDays(final Cron cron, final Map<CronFieldName, CronField> fields, final int dayShift) {
+		final Map<CronFieldName, CronField> shiftedFields = new EnumMap<>(fields);
+		if (dayShift == 0) {
+			return shiftedFields;
+		}
+		Preconditions.checkArgument(isUnrestricted(fields.get(CronFieldName.DAY_OF_YEAR)),
+				"Cron %s cannot be converted: days of year cannot be shifted", cron.asString());
+		final boolean everyMonth = isUnrestricted(fields.get(CronFieldName.MONTH)) && isUnrestricted(fields.get(CronFieldName.YEAR));
+		final CronField daysOfMonth = fields.get(CronFieldName.DAY_OF_MONTH);
+		final CronField daysOfWeek = fields.get(CronFieldName.DAY_OF_WEEK);
+		if (!isUnrestricted(daysOfMonth)) {
+			shiftedFields.put(CronFieldName.DAY_OF_MONTH, new CronField(CronFieldName.DAY_OF_MONTH,
+					shiftDaysOfMonth(cron, daysOfMonth, dayShift, everyMonth), daysOfMonth.getConstraints()));
+		} else if (!everyMonth && isUnrestricted(daysOfWeek)) {
+			throw new IllegalArgumentException(String.format("Cron %s cannot be converted: executions cross month boundaries", cron.asString()));
+		}
+		if (!isUnrestricted(daysOfWeek)) {
+			Preconditions.checkArgument(everyMonth, "Cron %s cannot be converted: days of week cross month boundaries", cron.asString());
+			shiftedFields.put(CronFieldName.DAY_OF_WEEK, new CronField(CronFieldName.DAY_OF_WEEK,
+					shiftDaysOfWeek(cron, daysOfWeek, dayShift), daysOfWeek.getConstraints()));
+		}
+		return shiftedFields;
+	}
+
+	private static FieldExpression shiftDaysOfMonth(final Cron cron, final CronField field, final int dayShift, final boolean everyMonth) {
+		if (isSpecial(field.getExpression())) {
+			final On on = (On) field.getExpression();
+			//the day after the last day of any month is the first day of the next one
+			if (dayShift > 0 && everyMonth && on.getSpecialChar().getValue() == SpecialChar.L
+					&& on.getTime().getValue() < 0 && on.getNth().getValue() <= 0) {
+				return on(1);
+			}
+			throw new IllegalArgumentException(String.format("Cron %s cannot be converted: %s cannot be shifted", cron.asString(), field.getExpression().asString()));
+		}
+		final long days = daysOfMonthMask(field);
+		if (dayShift < 0 && days == 1L << 1 && everyMonth) {
+			return on(SpecialChar.L);
+		}
+		final int first = Long.numberOfTrailingZeros(days);
+		final int last = 63 - Long.numberOfLeadingZeros(days);
+		Preconditions.checkArgument(dayShift < 0 ? first > 1 : last <= LAST_SAFE_DAY_OF_MONTH,
+				"Cron %s cannot be converted: days of month cross month boundaries", cron.asString());
+		final int min = field.getConstraints().getStartRange();
+		final int max = field.getConstraints().getEndRange();
+		return expression(dayShift < 0 ? days >>> 1 : days << 1, min, max);
+	}
+
+	private static FieldExpression shiftDaysOfWeek(final Cron cron, final CronField field, final int dayShift) {
+		final WeekDay mondayDoWValue = ((DayOfWeekFieldDefinition) cron.getCronDefinition()
+				.getFieldDefinition(CronFieldName.DAY_OF_WEEK)).getMondayDoWValue();
+		for (final FieldExpression expression : expressions(field.getExpression())) {
+			Preconditions.checkArgument(!isSpecial(expression), "Cron %s cannot be converted: %s cannot be shifted",
+					cron.asString(), expression.asString());
+		}
+		//days of week in java.time numbering
+		final long days = daysOfWeekMask(field, mondayDoWValue);
+		if (days == ALL_DAYS_OF_WEEK) {
+			return field.getExpression();
+		}
+		long shiftedDays = 0;
+		for (int day = 1; day <= 7; day++) {
+			if ((days >>> day & 1) != 0) {
+				final int shiftedDay = Math.floorMod(day - 1 + dayShift, 7) + 1;
+				shiftedDays |= 1L << ConstantsMapper.weekDayMapping(ConstantsMapper.JAVA8, mondayDoWValue, shiftedDay);
+			}
+		}
+		return expression(shiftedDays, field.getConstraints().getStartRange(), field.getConstraints().getEndRange());
+	}
+
+	private static List<FieldExpression> expressions(final FieldExpression expression) {
+		if (expression instanceof And) {
+			return ((And) expression).getExpressions();
+		}
+		final List<FieldExpression> expressions = new ArrayList<>();
+		expressions.add(expression);
+		return expressions;
+	}
+
+	private static boolean isSpecial(final FieldExpression expression) {
+		return expression instanceof On && ((On) expression).getSpecialChar().getValue() != SpecialChar.NONE;
+	}
+
+	/**
+	 * Shortest expression for given values: every value, a single one, a range, a step or a list of values and ranges.
+	 *
+	 * @param values - bitmask where bit n is set if value n is included, must not be empty
+	 * @param min    - minimum value of the field
+	 * @param max    - maximum value of the field
+	 * @return field expression
+	 */
+	static FieldExpression expression(final long values, final int min, final int max) {
+		final int count = Long.bitCount(values);
+		final int first = Long.numberOfTrailingZeros(values);
+		final int last = 63 - Long.numberOfLeadingZeros(values);
+		if (count == max - min + 1) {
+			return always();
+		}
+		if (count == 1) {
+			return on(first);
+		}
+		if (last - first + 1 == count) {
+			return between(first, last);
+		}
+		final int step = Long.numberOfTrailingZeros(values >>> (first + 1)) + 1;
+		if (count > 2 && last + step > max && isProgression(values, first, step, max)) {
+			return every(on(first), step);
+		}
+		final List<FieldExpression> expressions = new ArrayList<>();
+		int start = first;
+		while (start >= 0 && start <= last) {
+			int end = start;
+			while (end < last && (values >>> (end + 1) & 1) != 0) {
+				end++;
+			}
+			expressions.add(start == end ? on(start) : between(start, end));
+			final long remaining = values >>> (end + 1);
+			start = remaining == 0 ? -1 : end + 1 + Long.numberOfTrailingZeros(remaining);
+		}
+		return and(expressions);
+	}
+
+	private static boolean isProgression(final long values, final int first, final int step, final int max) {
+		long progression = 0;
+		for (int value = first; value <= max; value += step) {
+			progression |= 1L << value;
+		}
+		return progression == values;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics;
+
+
+import java.time.ZonedDateTime;
+
+/**
+ * Receives measurements of parsing, execution searches and execution time cache lookups.
+ * Methods are called on every measured operation, possibly from many threads at once,
+ * so implementations must be thread safe and fast. Methods do nothing by default,
+ * so that implementations only override what they record.
+ * The instance in use is provided by {@link CronMetricsRegistry}.
+ */
+public interface CronMetrics {
+
+    /**
+     * Direction of an execution search.
+     */
+    enum SearchDirection {
+        NEXT, PREVIOUS
+    }
+
+    /**
+     * Metrics recording nothing, used unless other metrics are registered.
+     *
+     * @return CronMetrics instance, never null
+     */
+    static CronMetrics noop() {
+        return NoopCronMetrics.INSTANCE;
+    }
+
+    /**
+     * Whether measurements are recorded. When false, measured code skips reading clocks and calling other methods.
+     *
+     * @return true if measurements are recorded
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after parsing an expression.
+     *
+     * @param expression    - parsed expression, never null
+     * @param durationNanos - time spent parsing, in nanoseconds
+     * @param success       - false if the expression was rejected
+     */
+    default void parsed(final String expression, final long durationNanos, final boolean success) {
+    }
+
+    /**
+     * Called after searching the closest execution to a date, once per search step of a next or last execution.
+     *
+     * @param direction     - NEXT or PREVIOUS, never null
+     * @param expression    - expression of the cron searched, or null if unknown
+     * @param date          - reference date, never null
+     * @param iterations    - candidate dates evaluated
+     * @param durationNanos - time spent searching, in nanoseconds
+     * @param result        - execution found, or null if none was found
+     */
+    default void searched(final SearchDirection direction, final String expression, final ZonedDateTime date, final int iterations,
+                          final long durationNanos, final ZonedDateTime result) {
+    }
+
+    /**
+     * Called when an execution time is found in an execution time cache.
+     */
+    default void cacheHit() {
+    }
+
+    /**
+     * Called when an execution time is built for lack of a cached one.
+     */
+    default void cacheMiss() {
+    }
+
+    /**
+     * Called when a search gives up after its maximum number of iterations.
+     */
+    default void iterationLimitHit() {
+    }
+
+    /**
+     * Called when a search gives up after reaching its maximum horizon.
+     */
+    default void horizonLimitHit() {
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics;
+
+import com.cronutils.utils.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link CronMetrics} measured code reports to.
+ * On first use, the first implementation declared as a {@link ServiceLoader} provider is loaded;
+ * without providers, {@link CronMetrics#noop()} is used. Other metrics can be registered at any time.
+ */
+public final class CronMetricsRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CronMetricsRegistry.class);
+
+    private static volatile CronMetrics metrics = load();
+
+    private CronMetricsRegistry() {
+    }
+
+    /**
+     * Metrics in use.
+     *
+     * @return CronMetrics instance, never null
+     */
+    public static CronMetrics get() {
+        return metrics;
+    }
+
+    /**
+     * Replaces metrics in use.
+     *
+     * @param cronMetrics - CronMetrics instance. If null, a NullPointerException will be raised.
+     */
+    public static void register(final CronMetrics cronMetrics) {
+        metrics = Preconditions.checkNotNull(cronMetrics, "Metrics must not be null");
+    }
+
+    /**
+     * Stops recording metrics, going back to {@link CronMetrics#noop()}.
+     */
+    public static void reset() {
+        metrics = CronMetrics.noop();
+    }
+
+    private static CronMetrics load() {
+        try {
+            final Iterator<CronMetrics> providers = ServiceLoader.load(CronMetrics.class).iterator();
+            if (providers.hasNext()) {
+                return providers.next();
+            }
+        } catch (final ServiceConfigurationError e) {
+            LOGGER.warn("Could not load cron metrics provider, metrics are not recorded", e);
+        }
+        return CronMetrics.noop();
+    }
+}
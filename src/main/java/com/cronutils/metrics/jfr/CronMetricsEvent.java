@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Counters recorded by {@link JfrCronMetrics} since the previous event, emitted periodically.
+ */
+@Name("com.cronutils.Metrics")
+@Label("Cron Metrics")
+@Category("Cron Utils")
+@Description("Parses, execution searches and execution time cache lookups since the previous event")
+@Period("1 s")
+@StackTrace(false)
+class CronMetricsEvent extends Event {
+    @Label("Parses")
+    long parses;
+
+    @Label("Parse Failures")
+    long parseFailures;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseTime;
+
+    @Label("Searches")
+    long searches;
+
+    @Label("Search Iterations")
+    long searchIterations;
+
+    @Label("Search Time")
+    @Timespan
+    long searchTime;
+
+    @Label("Cache Hits")
+    long cacheHits;
+
+    @Label("Cache Misses")
+    long cacheMisses;
+
+    @Label("Iteration Limit Hits")
+    long iterationLimitHits;
+
+    @Label("Horizon Limit Hits")
+    long horizonLimitHits;
+}
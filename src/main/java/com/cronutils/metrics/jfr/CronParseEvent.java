@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A cron expression parsed while {@link JfrCronMetrics} are installed. As with {@link CronSearchEvent},
+ * the event is committed after parsing, so the parse time field is the only duration of the parse.
+ */
+@Name("com.cronutils.Parse")
+@Label("Cron Parse")
+@Category("Cron Utils")
+class CronParseEvent extends Event {
+    @Label("Expression")
+    String expression;
+
+    @Label("Parse Time")
+    @Description("Duration of the parse, the event itself having no duration")
+    @Timespan
+    long parseTime;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A closest execution search that took at least the search threshold of {@link JfrCronMetrics}.
+ * The event is committed once the search completed, from the duration measured by the search itself:
+ * its built-in start time is the end of the search and its built-in duration is zero, so the search time field
+ * is the only duration of the search. JFR thresholds apply to the built-in duration, so searches are filtered
+ * by the threshold given to {@link JfrCronMetrics} instead of a {@code threshold} setting.
+ */
+@Name("com.cronutils.Search")
+@Label("Cron Search")
+@Category("Cron Utils")
+@Description("Search of the closest execution of a cron that exceeded the search threshold")
+class CronSearchEvent extends Event {
+    @Label("Expression")
+    String expression;
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Reference Date")
+    String referenceDate;
+
+    @Label("Iterations")
+    int iterations;
+
+    @Label("Search Time")
+    @Description("Duration of the search, the event itself having no duration")
+    @Timespan
+    long searchTime;
+
+    @Label("Result")
+    @Description("Execution found, or null if none was found")
+    String result;
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.metrics.jfr;
+
+import com.cronutils.metrics.CronMetrics;
+import com.cronutils.metrics.CronMetricsRegistry;
+import com.cronutils.utils.Preconditions;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes cron metrics to Java Flight Recorder. Measurements are added to counters,
+ * emitted as a periodic {@code com.cronutils.Metrics} event. Each parse is recorded as a {@code com.cronutils.Parse} event,
+ * and each search taking at least the search threshold as a {@code com.cronutils.Search} event.
+ * Measurements are only taken while a recording has one of these events enabled,
+ * so that measured code does not even read clocks otherwise.
+ * <p>
+ * Durations are measured by cron-utils and reported once a parse or search completed, so events carry them
+ * in their parse time and search time fields: their built-in duration is zero and their start time is the time
+ * they were committed. For the same reason, JFR {@code threshold} settings do not apply to these events,
+ * and the search threshold given here filters search events instead.</p>
+ * Installed with {@link #install()}, or declared as a {@link java.util.ServiceLoader} provider of {@link CronMetrics}.
+ */
+public final class JfrCronMetrics implements CronMetrics, AutoCloseable {
+    static final Duration DEFAULT_SEARCH_THRESHOLD = Duration.ofMillis(10);
+
+    private final EventType metricsEventType = EventType.getEventType(CronMetricsEvent.class);
+    private final EventType parseEventType = EventType.getEventType(CronParseEvent.class);
+    private final EventType searchEventType = EventType.getEventType(CronSearchEvent.class);
+    private final long searchThresholdNanos;
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseFailures = new LongAdder();
+    private final LongAdder parseTime = new LongAdder();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchIterations = new LongAdder();
+    private final LongAdder searchTime = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder iterationLimitHits = new LongAdder();
+    private final LongAdder horizonLimitHits = new LongAdder();
+    private final AtomicBoolean publishing = new AtomicBoolean();
+    final Runnable publisher = this::publish;
+
+    /**
+     * Creates metrics recording searches taking at least 10 milliseconds. Use {@link #install()} to record cron-utils calls.
+     */
+    public JfrCronMetrics() {
+        this(DEFAULT_SEARCH_THRESHOLD);
+    }
+
+    /**
+     * Creates metrics. Use {@link #install(Duration)} to record cron-utils calls.
+     *
+     * @param searchThreshold - minimum duration of searches recorded as events, not negative. If null, a NullPointerException will be raised.
+     */
+    public JfrCronMetrics(final Duration searchThreshold) {
+        Preconditions.checkNotNull(searchThreshold, "Search threshold must not be null");
+        Preconditions.checkArgument(!searchThreshold.isNegative(), "Search threshold must not be negative");
+        this.searchThresholdNanos = searchThreshold.toNanos();
+    }
+
+    /**
+     * Creates metrics recording searches taking at least 10 milliseconds, and registers them in {@link CronMetricsRegistry}.
+     *
+     * @return JfrCronMetrics instance, never null. Closing it stops recording.
+     */
+    public static JfrCronMetrics install() {
+        return install(DEFAULT_SEARCH_THRESHOLD);
+    }
+
+    /**
+     * Creates metrics and registers them in {@link CronMetricsRegistry}.
+     *
+     * @param searchThreshold - minimum duration of searches recorded as events, not negative. If null, a NullPointerException will be raised.
+     * @return JfrCronMetrics instance, never null. Closing it stops recording.
+     */
+    public static JfrCronMetrics install(final Duration searchThreshold) {
+        final JfrCronMetrics metrics = new JfrCronMetrics(searchThreshold);
+        metrics.startPublishing();
+        CronMetricsRegistry.register(metrics);
+        return metrics;
+    }
+
+    /**
+     * Whether a running recording has cron events enabled.
+     * The first call starts publishing counters, for metrics loaded as a provider instead of installed.
+     *
+     * @return true if measurements are recorded
+     */
+    @Override
+    public boolean isEnabled() {
+        if (!publishing.get()) {
+            startPublishing();
+        }
+        return metricsEventType.isEnabled() || searchEventType.isEnabled() || parseEventType.isEnabled();
+    }
+
+    @Override
+    public void parsed(final String expression, final long durationNanos, final boolean success) {
+        parses.increment();
+        parseTime.add(durationNanos);
+        if (!success) {
+            parseFailures.increment();
+        }
+        if (parseEventType.isEnabled()) {
+            final CronParseEvent event = new CronParseEvent();
+            event.expression = expression;
+            event.parseTime = durationNanos;
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void searched(final SearchDirection direction, final String expression, final ZonedDateTime date, final int iterations,
+                         final long durationNanos, final ZonedDateTime result) {
+        searches.increment();
+        searchIterations.add(iterations);
+        searchTime.add(durationNanos);
+        if (durationNanos >= searchThresholdNanos && searchEventType.isEnabled()) {
+            final CronSearchEvent event = new CronSearchEvent();
+            event.expression = expression;
+            event.direction = direction.name();
+            event.referenceDate = date.toString();
+            event.iterations = iterations;
+            event.searchTime = durationNanos;
+            event.result = result == null ? null : result.toString();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void cacheHit() {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void cacheMiss() {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void iterationLimitHit() {
+        iterationLimitHits.increment();
+    }
+
+    @Override
+    public void horizonLimitHit() {
+        horizonLimitHits.increment();
+    }
+
+    /**
+     * Stops publishing counters, and unregisters these metrics if they are in use.
+     */
+    @Override
+    public void close() {
+        //closed metrics never publish again
+        publishing.set(true);
+        FlightRecorder.removePeriodicEvent(publisher);
+        if (CronMetricsRegistry.get() == this) {
+            CronMetricsRegistry.reset();
+        }
+    }
+
+    private void startPublishing() {
+        if (publishing.compareAndSet(false, true)) {
+            FlightRecorder.addPeriodicEvent(CronMetricsEvent.class, publisher);
+        }
+    }
+
+    private void publish() {
+        final CronMetricsEvent event = new CronMetricsEvent();
+        event.parses = parses.sumThenReset();
+        event.parseFailures = parseFailures.sumThenReset();
+        event.parseTime = parseTime.sumThenReset();
+        event.searches = searches.sumThenReset();
+        event.searchIterations = searchIterations.sumThenReset();
+        event.searchTime = searchTime.sumThenReset();
+        event.cacheHits = cacheHits.sumThenReset();
+        event.cacheMisses = cacheMisses.sumThenReset();
+        event.iterationLimitHits = iterationLimitHits.sumThenReset();
+        event.horizonLimitHits = horizonLimitHits.sumThenReset();
+        event.commit();
+    }
+}
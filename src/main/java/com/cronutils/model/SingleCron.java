@@ -7,8 +7,8 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.visitor.ValidationFieldExpressionVisitor;
 import com.cronutils.utils.Preconditions;
-import java.time.ZonedDateTime;
-import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.model.time.CanonicalCron;
+import com.cronutils.model.time.CronOverlap;
 import java.util.*;
 
 public class SingleCron implements Cron {
@@ -16,6 +16,7 @@ public class SingleCron implements Cron {
     private final CronDefinition cronDefinition;
     private final Map<CronFieldName, CronField> fields;
     private String asString;
+    private transient CanonicalCron canonical;
 
     /**
      * Creates a Cron with the given cron definition and the given fields.
@@ -68,6 +69,20 @@ public class SingleCron implements Cron {
         return cronDefinition;
     }
 
+    /**
+     * Provides the canonical form of this cron: the set of values matched by each field,
+     * which is the same for any two crons that fire at the same times.
+     *
+     * @return CanonicalCron instance, never null
+     * @throws IllegalArgumentException if no execution time can be built for this cron
+     */
+    public CanonicalCron canonical() {
+        if (canonical == null) {
+            canonical = CanonicalCron.of(this);
+        }
+        return canonical;
+    }
+
     /**
      * Validates this Cron instance by validating its cron expression.
      *
@@ -97,7 +112,7 @@ public class SingleCron implements Cron {
      * @return boolean - true if equivalent; false otherwise.
      */
     public boolean equivalent(final CronMapper cronMapper, final Cron cron) {
-        return asString().equals(cronMapper.map(cron).asString());
+        return equivalent(cronMapper.map(cron));
     }
 
     /**
@@ -108,54 +123,28 @@ public class SingleCron implements Cron {
      * @return boolean - true if equivalent; false otherwise.
      */
     public boolean equivalent(final Cron cron) {
-        return asString().equals(cron.asString());
-    }
-
-    @Override
-    public boolean overlap(final Cron cron) {
-        Preconditions.checkNotNull(cron, "Cron must not be null");
-
-        ExecutionTime thisExecutionTime = ExecutionTime.forCron(this);
-        ExecutionTime otherExecutionTime = ExecutionTime.forCron(cron);
-
-        // Start checking from now
-        ZonedDateTime now = ZonedDateTime.now();
-        
-        // Get next execution for both crons
-        Optional<ZonedDateTime> nextThis = thisExecutionTime.nextExecution(now);
-        Optional<ZonedDateTime> nextOther = otherExecutionTime.nextExecution(now);
-        
-        // If either cron has no next execution, they can't overlap
-        if (!nextThis.isPresent() || !nextOther.isPresent()) {
-            return false;
+        if (asString().equals(cron.asString())) {
+            return true;
         }
-
-        // Check next 10 executions of this cron against the other cron
-        ZonedDateTime checkDate = nextThis.get();
-        for (int i = 0; i < 10; i++) {
-            if (otherExecutionTime.isMatch(checkDate)) {
-                return true;
-            }
-            Optional<ZonedDateTime> next = thisExecutionTime.nextExecution(checkDate);
-            if (!next.isPresent()) {
-                break;
-            }
-            checkDate = next.get();
+        if (!(cron instanceof SingleCron)) {
+            return false;
         }
-
-        // Check next 10 executions of other cron against this cron
-        checkDate = nextOther.get();
-        for (int i = 0; i < 10; i++) {
-            if (thisExecutionTime.isMatch(checkDate)) {
-                return true;
-            }
-            Optional<ZonedDateTime> next = otherExecutionTime.nextExecution(checkDate);
-            if (!next.isPresent()) {
-                break;
-            }
-            checkDate = next.get();
+        try {
+            return canonical().equals(((SingleCron) cron).canonical());
+        } catch (final IllegalArgumentException e) {
+            return false;
         }
+    }
 
-        return false;
+    /**
+     * Checks if this cron expression overlaps with another cron expression.
+     * Overlaps are computed exactly, by intersecting field values; see {@link CronOverlap}.
+     *
+     * @param cron - The other cron expression to compare with, never null.
+     * @return true if both crons share at least one execution, false otherwise.
+     */
+    @Override
+    public boolean overlap(final Cron cron) {
+        return CronOverlap.overlap(this, cron);
     }
 }
@@ -30,7 +30,7 @@ public class ValidationFieldExpressionVisitor implements FieldExpressionVisitor
 
     public ValidationFieldExpressionVisitor(final FieldConstraints constraints) {
         this.constraints = constraints;
-        stringValidations = new StringValidations(constraints);
+        stringValidations = StringValidations.forConstraints(constraints);
     }
 
     protected ValidationFieldExpressionVisitor(final FieldConstraints constraints, final StringValidations stringValidation) {
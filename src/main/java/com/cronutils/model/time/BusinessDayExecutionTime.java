@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.utils.BusinessCalendar;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Executions of another execution time falling on business days of a calendar.
+ * Executions on weekends and holidays are skipped by resuming the search at the start of the next business day,
+ * so that stretches of non business days cost a single search.
+ * Used for execution times that do not expose day masks, see {@link SingleExecutionTime#onBusinessDays(BusinessCalendar)}.
+ */
+class BusinessDayExecutionTime implements ExecutionTime {
+    private final ExecutionTime executionTime;
+    private final BusinessCalendar calendar;
+
+    BusinessDayExecutionTime(final ExecutionTime executionTime, final BusinessCalendar calendar) {
+        this.executionTime = Preconditions.checkNotNull(executionTime, "Execution time must not be null");
+        this.calendar = Preconditions.checkNotNull(calendar, "Business calendar must not be null");
+    }
+
+    @Override
+    public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date) {
+        return nextExecution(date, SearchBudget.defaults());
+    }
+
+    @Override
+    public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date, final SearchBudget budget) {
+        Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        Optional<ZonedDateTime> next = executionTime.nextExecution(date, budget);
+        for (int i = 0; next.isPresent() && !calendar.isBusinessDay(next.get().toLocalDate()); i++) {
+            if (i >= budget.getMaxIterations()) {
+                budget.iterationLimitHit();
+                return Optional.empty();
+            }
+            if (budget.isBeyondHorizon(date, next.get())) {
+                budget.horizonLimitHit();
+                return Optional.empty();
+            }
+            final LocalDate businessDay = calendar.nextBusinessDay(next.get().toLocalDate().plusDays(1));
+            final ZonedDateTime startOfDay = businessDay.atStartOfDay(date.getZone());
+            if (executionTime.isMatch(startOfDay)) {
+                return Optional.of(startOfDay);
+            }
+            next = executionTime.nextExecution(startOfDay, budget);
+        }
+        return next;
+    }
+
+    @Override
+    public Optional<Duration> timeToNextExecution(final ZonedDateTime date) {
+        return nextExecution(date).map(next -> Duration.between(date, next));
+    }
+
+    @Override
+    public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date) {
+        return lastExecution(date, SearchBudget.defaults());
+    }
+
+    @Override
+    public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date, final SearchBudget budget) {
+        Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        Optional<ZonedDateTime> last = executionTime.lastExecution(date, budget);
+        for (int i = 0; last.isPresent() && !calendar.isBusinessDay(last.get().toLocalDate()); i++) {
+            if (i >= budget.getMaxIterations()) {
+                budget.iterationLimitHit();
+                return Optional.empty();
+            }
+            if (budget.isBeyondHorizon(date, last.get())) {
+                budget.horizonLimitHit();
+                return Optional.empty();
+            }
+            final LocalDate businessDay = calendar.previousBusinessDay(last.get().toLocalDate().minusDays(1));
+            last = executionTime.lastExecution(businessDay.plusDays(1).atStartOfDay(date.getZone()), budget);
+        }
+        return last;
+    }
+
+    @Override
+    public Optional<Duration> timeFromLastExecution(final ZonedDateTime date) {
+        return lastExecution(date).map(last -> Duration.between(last, date));
+    }
+
+    @Override
+    public boolean isMatch(final ZonedDateTime date) {
+        return calendar.isBusinessDay(date.toLocalDate()) && executionTime.isMatch(date);
+    }
+
+    @Override
+    public boolean isSatisfiable() {
+        return executionTime.isSatisfiable();
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.mapper.ConstantsMapper;
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.Always;
+import com.cronutils.model.field.expression.And;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.expression.QuestionMark;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.model.time.generator.FieldValueGenerator;
+import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
+import com.cronutils.utils.Preconditions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.daysOfMonthMask;
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.daysOfWeekMask;
+
+/**
+ * Canonical normal form of a cron expression.
+ * Each time field is reduced to the set of values it matches, kept as a bitmask where bit {@code n} stands for value {@code n}.
+ * Day fields keep plain values as bitmasks too (days of week in java.time numbering, Monday=1), while special day rules
+ * (L, W, LW, #) are kept as normalized residual rules, since they depend on the year and month being evaluated.
+ * Two crons with the same canonical form fire at the same times, so instances can be used for equivalence checks,
+ * hashing and deduplication without enumerating executions.
+ */
+public final class CanonicalCron {
+    /**
+     * Describes how day of month and day of week restrictions are combined.
+     */
+    enum DayMatching {
+        EVERY_DAY, DAY_OF_MONTH, DAY_OF_WEEK, DAY_OF_MONTH_AND_WEEK, DAY_OF_MONTH_OR_WEEK, DAY_OF_YEAR
+    }
+
+    private static final long ALL_DAYS_OF_MONTH = 0xFFFFFFFEL;
+    private static final long ALL_DAYS_OF_WEEK = 0xFEL;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+    private final BitSet years;
+    private final DayMatching dayMatching;
+    private final long daysOfMonth;
+    private final List<String> dayOfMonthRules;
+    private final long daysOfWeek;
+    private final List<String> dayOfWeekRules;
+    private final BitSet daysOfYear;
+
+    private CanonicalCron(final long seconds, final long minutes, final long hours, final long months, final BitSet years,
+            final DayMatching dayMatching, final long daysOfMonth, final List<String> dayOfMonthRules, final long daysOfWeek,
+            final List<String> dayOfWeekRules, final BitSet daysOfYear) {
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.months = months;
+        this.years = years;
+        this.dayMatching = dayMatching;
+        this.daysOfMonth = daysOfMonth;
+        this.dayOfMonthRules = dayOfMonthRules;
+        this.daysOfWeek = daysOfWeek;
+        this.dayOfWeekRules = dayOfWeekRules;
+        this.daysOfYear = daysOfYear;
+    }
+
+    /**
+     * Computes the canonical form for given cron.
+     *
+     * @param cron - SingleCron instance. If null, a NullPointerException will be raised.
+     * @return CanonicalCron instance, never null
+     * @throws IllegalArgumentException if cron is not a SingleCron
+     */
+    public static CanonicalCron of(final Cron cron) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        Preconditions.checkArgument(cron instanceof SingleCron, "Canonical form is only supported for SingleCron instances");
+        return ((SingleExecutionTime) ExecutionTime.forCron(cron)).canonical();
+    }
+
+    static CanonicalCron of(final SingleExecutionTime executionTime, final CronField yearsCronField, final BitSet daysOfYear) {
+        final long seconds = mask(executionTime.getSeconds());
+        final long minutes = mask(executionTime.getMinutes());
+        final long hours = mask(executionTime.getHours());
+        final long months = mask(executionTime.getMonths());
+        final BitSet years = years(yearsCronField);
+        if (daysOfYear != null) {
+            return new CanonicalCron(seconds, minutes, hours, months, years, DayMatching.DAY_OF_YEAR, 0, Collections.emptyList(), 0,
+                    Collections.emptyList(), daysOfYear);
+        }
+
+        final DayMatching declared = executionTime.getDayMatching();
+        final CronField daysOfMonthField = executionTime.getDaysOfMonthCronField();
+        final CronField daysOfWeekField = executionTime.getDaysOfWeekCronField();
+        final WeekDay mondayDoWValue = executionTime.getMondayDoWValue();
+
+        final List<String> domRules = new ArrayList<>();
+        final long domMask = declared == DayMatching.DAY_OF_WEEK ? 0 : daysOfMonth(daysOfMonthField, domRules);
+        final List<String> dowRules = new ArrayList<>();
+        final long dowMask = declared == DayMatching.DAY_OF_MONTH ? 0 : daysOfWeek(daysOfWeekField, mondayDoWValue, dowRules);
+        Collections.sort(domRules);
+        Collections.sort(dowRules);
+
+        final boolean everyDayOfMonth = domMask == ALL_DAYS_OF_MONTH;
+        final boolean everyDayOfWeek = dowMask == ALL_DAYS_OF_WEEK;
+        DayMatching matching = declared;
+        switch (declared) {
+            case DAY_OF_MONTH_AND_WEEK:
+                if (everyDayOfMonth) {
+                    matching = everyDayOfWeek ? DayMatching.EVERY_DAY : DayMatching.DAY_OF_WEEK;
+                } else if (everyDayOfWeek) {
+                    matching = DayMatching.DAY_OF_MONTH;
+                }
+                break;
+            case DAY_OF_MONTH_OR_WEEK:
+                if (everyDayOfMonth || everyDayOfWeek) {
+                    matching = DayMatching.EVERY_DAY;
+                }
+                break;
+            case DAY_OF_MONTH:
+                if (everyDayOfMonth) {
+                    matching = DayMatching.EVERY_DAY;
+                }
+                break;
+            case DAY_OF_WEEK:
+                if (everyDayOfWeek) {
+                    matching = DayMatching.EVERY_DAY;
+                }
+                break;
+            default:
+                break;
+        }
+        final boolean keepDaysOfMonth = matching != DayMatching.EVERY_DAY && matching != DayMatching.DAY_OF_WEEK;
+        final boolean keepDaysOfWeek = matching != DayMatching.EVERY_DAY && matching != DayMatching.DAY_OF_MONTH;
+        return new CanonicalCron(seconds, minutes, hours, months, years, matching,
+                keepDaysOfMonth ? domMask : 0, keepDaysOfMonth ? Collections.unmodifiableList(domRules) : Collections.emptyList(),
+                keepDaysOfWeek ? dowMask : 0, keepDaysOfWeek ? Collections.unmodifiableList(dowRules) : Collections.emptyList(),
+                null);
+    }
+
+    /**
+     * Values matched by the seconds field.
+     *
+     * @return bitmask where bit n is set if second n matches
+     */
+    public long getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Values matched by the minutes field.
+     *
+     * @return bitmask where bit n is set if minute n matches
+     */
+    public long getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Values matched by the hours field.
+     *
+     * @return bitmask where bit n is set if hour n matches
+     */
+    public long getHours() {
+        return hours;
+    }
+
+    /**
+     * Values matched by the months field.
+     *
+     * @return bitmask where bit n is set if month n (1-12) matches
+     */
+    public long getMonths() {
+        return months;
+    }
+
+    /**
+     * Check if given year is allowed by the year field.
+     *
+     * @param year - year to check
+     * @return true if cron has no year restriction or year is one of its values
+     */
+    public boolean isYearMatch(final int year) {
+        return years == null || (year >= 0 && years.get(year));
+    }
+
+    /**
+     * Check if the cron restricts the year field.
+     *
+     * @return true if only some years are matched
+     */
+    public boolean hasYearRestriction() {
+        return years != null;
+    }
+
+    /**
+     * Smallest year at or after given one allowed by the year field.
+     *
+     * @param year - year to start from
+     * @return year or -1 if no year remains
+     */
+    public int nextYear(final int year) {
+        if (year < 0) {
+            return -1;
+        }
+        return years == null ? year : years.nextSetBit(year);
+    }
+
+    /**
+     * Greatest year at or before given one allowed by the year field.
+     *
+     * @param year - year to start from
+     * @return year or -1 if no year remains
+     */
+    public int previousYear(final int year) {
+        if (year < 0) {
+            return -1;
+        }
+        return years == null ? year : years.previousSetBit(year);
+    }
+
+    int firstYear() {
+        return years == null ? 0 : years.nextSetBit(0);
+    }
+
+    int lastYear() {
+        return years == null ? Integer.MAX_VALUE : years.length() - 1;
+    }
+
+    DayMatching getDayMatching() {
+        return dayMatching;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CanonicalCron that = (CanonicalCron) o;
+        return seconds == that.seconds && minutes == that.minutes && hours == that.hours && months == that.months
+                && daysOfMonth == that.daysOfMonth && daysOfWeek == that.daysOfWeek && dayMatching == that.dayMatching
+                && Objects.equals(years, that.years) && Objects.equals(daysOfYear, that.daysOfYear)
+                && dayOfMonthRules.equals(that.dayOfMonthRules) && dayOfWeekRules.equals(that.dayOfWeekRules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(seconds, minutes, hours, months, years, dayMatching, daysOfMonth, dayOfMonthRules, daysOfWeek,
+                dayOfWeekRules, daysOfYear);
+    }
+
+    @Override
+    public String toString() {
+        return "CanonicalCron{" + "seconds=" + BitSet.valueOf(new long[] { seconds }) + ", minutes=" + BitSet.valueOf(new long[] { minutes })
+                + ", hours=" + BitSet.valueOf(new long[] { hours }) + ", months=" + BitSet.valueOf(new long[] { months })
+                + ", years=" + (years == null ? "*" : years) + ", dayMatching=" + dayMatching
+                + ", daysOfMonth=" + BitSet.valueOf(new long[] { daysOfMonth }) + dayOfMonthRules
+                + ", daysOfWeek=" + BitSet.valueOf(new long[] { daysOfWeek }) + dayOfWeekRules
+                + ", daysOfYear=" + daysOfYear + '}';
+    }
+
+    static long mask(final TimeNode node) {
+        long mask = 0;
+        for (final int value : node.values) {
+            if (value >= 0 && value < Long.SIZE) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private static BitSet years(final CronField yearsCronField) {
+        if (yearsCronField == null || yearsCronField.getExpression() instanceof Always) {
+            return null;
+        }
+        final BitSet years = new BitSet();
+        final FieldValueGenerator generator = FieldValueGeneratorFactory.forCronField(yearsCronField);
+        for (final int year : generator.generateCandidateValues(yearsCronField.getConstraints().getStartRange(),
+                yearsCronField.getConstraints().getEndRange())) {
+            years.set(year);
+        }
+        return years;
+    }
+
+    /**
+     * Plain day of month values are evaluated against a 31 day month; special values (L, W, LW) are kept as rules.
+     */
+    private static long daysOfMonth(final CronField cronField, final List<String> rules) {
+        final List<On> specialDays = new ArrayList<>();
+        final long mask = splitDaysOfMonth(cronField, specialDays);
+        for (final On on : specialDays) {
+            rules.add(on.asString());
+        }
+        return mask;
+    }
+
+    /**
+     * Splits a day of month field into plain values, evaluated against a 31 day month, and special values (L, W, LW).
+     *
+     * @param cronField   - day of month field
+     * @param specialDays - receives special values, which depend on the month being evaluated
+     * @return bitmask where bit n is set if plain day of month n matches
+     */
+    static long splitDaysOfMonth(final CronField cronField, final List<On> specialDays) {
+        long mask = 0;
+        for (final FieldExpression expression : expressions(cronField.getExpression())) {
+            if (isSpecial(expression, false)) {
+                specialDays.add((On) expression);
+                continue;
+            }
+            mask |= daysOfMonthMask(new CronField(CronFieldName.DAY_OF_MONTH, expression, cronField.getConstraints()));
+        }
+        return mask;
+    }
+
+    /**
+     * Plain day of week values are evaluated over the first week of a month starting on Monday, so that day of month
+     * matches java.time day of week numbering; special values (#, nL) are kept as rules using the same numbering.
+     */
+    private static long daysOfWeek(final CronField cronField, final WeekDay mondayDoWValue, final List<String> rules) {
+        long mask = 0;
+        for (final FieldExpression expression : expressions(cronField.getExpression())) {
+            if (isSpecial(expression, true)) {
+                final On on = (On) expression;
+                final int dayOfWeek = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, on.getTime().getValue());
+                if (on.getSpecialChar().getValue() == SpecialChar.HASH) {
+                    rules.add(String.format("%s#%s", dayOfWeek, on.getNth()));
+                } else {
+                    rules.add(String.format("%sL", dayOfWeek));
+                }
+                continue;
+            }
+            mask |= daysOfWeekMask(new CronField(CronFieldName.DAY_OF_WEEK, expression, cronField.getConstraints()), mondayDoWValue);
+        }
+        return mask;
+    }
+
+    static List<FieldExpression> expressions(final FieldExpression expression) {
+        if (expression instanceof And) {
+            return ((And) expression).getExpressions();
+        }
+        if (expression instanceof QuestionMark) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(expression);
+    }
+
+    static boolean isSpecial(final FieldExpression expression, final boolean dayOfWeek) {
+        if (!(expression instanceof On)) {
+            return false;
+        }
+        final On on = (On) expression;
+        final SpecialChar specialChar = on.getSpecialChar().getValue();
+        //L by itself on day of week simply means Saturday, so it is kept as a plain value
+        return specialChar != SpecialChar.NONE && !(dayOfWeek && specialChar == SpecialChar.L && on.getTime().getValue() == -1);
+    }
+}
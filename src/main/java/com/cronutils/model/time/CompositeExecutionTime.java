@@ -1,12 +1,19 @@
 package com.cronutils.model.time;
 
+import com.cronutils.utils.BusinessCalendar;
 import com.cronutils.utils.Preconditions;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class CompositeExecutionTime implements ExecutionTime {
     private List<ExecutionTime> executionTimes;
@@ -18,7 +25,12 @@ public class CompositeExecutionTime implements ExecutionTime {
 
     @Override
     public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.nextExecution(date)).filter(Optional::isPresent).sorted(
+        return nextExecution(date, SearchBudget.defaults());
+    }
+
+    @Override
+    public Optional<ZonedDateTime> nextExecution(ZonedDateTime date, SearchBudget budget) {
+        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.nextExecution(date, budget)).filter(Optional::isPresent).sorted(
                 (o1, o2) -> {
                     if(o1.isPresent() && o2.isPresent()){
                         ZonedDateTime first = o1.get();
@@ -39,7 +51,12 @@ public class CompositeExecutionTime implements ExecutionTime {
 
     @Override
     public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
-        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.lastExecution(date)).filter(Optional::isPresent).sorted(
+        return lastExecution(date, SearchBudget.defaults());
+    }
+
+    @Override
+    public Optional<ZonedDateTime> lastExecution(ZonedDateTime date, SearchBudget budget) {
+        Optional<Optional<ZonedDateTime>> next = executionTimes.parallelStream().map(e->e.lastExecution(date, budget)).filter(Optional::isPresent).sorted(
                 (o1, o2) -> {
                     if(o1.isPresent() && o2.isPresent()){
                         ZonedDateTime first = o1.get();
@@ -51,6 +68,138 @@ public class CompositeExecutionTime implements ExecutionTime {
         return next.orElseGet(Optional::empty);
     }
 
+    @Override
+    public long nextExecutionEpochMillis(long epochMillis, ZoneId zone) {
+        long next = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.nextExecutionEpochMillis(epochMillis, zone);
+            if (candidate != NO_EXECUTION && (next == NO_EXECUTION || candidate < next)) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public Optional<Instant> nextExecution(Instant date, ZoneId zone) {
+        Optional<Instant> next = Optional.empty();
+        for (ExecutionTime executionTime : executionTimes) {
+            Optional<Instant> candidate = executionTime.nextExecution(date, zone);
+            if (candidate.isPresent() && (!next.isPresent() || candidate.get().isBefore(next.get()))) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public long nextExecutionEpochMillis(long epochMillis, ZoneId zone, DaylightSavingPolicy policy) {
+        long next = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.nextExecutionEpochMillis(epochMillis, zone, policy);
+            if (candidate != NO_EXECUTION && (next == NO_EXECUTION || candidate < next)) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public Optional<Instant> nextExecution(Instant date, ZoneId zone, DaylightSavingPolicy policy) {
+        Optional<Instant> next = Optional.empty();
+        for (ExecutionTime executionTime : executionTimes) {
+            Optional<Instant> candidate = executionTime.nextExecution(date, zone, policy);
+            if (candidate.isPresent() && (!next.isPresent() || candidate.get().isBefore(next.get()))) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    @Override
+    public long lastExecutionEpochMillis(long epochMillis, ZoneId zone) {
+        long last = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.lastExecutionEpochMillis(epochMillis, zone);
+            if (candidate != NO_EXECUTION && candidate > last) {
+                last = candidate;
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public Optional<Instant> lastExecution(Instant date, ZoneId zone) {
+        Optional<Instant> last = Optional.empty();
+        for (ExecutionTime executionTime : executionTimes) {
+            Optional<Instant> candidate = executionTime.lastExecution(date, zone);
+            if (candidate.isPresent() && (!last.isPresent() || candidate.get().isAfter(last.get()))) {
+                last = candidate;
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public long lastExecutionEpochMillis(long epochMillis, ZoneId zone, DaylightSavingPolicy policy) {
+        long last = NO_EXECUTION;
+        for (ExecutionTime executionTime : executionTimes) {
+            long candidate = executionTime.lastExecutionEpochMillis(epochMillis, zone, policy);
+            if (candidate != NO_EXECUTION && candidate > last) {
+                last = candidate;
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public Optional<Instant> lastExecution(Instant date, ZoneId zone, DaylightSavingPolicy policy) {
+        Optional<Instant> last = Optional.empty();
+        for (ExecutionTime executionTime : executionTimes) {
+            Optional<Instant> candidate = executionTime.lastExecution(date, zone, policy);
+            if (candidate.isPresent() && (!last.isPresent() || candidate.get().isAfter(last.get()))) {
+                last = candidate;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Provide next execution for each of given reference dates.
+     * Each member sweeps the references once, and the earliest execution of the members is kept for each reference.
+     */
+    @Override
+    public long[] nextExecutions(long[] epochSeconds, ZoneId zone) {
+        long[] next = executionTimes.get(0).nextExecutions(epochSeconds, zone);
+        for (ExecutionTime executionTime : executionTimes.subList(1, executionTimes.size())) {
+            long[] candidates = executionTime.nextExecutions(epochSeconds, zone);
+            for (int i = 0; i < next.length; i++) {
+                if (candidates[i] != NO_EXECUTION && (next[i] == NO_EXECUTION || candidates[i] < next[i])) {
+                    next[i] = candidates[i];
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Provide last execution for each of given reference dates.
+     * Each member sweeps the references once, and the latest execution of the members is kept for each reference.
+     */
+    @Override
+    public long[] lastExecutions(long[] epochSeconds, ZoneId zone) {
+        long[] last = executionTimes.get(0).lastExecutions(epochSeconds, zone);
+        for (ExecutionTime executionTime : executionTimes.subList(1, executionTimes.size())) {
+            long[] candidates = executionTime.lastExecutions(epochSeconds, zone);
+            for (int i = 0; i < last.length; i++) {
+                if (candidates[i] > last[i]) {
+                    last[i] = candidates[i];
+                }
+            }
+        }
+        return last;
+    }
+
     @Override
     public Optional<Duration> timeFromLastExecution(ZonedDateTime date) {
         return lastExecution(date).map(zonedDateTime -> Duration.between(zonedDateTime, date));
@@ -60,4 +209,50 @@ public class CompositeExecutionTime implements ExecutionTime {
     public boolean isMatch(ZonedDateTime date) {
         return executionTimes.parallelStream().map(e->e.isMatch(date)).filter(v-> v).count()>0;
     }
+
+    @Override
+    public long[] countByBucket(ZonedDateTime startDate, ZonedDateTime endDate, ChronoUnit bucket) {
+        final List<SingleExecutionTime> members = new ArrayList<>();
+        if (!collectMembers(this, members)) {
+            return ExecutionTime.super.countByBucket(startDate, endDate, bucket);
+        }
+        //members are counted together, so that executions shared by several members are counted once
+        return new ExecutionCounter(members).countByBucket(startDate, endDate, bucket);
+    }
+
+    static boolean collectMembers(CompositeExecutionTime composite, List<SingleExecutionTime> members) {
+        for (ExecutionTime executionTime : composite.executionTimes) {
+            if (executionTime instanceof SingleExecutionTime) {
+                members.add((SingleExecutionTime) executionTime);
+            } else if (!(executionTime instanceof CompositeExecutionTime) || !collectMembers((CompositeExecutionTime) executionTime, members)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void matchMask(long[] epochSeconds, ZoneId zone, BitSet out) {
+        Preconditions.checkNotNull(epochSeconds, "Dates must not be null");
+        Preconditions.checkNotNull(zone, "ZoneId must not be null");
+        Preconditions.checkNotNull(out, "Output must not be null");
+        out.clear(0, epochSeconds.length);
+        final BitSet matches = new BitSet(epochSeconds.length);
+        for (ExecutionTime executionTime : executionTimes) {
+            executionTime.matchMask(epochSeconds, zone, matches);
+            out.or(matches);
+        }
+    }
+
+    @Override
+    public ExecutionTime onBusinessDays(BusinessCalendar calendar) {
+        Preconditions.checkNotNull(calendar, "Business calendar must not be null");
+        return new CompositeExecutionTime(executionTimes.stream()
+                .map(executionTime -> executionTime.onBusinessDays(calendar)).collect(Collectors.toList()));
+    }
+
+    @Override
+    public boolean isSatisfiable() {
+        return executionTimes.stream().anyMatch(ExecutionTime::isSatisfiable);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Counts cron executions arithmetically, without enumerating them.
+ * Days are matched against day masks and each day contributes the executions its hour, minute and second masks allow,
+ * members of composite crons being merged per day, so the cost depends on the number of days in the window rather than
+ * on the number of executions. Counting happens in the local time of the window start,
+ * so daylight saving transitions are not accounted for.
+ */
+public final class CronFrequency {
+
+    private CronFrequency() {
+    }
+
+    /**
+     * Estimates how many times given cron executes within a window.
+     * Matches {@link ExecutionTime#countExecutions(ZonedDateTime, ZonedDateTime)} except around daylight saving transitions.
+     *
+     * @param cron      - any cron instance, never null
+     * @param startDate - window start, exclusive. If null, a NullPointerException will be raised.
+     * @param endDate   - window end, inclusive. If null, a NullPointerException will be raised.
+     * @return count of executions within the window
+     */
+    public static long estimate(final Cron cron, final ZonedDateTime startDate, final ZonedDateTime endDate) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        Preconditions.checkNotNull(startDate, "Start date must not be null");
+        Preconditions.checkNotNull(endDate, "End date must not be null");
+        final LocalDateTime from = startDate.toLocalDateTime();
+        final LocalDateTime to = endDate.withZoneSameInstant(startDate.getZone()).toLocalDateTime();
+        if (!to.isAfter(from)) {
+            return 0;
+        }
+        //executions are whole seconds: the first one after the start, up to the last one at or before the end
+        return new ExecutionCounter(ExecutionCounter.members(cron))
+                .countLocal(from.toEpochSecond(ZoneOffset.UTC) + 1, to.toEpochSecond(ZoneOffset.UTC) + 1);
+    }
+}
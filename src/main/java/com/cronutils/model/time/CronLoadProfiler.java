@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.cronutils.model.time.LocalTimeSearch.SECONDS_PER_DAY;
+
+/**
+ * Builds firing histograms of a set of crons over a time window, for capacity planning.
+ * Executions are added to fixed size slots straight from the hour, minute and second bitmasks of each cron,
+ * days being matched against day masks, so that executions are never searched one by one.
+ * Executions of a composite cron at the same second are counted once, and daylight saving time is handled
+ * as {@link ExecutionTime#countByBucket(ZonedDateTime, ZonedDateTime, ChronoUnit)} does.
+ */
+public final class CronLoadProfiler {
+    //a little more than 194 days at a one second resolution
+    private static final int MAX_SLOTS = 1 << 24;
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private CronLoadProfiler() {
+    }
+
+    /**
+     * Counts executions of given crons per slot.
+     *
+     * @param crons      - crons to profile. If null, a NullPointerException will be raised.
+     * @param startDate  - start of the window, inclusive. Crons are evaluated in its zone. If null, a NullPointerException will be raised.
+     * @param endDate    - end of the window, exclusive. If null, a NullPointerException will be raised.
+     * @param resolution - slot size: {@link ChronoUnit#SECONDS}, {@link ChronoUnit#MINUTES} or {@link ChronoUnit#HOURS}.
+     *                   If null, a NullPointerException will be raised.
+     * @return LoadProfile instance, never null
+     */
+    public static LoadProfile profile(final Collection<? extends Cron> crons, final ZonedDateTime startDate, final ZonedDateTime endDate,
+                                      final ChronoUnit resolution) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        Preconditions.checkNotNull(startDate, "Start date must not be null");
+        Preconditions.checkNotNull(endDate, "End date must not be null");
+        Preconditions.checkNotNull(resolution, "Resolution must not be null");
+        Preconditions.checkArgument(resolution == ChronoUnit.SECONDS || resolution == ChronoUnit.MINUTES || resolution == ChronoUnit.HOURS,
+                "Resolution %s is not supported", resolution);
+        final long from = ExecutionCounter.ceilEpochSecond(startDate.toInstant());
+        final long to = ExecutionCounter.ceilEpochSecond(endDate.toInstant());
+        Preconditions.checkArgument(to > from, "Window must span at least one second");
+        final int slotSeconds = (int) resolution.getDuration().getSeconds();
+        final long slots = (to - from + slotSeconds - 1) / slotSeconds;
+        Preconditions.checkArgument(slots <= MAX_SLOTS, "Window spans %s slots, at most %s are supported", slots, MAX_SLOTS);
+
+        final List<Cron> profiled = new ArrayList<>(crons.size());
+        final List<List<SingleExecutionTime>> members = new ArrayList<>(crons.size());
+        final int[] counts = new int[(int) slots];
+        final ZoneRules rules = startDate.getZone().getRules();
+        for (final Cron cron : crons) {
+            final List<SingleExecutionTime> cronMembers = ExecutionCounter.members(Preconditions.checkNotNull(cron, "Crons must not contain null"));
+            profiled.add(cron);
+            members.add(cronMembers);
+            final ExecutionCounter counter = new ExecutionCounter(cronMembers);
+            counter.walk(from, to, rules, new Accumulator(counter, from, slotSeconds, counts));
+        }
+        return new LoadProfile(Collections.unmodifiableList(profiled), members, startDate.getZone(), from, to, resolution, counts);
+    }
+
+    /**
+     * Adds executions of a single cron, made of one or more members, to the slots.
+     */
+    private static final class Accumulator implements ExecutionCounter.DayVisitor {
+        private final ExecutionCounter counter;
+        private long[] secondsOfMinute;
+        private final long from;
+        private final int slotSeconds;
+        private final int[] counts;
+
+        private Accumulator(final ExecutionCounter counter, final long from, final int slotSeconds, final int[] counts) {
+            this.counter = counter;
+            this.from = from;
+            this.slotSeconds = slotSeconds;
+            this.counts = counts;
+        }
+
+        @Override
+        public void visit(final long epochDay, final int fromSecond, final int toSecond, final int offset, final BitSet matching) {
+            final long dayStart = epochDay * SECONDS_PER_DAY;
+            if (matching.cardinality() == 1) {
+                final CanonicalCron canonical = counter.canonical(matching.nextSetBit(0));
+                for (long hours = canonical.getHours(); hours != 0; hours &= hours - 1) {
+                    for (long minutes = canonical.getMinutes(); minutes != 0; minutes &= minutes - 1) {
+                        final int minuteOfDay = Long.numberOfTrailingZeros(hours) * 60 + Long.numberOfTrailingZeros(minutes);
+                        add(dayStart, minuteOfDay, canonical.getSeconds(), fromSecond, toSecond, offset);
+                    }
+                }
+                return;
+            }
+            //members executing at the same second are counted once
+            if (secondsOfMinute == null) {
+                secondsOfMinute = new long[MINUTES_PER_DAY];
+            } else {
+                Arrays.fill(secondsOfMinute, 0);
+            }
+            for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+                final CanonicalCron canonical = counter.canonical(i);
+                for (long hours = canonical.getHours(); hours != 0; hours &= hours - 1) {
+                    for (long minutes = canonical.getMinutes(); minutes != 0; minutes &= minutes - 1) {
+                        secondsOfMinute[Long.numberOfTrailingZeros(hours) * 60 + Long.numberOfTrailingZeros(minutes)] |= canonical.getSeconds();
+                    }
+                }
+            }
+            for (int minuteOfDay = fromSecond / 60; minuteOfDay <= (toSecond - 1) / 60; minuteOfDay++) {
+                if (secondsOfMinute[minuteOfDay] != 0) {
+                    add(dayStart, minuteOfDay, secondsOfMinute[minuteOfDay], fromSecond, toSecond, offset);
+                }
+            }
+        }
+
+        /**
+         * Adds executions at given seconds of a local minute, keeping those within the visited seconds of the day.
+         */
+        private void add(final long dayStart, final int minuteOfDay, final long seconds, final int fromSecond, final int toSecond, final int offset) {
+            final int minuteStart = minuteOfDay * 60;
+            if (fromSecond - minuteStart >= 60 || toSecond <= minuteStart) {
+                return;
+            }
+            long kept = seconds;
+            if (minuteStart < fromSecond) {
+                kept &= -1L << (fromSecond - minuteStart);
+            }
+            if (toSecond - minuteStart < 60) {
+                kept &= (1L << (toSecond - minuteStart)) - 1;
+            }
+            if (kept == 0) {
+                return;
+            }
+            final long first = dayStart + minuteStart - offset - from;
+            if (first >= 0 && first % 60 == 0 && slotSeconds % 60 == 0) {
+                //the whole minute falls into a single slot
+                counts[(int) (first / slotSeconds)] += Long.bitCount(kept);
+                return;
+            }
+            for (; kept != 0; kept &= kept - 1) {
+                counts[(int) ((first + Long.numberOfTrailingZeros(kept)) / slotSeconds)]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Computes exact overlaps between cron expressions.
+ * Time fields are intersected as bitmasks, while day fields are intersected month by month,
+ * so cost depends on field sizes and the cron period rather than on the number of executions.
+ * Instants are evaluated in the local time of the reference date zone.
+ */
+public final class CronOverlap {
+    /**
+     * The Gregorian calendar repeats every 400 years, including days of week.
+     */
+    static final int GREGORIAN_CYCLE_YEARS = 400;
+    private static final int EPOCH_YEAR = 1970;
+
+    private CronOverlap() {
+    }
+
+    /**
+     * Checks if two crons share at least one execution, at any time.
+     *
+     * @param first  - any cron instance, never null
+     * @param second - any cron instance, never null
+     * @return true if both crons fire at the same instant at least once
+     */
+    public static boolean overlap(final Cron first, final Cron second) {
+        Preconditions.checkNotNull(first, "Cron must not be null");
+        Preconditions.checkNotNull(second, "Cron must not be null");
+        if (first instanceof CompositeCron) {
+            return ((CompositeCron) first).getCrons().stream().anyMatch(cron -> overlap(cron, second));
+        }
+        if (second instanceof CompositeCron) {
+            return ((CompositeCron) second).getCrons().stream().anyMatch(cron -> overlap(first, cron));
+        }
+        if (!(first instanceof SingleCron) || !(second instanceof SingleCron)) {
+            return false;
+        }
+        final int year = Math.max(firstYear(CanonicalCron.of(first)), firstYear(CanonicalCron.of(second)));
+        return firstOverlap(first, second, ZonedDateTime.of(year, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).minusSeconds(1)).isPresent();
+    }
+
+    /**
+     * Provides the first instant after given reference at which both crons fire.
+     *
+     * @param first     - any cron instance, never null
+     * @param second    - any cron instance, never null
+     * @param reference - ZonedDateTime instance, never null. Overlaps are searched strictly after this date.
+     * @return Optional ZonedDateTime instance, never null. Contains first shared execution or empty if crons never overlap.
+     */
+    public static Optional<ZonedDateTime> firstOverlap(final Cron first, final Cron second, final ZonedDateTime reference) {
+        Preconditions.checkNotNull(first, "Cron must not be null");
+        Preconditions.checkNotNull(second, "Cron must not be null");
+        Preconditions.checkNotNull(reference, "Reference date must not be null");
+        if (first instanceof CompositeCron) {
+            return ((CompositeCron) first).getCrons().stream()
+                    .map(cron -> firstOverlap(cron, second, reference))
+                    .filter(Optional::isPresent).map(Optional::get)
+                    .min(ZonedDateTime::compareTo);
+        }
+        if (second instanceof CompositeCron) {
+            return firstOverlap(second, first, reference);
+        }
+        if (!(first instanceof SingleCron) || !(second instanceof SingleCron)) {
+            return Optional.empty();
+        }
+        return firstOverlap((SingleExecutionTime) ExecutionTimeBuilder.build(first), (SingleExecutionTime) ExecutionTimeBuilder.build(second), reference,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Provides the first shared execution strictly after reference, not searching beyond given year.
+     */
+    static Optional<ZonedDateTime> firstOverlap(final SingleExecutionTime first, final SingleExecutionTime second, final ZonedDateTime reference,
+            final int maxYear) {
+        final CanonicalCron a = first.canonical();
+        final CanonicalCron b = second.canonical();
+        final long seconds = a.getSeconds() & b.getSeconds();
+        final long minutes = a.getMinutes() & b.getMinutes();
+        final long hours = a.getHours() & b.getHours();
+        final long months = a.getMonths() & b.getMonths();
+        if (seconds == 0 || minutes == 0 || hours == 0 || months == 0) {
+            return Optional.empty();
+        }
+
+        final LocalDateTime start = reference.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        final int lastYear = Math.min(lastYear(a, b, start.getYear()), maxYear);
+        for (int year = nextYear(a, b, start.getYear()); year >= 0 && year <= lastYear; year = nextYear(a, b, year + 1)) {
+            final boolean startYear = year == start.getYear();
+            for (int month = startYear ? start.getMonthValue() : 1; month <= 12; month++) {
+                if ((months & 1L << month) == 0) {
+                    continue;
+                }
+                final long days = first.daysOfMonthMask(year, month) & second.daysOfMonthMask(year, month);
+                final boolean startMonth = startYear && month == start.getMonthValue();
+                for (int day = LocalTimeSearch.nextBit(days, startMonth ? start.getDayOfMonth() : 1); day > 0; day = LocalTimeSearch.nextBit(days, day + 1)) {
+                    final boolean startDay = startMonth && day == start.getDayOfMonth();
+                    final int secondOfDay = LocalTimeSearch.nextSecondOfDay(hours, minutes, seconds, startDay ? start.toLocalTime().toSecondOfDay() : 0);
+                    if (secondOfDay >= 0) {
+                        return Optional.of(ZonedDateTime.of(LocalDate.of(year, month, day).atStartOfDay().plusSeconds(secondOfDay),
+                                reference.getZone()));
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Both crons repeat within a Gregorian cycle unless they restrict years; restricted crons end at their last year.
+     */
+    private static int lastYear(final CanonicalCron a, final CanonicalCron b, final int startYear) {
+        if (!a.hasYearRestriction() && !b.hasYearRestriction()) {
+            return startYear + GREGORIAN_CYCLE_YEARS;
+        }
+        if (!a.hasYearRestriction()) {
+            return b.lastYear();
+        }
+        if (!b.hasYearRestriction()) {
+            return a.lastYear();
+        }
+        return Math.min(a.lastYear(), b.lastYear());
+    }
+
+    private static int nextYear(final CanonicalCron a, final CanonicalCron b, final int from) {
+        int year = from;
+        while (year >= 0) {
+            final int candidate = b.nextYear(a.nextYear(year));
+            if (candidate == year) {
+                return year;
+            }
+            year = candidate;
+        }
+        return -1;
+    }
+
+    private static int firstYear(final CanonicalCron cron) {
+        return cron.hasYearRestriction() ? Math.max(cron.firstYear(), 0) : EPOCH_YEAR;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Detects which crons of a collection share executions within a time window.
+ * Crons are bucketed by the hours and minutes they fire at; only pairs sharing a bucket and having intersecting
+ * second and month masks are candidates, and overlaps are computed exactly for those pairs only, in parallel.
+ */
+public class CronOverlapAnalyzer {
+    private static final int BUCKETS = 24 * 60;
+
+    private final ZonedDateTime startDate;
+    private final ZonedDateTime endDate;
+
+    /**
+     * Creates an analyzer for given window.
+     *
+     * @param startDate - window start, exclusive. If null, a NullPointerException will be raised.
+     * @param endDate   - window end, inclusive. If null, a NullPointerException will be raised.
+     */
+    public CronOverlapAnalyzer(final ZonedDateTime startDate, final ZonedDateTime endDate) {
+        this.startDate = Preconditions.checkNotNull(startDate, "Start date must not be null");
+        this.endDate = Preconditions.checkNotNull(endDate, "End date must not be null");
+        Preconditions.checkArgument(!endDate.isBefore(startDate), "End date must not be before start date");
+    }
+
+    /**
+     * Computes overlaps between all crons of given collection.
+     *
+     * @param crons - crons to analyze, never null
+     * @return OverlapGraph instance, never null. Holds an edge for each pair of crons sharing an execution within the window.
+     */
+    public OverlapGraph analyze(final Collection<? extends Cron> crons) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        final List<Entry> entries = new ArrayList<>(crons.size());
+        for (final Cron cron : crons) {
+            entries.add(new Entry(cron));
+        }
+
+        //crons are bucketed by each hour and minute they fire at
+        final int[] bucketSizes = new int[BUCKETS];
+        for (final Entry entry : entries) {
+            entry.forEachBucket(bucket -> bucketSizes[bucket]++);
+        }
+        final int[][] buckets = new int[BUCKETS][];
+        final int[] rowOffsets = new int[BUCKETS + 1];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets[bucket] = new int[bucketSizes[bucket]];
+            rowOffsets[bucket + 1] = rowOffsets[bucket] + bucketSizes[bucket];
+        }
+        final int[] filled = new int[BUCKETS];
+        for (int i = 0; i < entries.size(); i++) {
+            final int index = i;
+            entries.get(i).forEachBucket(bucket -> buckets[bucket][filled[bucket]++] = index);
+        }
+
+        //each bucket member is a row of pairs with the members after it, streamed without storing candidate pairs
+        final int maxYear = endDate.withZoneSameInstant(startDate.getZone()).getYear();
+        final List<Overlap> overlaps = IntStream.range(0, rowOffsets[BUCKETS]).parallel()
+                .boxed()
+                .flatMap(row -> {
+                    final int bucket = bucketOf(rowOffsets, row);
+                    final int[] members = buckets[bucket];
+                    final int i = row - rowOffsets[bucket];
+                    final Entry first = entries.get(members[i]);
+                    return IntStream.range(i + 1, members.length)
+                            .mapToObj(j -> entries.get(members[j]))
+                            //each pair is only considered at the lowest hour and minute both crons share
+                            .filter(second -> first.lowestSharedBucket(second) == bucket && first.intersects(second))
+                            .map(second -> first.firstOverlap(second, startDate, maxYear)
+                                    .filter(date -> !date.isAfter(endDate))
+                                    .map(date -> new Overlap(first.cron, second.cron, date)))
+                            .filter(Optional::isPresent).map(Optional::get);
+                })
+                .collect(Collectors.toList());
+        return new OverlapGraph(overlaps);
+    }
+
+    private static int bucketOf(final int[] rowOffsets, final int row) {
+        int bucket = Arrays.binarySearch(rowOffsets, row);
+        if (bucket < 0) {
+            return -bucket - 2;
+        }
+        //skips empty buckets starting at the same row
+        while (rowOffsets[bucket + 1] == row) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static final class Entry {
+        private final Cron cron;
+        private final List<SingleExecutionTime> executionTimes = new ArrayList<>();
+        private long seconds;
+        private long minutes;
+        private long hours;
+        private long months;
+
+        private Entry(final Cron cron) {
+            this.cron = Preconditions.checkNotNull(cron, "Cron must not be null");
+            //nested composite crons are flattened, so that all their members are masked
+            for (final SingleExecutionTime executionTime : ExecutionCounter.members(cron)) {
+                final CanonicalCron canonical = executionTime.canonical();
+                seconds |= canonical.getSeconds();
+                minutes |= canonical.getMinutes();
+                hours |= canonical.getHours();
+                months |= canonical.getMonths();
+                executionTimes.add(executionTime);
+            }
+        }
+
+        private void forEachBucket(final IntConsumer action) {
+            for (int hour = LocalTimeSearch.nextBit(hours, 0); hour >= 0; hour = LocalTimeSearch.nextBit(hours, hour + 1)) {
+                for (int minute = LocalTimeSearch.nextBit(minutes, 0); minute >= 0; minute = LocalTimeSearch.nextBit(minutes, minute + 1)) {
+                    action.accept(hour * 60 + minute);
+                }
+            }
+        }
+
+        private int lowestSharedBucket(final Entry other) {
+            final long sharedHours = hours & other.hours;
+            final long sharedMinutes = minutes & other.minutes;
+            return sharedHours == 0 || sharedMinutes == 0 ? -1
+                    : Long.numberOfTrailingZeros(sharedHours) * 60 + Long.numberOfTrailingZeros(sharedMinutes);
+        }
+
+        private boolean intersects(final Entry other) {
+            return (seconds & other.seconds) != 0 && (months & other.months) != 0;
+        }
+
+        private Optional<ZonedDateTime> firstOverlap(final Entry other, final ZonedDateTime reference, final int maxYear) {
+            Optional<ZonedDateTime> first = Optional.empty();
+            for (final SingleExecutionTime executionTime : executionTimes) {
+                for (final SingleExecutionTime otherExecutionTime : other.executionTimes) {
+                    final Optional<ZonedDateTime> overlap = CronOverlap.firstOverlap(executionTime, otherExecutionTime, reference, maxYear);
+                    if (overlap.isPresent() && (!first.isPresent() || overlap.get().isBefore(first.get()))) {
+                        first = overlap;
+                    }
+                }
+            }
+            return first;
+        }
+    }
+
+    /**
+     * Two crons sharing an execution, and the first instant they share.
+     */
+    public static final class Overlap {
+        private final Cron first;
+        private final Cron second;
+        private final ZonedDateTime firstSharedExecution;
+
+        Overlap(final Cron first, final Cron second, final ZonedDateTime firstSharedExecution) {
+            this.first = first;
+            this.second = second;
+            this.firstSharedExecution = firstSharedExecution;
+        }
+
+        public Cron getFirst() {
+            return first;
+        }
+
+        public Cron getSecond() {
+            return second;
+        }
+
+        public ZonedDateTime getFirstSharedExecution() {
+            return firstSharedExecution;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s <-> %s at %s", first.asString(), second.asString(), firstSharedExecution);
+        }
+    }
+
+    /**
+     * Sparse overlap graph: crons are vertices and each overlapping pair is an edge.
+     */
+    public static final class OverlapGraph {
+        private final List<Overlap> overlaps;
+        private final Map<Cron, List<Overlap>> adjacency = new IdentityHashMap<>();
+
+        OverlapGraph(final List<Overlap> overlaps) {
+            final List<Overlap> sorted = new ArrayList<>(overlaps);
+            sorted.sort(Comparator.comparing(Overlap::getFirstSharedExecution));
+            this.overlaps = Collections.unmodifiableList(sorted);
+            for (final Overlap overlap : this.overlaps) {
+                adjacency.computeIfAbsent(overlap.getFirst(), cron -> new ArrayList<>()).add(overlap);
+                adjacency.computeIfAbsent(overlap.getSecond(), cron -> new ArrayList<>()).add(overlap);
+            }
+        }
+
+        /**
+         * All overlaps, ordered by first shared execution.
+         *
+         * @return unmodifiable List of Overlap, never null
+         */
+        public List<Overlap> getOverlaps() {
+            return overlaps;
+        }
+
+        /**
+         * Overlaps involving given cron instance.
+         *
+         * @param cron - cron instance from the analyzed collection
+         * @return unmodifiable List of Overlap, never null
+         */
+        public List<Overlap> getOverlaps(final Cron cron) {
+            return Collections.unmodifiableList(adjacency.getOrDefault(cron, Collections.emptyList()));
+        }
+    }
+}
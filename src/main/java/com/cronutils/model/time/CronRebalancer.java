@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.builder.CronBuilder;
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.value.SpecialChar;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.cronutils.model.field.expression.FieldExpressionFactory.on;
+
+/**
+ * Plans shifts of cron execution times, so that fewer crons execute at the same minute.
+ * Crons are spread over minute-of-hour buckets: a cron weighs one in each minute of the hour it executes at,
+ * which bounds how many crons may execute at the same time. Crons whose minute is a single value are moved,
+ * one at a time, to the least loaded minute within the tolerance, most constrained crons first.
+ * When their second is a single value too, it is then moved to the least loaded second of that minute.
+ * Crons are never moved across an hour boundary, so that hours and days they execute at are kept.
+ * Shifts are only kept if they lower the busiest minute of the hour or, the busiest minute being unchanged,
+ * the busiest second of the hour; otherwise crons are kept as they are.
+ */
+public final class CronRebalancer {
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    private CronRebalancer() {
+    }
+
+    /**
+     * Plans shifts of given crons.
+     *
+     * @param crons     - crons to rebalance. Crons other than plain minute (and second) values are kept, and weigh on buckets.
+     *                  If null, a NullPointerException will be raised.
+     * @param tolerance - maximum shift of each cron, not negative. If null, a NullPointerException will be raised.
+     * @return RebalancePlan instance, never null. Crons are listed in the given order, and are the given instances
+     * if rebalancing lowers neither the minute nor the second peak.
+     */
+    public static RebalancePlan rebalance(final List<? extends Cron> crons, final Duration tolerance) {
+        Preconditions.checkNotNull(crons, "Crons must not be null");
+        Preconditions.checkNotNull(tolerance, "Tolerance must not be null");
+        Preconditions.checkArgument(!tolerance.isNegative(), "Tolerance must not be negative");
+        final int toleranceSeconds = (int) Math.min(tolerance.getSeconds(), SECONDS_PER_HOUR - 1);
+        final int[] minuteLoad = new int[MINUTES_PER_HOUR];
+        final int[] secondLoad = new int[SECONDS_PER_HOUR];
+        final int[] initialLoad = new int[MINUTES_PER_HOUR];
+        final int[] initialSecondLoad = new int[SECONDS_PER_HOUR];
+        final List<Candidate> candidates = new ArrayList<>();
+        final List<Cron> original = new ArrayList<>(crons.size());
+        for (final Cron cron : crons) {
+            Preconditions.checkNotNull(cron, "Crons must not contain null");
+            final long[] secondsOfMinute = secondsOfMinute(cron);
+            final Candidate candidate = candidate(cron, original.size(), secondsOfMinute, toleranceSeconds);
+            for (int minute = 0; minute < MINUTES_PER_HOUR; minute++) {
+                if (secondsOfMinute[minute] == 0) {
+                    continue;
+                }
+                initialLoad[minute]++;
+                addSeconds(initialSecondLoad, minute, secondsOfMinute[minute]);
+                if (candidate == null) {
+                    minuteLoad[minute]++;
+                    addSeconds(secondLoad, minute, secondsOfMinute[minute]);
+                }
+            }
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+            original.add(cron);
+        }
+
+        candidates.sort(Comparator.comparingInt(Candidate::choices).thenComparingInt(candidate -> candidate.index));
+        final List<Cron> rebalanced = new ArrayList<>(original);
+        for (final Candidate candidate : candidates) {
+            final int minute = candidate.pickMinute(minuteLoad);
+            minuteLoad[minute]++;
+            if (candidate.movesSecond()) {
+                final int second = candidate.pickSecond(secondLoad, minute);
+                secondLoad[minute * SECONDS_PER_MINUTE + second]++;
+                rebalanced.set(candidate.index, candidate.moveTo(minute, second));
+            } else {
+                addSeconds(secondLoad, minute, candidate.seconds);
+                rebalanced.set(candidate.index, candidate.moveTo(minute, candidate.second));
+            }
+        }
+        final int peakBefore = max(initialLoad);
+        final int peakAfter = max(minuteLoad);
+        final int secondPeakBefore = max(initialSecondLoad);
+        final int secondPeakAfter = max(secondLoad);
+        if (peakAfter > peakBefore || (peakAfter == peakBefore && secondPeakAfter >= secondPeakBefore)) {
+            //greedy placement does not guarantee a lower peak: keep crons as they are
+            return new RebalancePlan(Collections.unmodifiableList(original), peakBefore, peakBefore, secondPeakBefore, secondPeakBefore);
+        }
+        return new RebalancePlan(Collections.unmodifiableList(rebalanced), peakBefore, peakAfter, secondPeakBefore, secondPeakAfter);
+    }
+
+    /**
+     * Seconds each cron executes at, by minute of hour. Members of composite crons are merged.
+     */
+    private static long[] secondsOfMinute(final Cron cron) {
+        final long[] secondsOfMinute = new long[MINUTES_PER_HOUR];
+        for (final SingleExecutionTime member : ExecutionCounter.members(cron)) {
+            if (!member.isSatisfiable()) {
+                continue;
+            }
+            final CanonicalCron canonical = member.canonical();
+            for (long minutes = canonical.getMinutes(); minutes != 0; minutes &= minutes - 1) {
+                secondsOfMinute[Long.numberOfTrailingZeros(minutes)] |= canonical.getSeconds();
+            }
+        }
+        return secondsOfMinute;
+    }
+
+    private static void addSeconds(final int[] secondLoad, final int minute, final long seconds) {
+        for (long remaining = seconds; remaining != 0; remaining &= remaining - 1) {
+            secondLoad[minute * SECONDS_PER_MINUTE + Long.numberOfTrailingZeros(remaining)]++;
+        }
+    }
+
+    private static int max(final int[] values) {
+        int max = 0;
+        for (final int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * A cron that can be moved: a single cron executing at a single minute of the hour.
+     *
+     * @return candidate, or null if the cron is kept as it is
+     */
+    private static Candidate candidate(final Cron cron, final int index, final long[] secondsOfMinute, final int toleranceSeconds) {
+        if (!(cron instanceof SingleCron) || !isPlainValue(cron.retrieve(CronFieldName.MINUTE))) {
+            return null;
+        }
+        final int minute = ((On) cron.retrieve(CronFieldName.MINUTE).getExpression()).getTime().getValue();
+        if (secondsOfMinute[minute] == 0) {
+            return null;
+        }
+        final CronField secondField = cron.retrieve(CronFieldName.SECOND);
+        final int second = isPlainValue(secondField) ? ((On) secondField.getExpression()).getTime().getValue() : -1;
+        return new Candidate((SingleCron) cron, index, minute, second, secondsOfMinute[minute], toleranceSeconds);
+    }
+
+    private static boolean isPlainValue(final CronField field) {
+        return field != null && field.getExpression() instanceof On
+                && ((On) field.getExpression()).getSpecialChar().getValue() == SpecialChar.NONE;
+    }
+
+    private static final class Candidate {
+        private final SingleCron cron;
+        private final int index;
+        private final int minute;
+        private final int second;
+        private final long seconds;
+        private final int firstSecondOfHour;
+        private final int lastSecondOfHour;
+        private final int firstMinute;
+        private final int lastMinute;
+
+        private Candidate(final SingleCron cron, final int index, final int minute, final int second, final long seconds, final int toleranceSeconds) {
+            this.cron = cron;
+            this.index = index;
+            this.minute = minute;
+            this.second = second;
+            this.seconds = seconds;
+            if (movesSecond()) {
+                final int secondOfHour = minute * SECONDS_PER_MINUTE + second;
+                this.firstSecondOfHour = Math.max(0, secondOfHour - toleranceSeconds);
+                this.lastSecondOfHour = Math.min(SECONDS_PER_HOUR - 1, secondOfHour + toleranceSeconds);
+                this.firstMinute = firstSecondOfHour / SECONDS_PER_MINUTE;
+                this.lastMinute = lastSecondOfHour / SECONDS_PER_MINUTE;
+            } else {
+                //seconds are kept, so minutes move by whole minutes
+                this.firstSecondOfHour = 0;
+                this.lastSecondOfHour = SECONDS_PER_HOUR - 1;
+                this.firstMinute = Math.max(0, minute - toleranceSeconds / SECONDS_PER_MINUTE);
+                this.lastMinute = Math.min(MINUTES_PER_HOUR - 1, minute + toleranceSeconds / SECONDS_PER_MINUTE);
+            }
+        }
+
+        private boolean movesSecond() {
+            return second >= 0;
+        }
+
+        private int choices() {
+            return movesSecond() ? lastSecondOfHour - firstSecondOfHour + 1 : (lastMinute - firstMinute + 1) * SECONDS_PER_MINUTE;
+        }
+
+        /**
+         * Least loaded minute within the tolerance, the closest to the current one on ties.
+         */
+        private int pickMinute(final int[] minuteLoad) {
+            int best = minute;
+            for (int candidate = firstMinute; candidate <= lastMinute; candidate++) {
+                if (minuteLoad[candidate] < minuteLoad[best]
+                        || (minuteLoad[candidate] == minuteLoad[best] && Math.abs(candidate - minute) < Math.abs(best - minute))) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Least loaded second of given minute within the tolerance, the closest to the current one on ties.
+         */
+        private int pickSecond(final int[] secondLoad, final int pickedMinute) {
+            final int current = minute * SECONDS_PER_MINUTE + second;
+            final int first = Math.max(firstSecondOfHour, pickedMinute * SECONDS_PER_MINUTE);
+            final int last = Math.min(lastSecondOfHour, pickedMinute * SECONDS_PER_MINUTE + SECONDS_PER_MINUTE - 1);
+            int best = first;
+            for (int candidate = first; candidate <= last; candidate++) {
+                if (secondLoad[candidate] < secondLoad[best]
+                        || (secondLoad[candidate] == secondLoad[best] && Math.abs(candidate - current) < Math.abs(best - current))) {
+                    best = candidate;
+                }
+            }
+            return best - pickedMinute * SECONDS_PER_MINUTE;
+        }
+
+        private Cron moveTo(final int newMinute, final int newSecond) {
+            if (newMinute == minute && newSecond == second) {
+                return cron;
+            }
+            final CronBuilder builder = CronBuilder.cron(cron.getCronDefinition());
+            for (final CronField field : cron.retrieveFieldsAsMap().values()) {
+                final FieldExpression expression;
+                if (field.getField() == CronFieldName.MINUTE) {
+                    expression = on(newMinute);
+                } else if (field.getField() == CronFieldName.SECOND && movesSecond()) {
+                    expression = on(newSecond);
+                } else {
+                    expression = field.getExpression();
+                }
+                with(builder, field.getField(), expression);
+            }
+            return builder.instance();
+        }
+
+        private static void with(final CronBuilder builder, final CronFieldName name, final FieldExpression expression) {
+            switch (name) {
+                case SECOND:
+                    builder.withSecond(expression);
+                    break;
+                case MINUTE:
+                    builder.withMinute(expression);
+                    break;
+                case HOUR:
+                    builder.withHour(expression);
+                    break;
+                case DAY_OF_MONTH:
+                    builder.withDoM(expression);
+                    break;
+                case MONTH:
+                    builder.withMonth(expression);
+                    break;
+                case DAY_OF_WEEK:
+                    builder.withDoW(expression);
+                    break;
+                case YEAR:
+                    builder.withYear(expression);
+                    break;
+                case DAY_OF_YEAR:
+                    builder.withDoY(expression);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unsupported field %s", name));
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.mapper.ConstantsMapper;
+import com.cronutils.mapper.WeekDay;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.FieldExpression;
+import com.cronutils.model.field.expression.On;
+import com.cronutils.model.field.value.SpecialChar;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.daysOfWeekMask;
+
+/**
+ * Day fields of a cron, resolved once so that matching days of any month are computed with plain arithmetic
+ * from the month length and the day of week of its first day, instead of instantiating year and month bound generators.
+ * Instances are immutable and shared by all searches on the same execution time.
+ */
+final class DayMask {
+    //bits 0, 7, 14, 21 and 28: a given day of week repeated over a month, shifted to its first occurrence
+    private static final long WEEKLY = 0x10204081L;
+
+    private final CanonicalCron.DayMatching dayMatching;
+    private final long daysOfMonth;
+    private final On[] dayOfMonthRules;
+    private final long daysOfWeek;
+    private final int[] nthDaysOfWeek;
+    private final long lastDaysOfWeek;
+    private final BitSet daysOfYear;
+
+    private DayMask(final CanonicalCron.DayMatching dayMatching, final long daysOfMonth, final On[] dayOfMonthRules,
+            final long daysOfWeek, final int[] nthDaysOfWeek, final long lastDaysOfWeek, final BitSet daysOfYear) {
+        this.dayMatching = dayMatching;
+        this.daysOfMonth = daysOfMonth;
+        this.dayOfMonthRules = dayOfMonthRules;
+        this.daysOfWeek = daysOfWeek;
+        this.nthDaysOfWeek = nthDaysOfWeek;
+        this.lastDaysOfWeek = lastDaysOfWeek;
+        this.daysOfYear = daysOfYear;
+    }
+
+    static DayMask of(final SingleExecutionTime executionTime, final BitSet daysOfYear) {
+        final CanonicalCron.DayMatching dayMatching = executionTime.getDayMatching();
+        if (dayMatching == CanonicalCron.DayMatching.DAY_OF_YEAR) {
+            return new DayMask(dayMatching, 0, new On[0], 0, new int[0], 0, daysOfYear);
+        }
+        long daysOfMonth = 0;
+        //plain values do not depend on the month, besides its length; special values are resolved for each month
+        final List<On> dayOfMonthRules = new ArrayList<>();
+        if (dayMatching != CanonicalCron.DayMatching.DAY_OF_WEEK) {
+            daysOfMonth = CanonicalCron.splitDaysOfMonth(executionTime.getDaysOfMonthCronField(), dayOfMonthRules);
+        }
+        long daysOfWeek = 0;
+        long lastDaysOfWeek = 0;
+        final List<Integer> nthDaysOfWeek = new ArrayList<>();
+        if (dayMatching != CanonicalCron.DayMatching.DAY_OF_MONTH) {
+            final CronField cronField = executionTime.getDaysOfWeekCronField();
+            final WeekDay mondayDoWValue = executionTime.getMondayDoWValue();
+            for (final FieldExpression expression : CanonicalCron.expressions(cronField.getExpression())) {
+                if (CanonicalCron.isSpecial(expression, true)) {
+                    final On on = (On) expression;
+                    final int dayOfWeek = ConstantsMapper.weekDayMapping(mondayDoWValue, ConstantsMapper.JAVA8, on.getTime().getValue());
+                    if (on.getSpecialChar().getValue() == SpecialChar.HASH) {
+                        nthDaysOfWeek.add(dayOfWeek);
+                        nthDaysOfWeek.add(on.getNth().getValue());
+                    } else if (on.getSpecialChar().getValue() == SpecialChar.L) {
+                        lastDaysOfWeek |= 1L << dayOfWeek;
+                    }
+                    continue;
+                }
+                //plain values repeat every week
+                daysOfWeek |= daysOfWeekMask(new CronField(CronFieldName.DAY_OF_WEEK, expression, cronField.getConstraints()), mondayDoWValue);
+            }
+        }
+        return new DayMask(dayMatching, daysOfMonth, dayOfMonthRules.toArray(new On[0]), daysOfWeek,
+                nthDaysOfWeek.stream().mapToInt(Integer::intValue).toArray(), lastDaysOfWeek, null);
+    }
+
+    /**
+     * Days matched in given month.
+     *
+     * @param year  - year to evaluate
+     * @param month - month to evaluate, 1-12
+     * @return bitmask where bit n is set if day of month n matches
+     */
+    long daysOfMonth(final int year, final int month) {
+        final int length = lengthOfMonth(year, month);
+        final long firstDay = LocalTimeSearch.daysFromCivil(year, month, 1);
+        final long monthDays = (1L << (length + 1)) - 2;
+        switch (dayMatching) {
+            case DAY_OF_YEAR:
+                return daysOfYear(firstDay - LocalTimeSearch.daysFromCivil(year, 1, 1) + 1, length);
+            case DAY_OF_MONTH:
+                return dayOfMonthDays(firstDay, length) & monthDays;
+            case DAY_OF_WEEK:
+                return dayOfWeekDays(firstDay, length) & monthDays;
+            case DAY_OF_MONTH_AND_WEEK:
+                return dayOfMonthDays(firstDay, length) & dayOfWeekDays(firstDay, length) & monthDays;
+            case DAY_OF_MONTH_OR_WEEK:
+                return (dayOfMonthDays(firstDay, length) | dayOfWeekDays(firstDay, length)) & monthDays;
+            default:
+                return monthDays;
+        }
+    }
+
+    private long daysOfYear(final long firstDayOfYear, final int length) {
+        long mask = 0;
+        final int first = (int) firstDayOfYear;
+        for (int day = daysOfYear.nextSetBit(first); day >= 0 && day < first + length; day = daysOfYear.nextSetBit(day + 1)) {
+            mask |= 1L << (day - first + 1);
+        }
+        return mask;
+    }
+
+    private long dayOfMonthDays(final long firstDay, final int length) {
+        long mask = daysOfMonth;
+        for (final On dayOfMonthRule : dayOfMonthRules) {
+            mask |= ruleDays(dayOfMonthRule, firstDay, length);
+        }
+        return mask;
+    }
+
+    private static long ruleDays(final On dayOfMonthRule, final long firstDay, final int length) {
+        final int day;
+        switch (dayOfMonthRule.getSpecialChar().getValue()) {
+            case L:
+                final int daysBefore = dayOfMonthRule.getNth().getValue();
+                day = length - Math.max(daysBefore, 0);
+                break;
+            case W:
+                final int dayOfMonth = dayOfMonthRule.getTime().getValue();
+                if (dayOfMonth > length) {
+                    return 0;
+                }
+                final int dayOfWeek = dayOfWeek(firstDay + dayOfMonth - 1);
+                if (dayOfWeek == 6) {
+                    //on Saturday, the closest weekday is Friday, unless it belongs to the previous month
+                    day = dayOfMonth == 1 ? 3 : dayOfMonth - 1;
+                } else if (dayOfWeek == 7) {
+                    //on Sunday, the closest weekday is Monday, unless it belongs to the next month
+                    day = dayOfMonth + 1 <= length ? dayOfMonth + 1 : dayOfMonth - 2;
+                } else {
+                    day = dayOfMonth;
+                }
+                break;
+            case LW:
+                final int diff = dayOfWeek(firstDay + length - 1) - 5;
+                day = diff > 0 ? length - diff : length;
+                break;
+            default:
+                return 0;
+        }
+        return day >= 1 && day <= length ? 1L << day : 0;
+    }
+
+    private long dayOfWeekDays(final long firstDay, final int length) {
+        final int firstDayOfWeek = dayOfWeek(firstDay);
+        long mask = 0;
+        for (int dayOfWeek = LocalTimeSearch.nextBit(daysOfWeek, 1); dayOfWeek > 0 && dayOfWeek <= 7;
+                dayOfWeek = LocalTimeSearch.nextBit(daysOfWeek, dayOfWeek + 1)) {
+            mask |= WEEKLY << firstOccurrence(firstDayOfWeek, dayOfWeek);
+        }
+        for (int i = 0; i < nthDaysOfWeek.length; i += 2) {
+            final int day = firstOccurrence(firstDayOfWeek, nthDaysOfWeek[i]) + 7 * (nthDaysOfWeek[i + 1] - 1);
+            if (day >= 1 && day <= length) {
+                mask |= 1L << day;
+            }
+        }
+        if (lastDaysOfWeek != 0) {
+            final int lastDayOfWeek = dayOfWeek(firstDay + length - 1);
+            for (int dayOfWeek = LocalTimeSearch.nextBit(lastDaysOfWeek, 1); dayOfWeek > 0 && dayOfWeek <= 7;
+                    dayOfWeek = LocalTimeSearch.nextBit(lastDaysOfWeek, dayOfWeek + 1)) {
+                mask |= 1L << (length - Math.floorMod(lastDayOfWeek - dayOfWeek, 7));
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Day of month of the first occurrence of given day of week, both in java.time numbering.
+     */
+    private static int firstOccurrence(final int firstDayOfWeek, final int dayOfWeek) {
+        return 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7);
+    }
+
+    /**
+     * Day of week for given days from 1970-01-01, Monday=1. The epoch was a Thursday.
+     */
+    private static int dayOfWeek(final long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    static int lengthOfMonth(final int year, final int month) {
+        if (month == 2) {
+            final boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+}
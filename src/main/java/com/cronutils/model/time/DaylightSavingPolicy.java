@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+/**
+ * Defines how local times affected by a zone offset transition are resolved.
+ * Local times skipped by a gap (e.g. 02:30 when clocks move from 02:00 to 03:00) do not exist on the time line,
+ * while local times within an overlap (e.g. 01:30 when clocks move from 02:00 back to 01:00) exist twice.
+ */
+public enum DaylightSavingPolicy {
+    /**
+     * Local times within a gap do not execute. Local times within an overlap execute once, at the earlier offset.
+     */
+    SKIP,
+    /**
+     * Local times within a gap execute once, at the instant the gap ends. Local times within an overlap execute once,
+     * at the earlier offset.
+     */
+    SHIFT,
+    /**
+     * Local times within a gap do not execute. Local times within an overlap execute twice, once per offset.
+     */
+    FIRE_TWICE
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.cronutils.model.time.LocalTimeSearch.SECONDS_PER_DAY;
+
+/**
+ * Counts executions of one or more crons over time ranges, without enumerating them.
+ * Days are matched against day masks, and executions within a day are counted from the hour, minute and second bitmasks.
+ * Executions of several crons at the same second are counted once.
+ * Local times skipped by a daylight saving gap do not execute, and repeated local times execute once,
+ * as with {@link DaylightSavingPolicy#SKIP}.
+ */
+final class ExecutionCounter {
+    private final SingleExecutionTime[] executionTimes;
+    private final CanonicalCron[] canonicals;
+    private final int[] cachedYearMonths;
+    private final long[] cachedDays;
+    private final Map<BitSet, Long> countsPerDay = new HashMap<>();
+
+    ExecutionCounter(final List<SingleExecutionTime> executionTimes) {
+        this.executionTimes = executionTimes.stream().filter(SingleExecutionTime::isSatisfiable).toArray(SingleExecutionTime[]::new);
+        this.canonicals = new CanonicalCron[this.executionTimes.length];
+        for (int i = 0; i < canonicals.length; i++) {
+            canonicals[i] = this.executionTimes[i].canonical();
+        }
+        this.cachedYearMonths = new int[canonicals.length];
+        Arrays.fill(cachedYearMonths, Integer.MIN_VALUE);
+        this.cachedDays = new long[canonicals.length];
+    }
+
+    /**
+     * Single execution times of a cron, composite crons being flattened.
+     * They are built without the shared cache, so that analyzing many crons does not evict execution times of other callers.
+     *
+     * @param cron - Cron instance, never null
+     * @return execution times of the cron members
+     */
+    static List<SingleExecutionTime> members(final Cron cron) {
+        final List<SingleExecutionTime> members = new ArrayList<>();
+        collectMembers(cron, members);
+        return members;
+    }
+
+    private static void collectMembers(final Cron cron, final List<SingleExecutionTime> members) {
+        if (cron instanceof CompositeCron) {
+            for (final Cron member : ((CompositeCron) cron).getCrons()) {
+                collectMembers(member, members);
+            }
+            return;
+        }
+        final ExecutionTime executionTime = ExecutionTimeBuilder.build(cron);
+        if (!(executionTime instanceof SingleExecutionTime)) {
+            throw new IllegalArgumentException(String.format("Executions of cron %s cannot be analyzed", cron.asString()));
+        }
+        members.add((SingleExecutionTime) executionTime);
+    }
+
+    /**
+     * Counts executions in consecutive buckets. See {@link ExecutionTime#countByBucket(ZonedDateTime, ZonedDateTime, ChronoUnit)}.
+     */
+    long[] countByBucket(final ZonedDateTime startDate, final ZonedDateTime endDate, final ChronoUnit bucket) {
+        final Instant[] boundaries = bucketBoundaries(startDate, endDate, bucket);
+        final ZoneRules rules = startDate.getZone().getRules();
+        final long[] counts = new long[boundaries.length - 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = count(ceilEpochSecond(boundaries[i]), ceilEpochSecond(boundaries[i + 1]), rules);
+        }
+        return counts;
+    }
+
+    /**
+     * Instants where buckets start, followed by the end date.
+     */
+    static Instant[] bucketBoundaries(final ZonedDateTime startDate, final ZonedDateTime endDate, final ChronoUnit bucket) {
+        Preconditions.checkNotNull(startDate, "Start date must not be null");
+        Preconditions.checkNotNull(endDate, "End date must not be null");
+        Preconditions.checkNotNull(bucket, "Bucket must not be null");
+        Preconditions.checkArgument(startDate.isSupported(bucket), "Bucket %s is not supported", bucket);
+        if (!endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("endDate should take place later in time than startDate");
+        }
+        final List<Instant> boundaries = new ArrayList<>();
+        ZonedDateTime boundary = startDate;
+        for (long i = 1; boundary.isBefore(endDate); i++) {
+            boundaries.add(boundary.toInstant());
+            //computed from the start date, so that days or months do not drift after shorter ones
+            boundary = startDate.plus(i, bucket);
+        }
+        boundaries.add(endDate.toInstant());
+        return boundaries.toArray(new Instant[0]);
+    }
+
+    static long ceilEpochSecond(final Instant instant) {
+        return instant.getNano() == 0 ? instant.getEpochSecond() : instant.getEpochSecond() + 1;
+    }
+
+    /**
+     * Counts executions at or after the first second and before the second one.
+     *
+     * @param fromEpochSecond - start of the range, as seconds from epoch, inclusive
+     * @param toEpochSecond   - end of the range, as seconds from epoch, exclusive
+     * @param rules           - rules of the zone crons are evaluated in
+     * @return number of executions
+     */
+    long count(final long fromEpochSecond, final long toEpochSecond, final ZoneRules rules) {
+        final long[] count = new long[1];
+        walk(fromEpochSecond, toEpochSecond, rules, (epochDay, fromSecond, toSecond, offset, matching) -> count[0] += countDay(matching, fromSecond, toSecond));
+        return count[0];
+    }
+
+    /**
+     * Counts executions in local time, at or after the first local second and before the second one.
+     */
+    long countLocal(final long fromLocal, final long toLocal) {
+        final long[] count = new long[1];
+        walkLocal(fromLocal, toLocal, 0, (epochDay, fromSecond, toSecond, offset, matching) -> count[0] += countDay(matching, fromSecond, toSecond));
+        return count[0];
+    }
+
+    /**
+     * Visits local days of a range, one zone offset at a time. Local times skipped by a daylight saving gap are not visited,
+     * and local times repeated after clocks moved back are visited once.
+     *
+     * @param fromEpochSecond - start of the range, as seconds from epoch, inclusive
+     * @param toEpochSecond   - end of the range, as seconds from epoch, exclusive
+     * @param rules           - rules of the zone crons are evaluated in
+     * @param visitor         - called for each part of a local day matched by at least one cron
+     */
+    void walk(final long fromEpochSecond, final long toEpochSecond, final ZoneRules rules, final DayVisitor visitor) {
+        long instant = fromEpochSecond;
+        while (instant < toEpochSecond) {
+            final Instant current = Instant.ofEpochSecond(instant);
+            final int offset = rules.getOffset(current).getTotalSeconds();
+            final ZoneOffsetTransition next = rules.nextTransition(current);
+            final long periodEnd = next == null ? toEpochSecond : Math.min(toEpochSecond, next.toEpochSecond());
+            long fromLocal = instant + offset;
+            final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(instant + 1));
+            if (previous != null && previous.isOverlap()) {
+                //local times repeated after clocks moved back were already executed
+                fromLocal = Math.max(fromLocal, previous.toEpochSecond() + previous.getOffsetBefore().getTotalSeconds());
+            }
+            walkLocal(fromLocal, periodEnd + offset, offset, visitor);
+            instant = periodEnd;
+        }
+    }
+
+    /**
+     * Visits local days of a range of local seconds, at or after the first one and before the second one.
+     */
+    private void walkLocal(final long fromLocal, final long toLocal, final int offset, final DayVisitor visitor) {
+        if (canonicals.length == 0 || fromLocal >= toLocal) {
+            return;
+        }
+        final long firstDay = Math.floorDiv(fromLocal, SECONDS_PER_DAY);
+        final long lastDay = Math.floorDiv(toLocal - 1, SECONDS_PER_DAY);
+        for (long day = firstDay; day <= lastDay; day++) {
+            final BitSet matching = matching(day);
+            if (!matching.isEmpty()) {
+                final int fromSecond = day == firstDay ? (int) (fromLocal - day * SECONDS_PER_DAY) : 0;
+                final int toSecond = day == lastDay ? (int) (toLocal - day * SECONDS_PER_DAY) : SECONDS_PER_DAY;
+                visitor.visit(day, fromSecond, toSecond, offset, matching);
+            }
+        }
+    }
+
+    /**
+     * Canonical form of the cron at given index, as passed to visitors.
+     */
+    CanonicalCron canonical(final int index) {
+        return canonicals[index];
+    }
+
+    /**
+     * Crons matching given day, by index.
+     */
+    private BitSet matching(final long epochDay) {
+        final long date = LocalTimeSearch.civilFromDays(epochDay);
+        final int year = LocalTimeSearch.year(date);
+        final int month = LocalTimeSearch.month(date);
+        final int day = LocalTimeSearch.day(date);
+        final int yearMonth = year * 12 + month;
+        final BitSet matching = new BitSet(canonicals.length);
+        for (int i = 0; i < canonicals.length; i++) {
+            if (!canonicals[i].isYearMatch(year) || (canonicals[i].getMonths() >>> month & 1) == 0) {
+                continue;
+            }
+            if (cachedYearMonths[i] != yearMonth) {
+                cachedYearMonths[i] = yearMonth;
+                cachedDays[i] = executionTimes[i].daysOfMonthMask(year, month);
+            }
+            if ((cachedDays[i] >>> day & 1) != 0) {
+                matching.set(i);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Counts executions within a visited part of a day.
+     */
+    private long countDay(final BitSet matching, final int fromSecond, final int toSecond) {
+        if (fromSecond != 0 || toSecond != SECONDS_PER_DAY) {
+            return countSecondsOfDay(matching, fromSecond, toSecond);
+        }
+        if (matching.cardinality() == 1) {
+            final CanonicalCron canonical = canonicals[matching.nextSetBit(0)];
+            return (long) Long.bitCount(canonical.getHours()) * Long.bitCount(canonical.getMinutes()) * Long.bitCount(canonical.getSeconds());
+        }
+        return countsPerDay.computeIfAbsent(matching, key -> countSecondsOfDay(key, 0, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Counts seconds of day at or after the first one and before the second one, matched by any of given crons.
+     */
+    private long countSecondsOfDay(final BitSet matching, final int fromSecond, final int toSecond) {
+        long count = 0;
+        for (int minuteOfDay = fromSecond / 60; minuteOfDay <= (toSecond - 1) / 60; minuteOfDay++) {
+            final int hour = minuteOfDay / 60;
+            final int minute = minuteOfDay % 60;
+            long seconds = 0;
+            for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+                if ((canonicals[i].getHours() >>> hour & 1) != 0 && (canonicals[i].getMinutes() >>> minute & 1) != 0) {
+                    seconds |= canonicals[i].getSeconds();
+                }
+            }
+            if (seconds == 0) {
+                continue;
+            }
+            final int firstSecond = Math.max(fromSecond - minuteOfDay * 60, 0);
+            final int lastSecond = Math.min(toSecond - minuteOfDay * 60, 60);
+            count += Long.bitCount(seconds & (-1L << firstSecond) & ((1L << lastSecond) - 1));
+        }
+        return count;
+    }
+
+    /**
+     * Receives local days visited by {@link #walk(long, long, ZoneRules, DayVisitor)}.
+     */
+    interface DayVisitor {
+        /**
+         * @param epochDay   - local day, as days from epoch
+         * @param fromSecond - first visited second of the day, inclusive
+         * @param toSecond   - last visited second of the day, exclusive
+         * @param offset     - zone offset of the visited seconds, in seconds
+         * @param matching   - indexes of crons matching the day, never empty
+         */
+        void visit(long epochDay, int fromSecond, int toSecond, int offset, BitSet matching);
+    }
+}
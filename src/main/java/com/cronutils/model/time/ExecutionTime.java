@@ -16,102 +16,110 @@ package com.cronutils.model.time;
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
 import com.cronutils.model.SingleCron;
-import com.cronutils.model.field.CronField;
-import com.cronutils.model.field.CronFieldName;
+import com.cronutils.utils.BusinessCalendar;
+import com.cronutils.utils.Preconditions;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Calculates execution time given a cron pattern.
  */
 public interface ExecutionTime {
+    /**
+     * Sentinel for primitive results, used when there is no execution.
+     */
+    long NO_EXECUTION = Long.MIN_VALUE;
 
     /**
      * Creates execution time for given Cron.
+     * Execution times are shared through {@link ExecutionTimeCache#shared()}, so equal crons get the same instance.
      *
      * @param cron - Cron instance
      * @return ExecutionTime instance
      */
     public static ExecutionTime forCron(final Cron cron) {
-        if (cron instanceof SingleCron) {
-            final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
-            final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron);
-            for (final CronFieldName name : CronFieldName.values()) {
-                if (fields.get(name) != null) {
-                    switch (name) {
-                        case SECOND:
-                            executionTimeBuilder.forSecondsMatching(fields.get(name));
-                            break;
-                        case MINUTE:
-                            executionTimeBuilder.forMinutesMatching(fields.get(name));
-                            break;
-                        case HOUR:
-                            executionTimeBuilder.forHoursMatching(fields.get(name));
-                            break;
-                        case DAY_OF_WEEK:
-                            executionTimeBuilder.forDaysOfWeekMatching(fields.get(name));
-                            break;
-                        case DAY_OF_MONTH:
-                            executionTimeBuilder.forDaysOfMonthMatching(fields.get(name));
-                            break;
-                        case MONTH:
-                            executionTimeBuilder.forMonthsMatching(fields.get(name));
-                            break;
-                        case YEAR:
-                            executionTimeBuilder.forYearsMatching(fields.get(name));
-                            break;
-                        case DAY_OF_YEAR:
-                            executionTimeBuilder.forDaysOfYearMatching(fields.get(name));
-                            break;
-                        default:
-                            break;
-                    }
-                }
-            }
-            return executionTimeBuilder.build();
-        }
-        if (cron instanceof CompositeCron) {
-            return new CompositeExecutionTime(((CompositeCron) cron).getCrons().parallelStream().map(ExecutionTime::forCron).collect(Collectors.toList()));
+        if (cron instanceof SingleCron || cron instanceof CompositeCron) {
+            return ExecutionTimeCache.shared().get(cron);
         }
+        return ExecutionTimeBuilder.build(cron);
+    }
 
-        return new ExecutionTime() {
-            @Override
-            public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
-                return Optional.empty();
-            }
+    /**
+     * Provide nearest date for next execution.
+     *
+     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
+     */
+    Optional<ZonedDateTime> nextExecution(final ZonedDateTime date);
 
-            @Override
-            public Optional<Duration> timeToNextExecution(ZonedDateTime date) {
-                return Optional.empty();
-            }
+    /**
+     * Provide nearest date for next execution, giving up once the search exceeds given budget.
+     * Implementations that do not search step by step ignore the budget.
+     *
+     * @param date   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @param budget - SearchBudget instance. If null, a NullPointerException will be raised.
+     * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
+     */
+    default Optional<ZonedDateTime> nextExecution(final ZonedDateTime date, final SearchBudget budget) {
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        return nextExecution(date);
+    }
 
-            @Override
-            public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
-                return Optional.empty();
-            }
+    /**
+     * Provide nearest date for next execution, as milliseconds from epoch.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return next execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    default long nextExecutionEpochMillis(final long epochMillis, final ZoneId zone) {
+        return nextExecution(Instant.ofEpochMilli(epochMillis), zone).map(Instant::toEpochMilli).orElse(NO_EXECUTION);
+    }
 
-            @Override
-            public Optional<Duration> timeFromLastExecution(ZonedDateTime date) {
-                return Optional.empty();
-            }
+    /**
+     * Provide nearest date for next execution.
+     *
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Contains next execution time or empty.
+     */
+    default Optional<Instant> nextExecution(final Instant date, final ZoneId zone) {
+        Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(zone);
+        return nextExecution(date.atZone(zone)).map(ZonedDateTime::toInstant);
+    }
 
-            @Override
-            public boolean isMatch(ZonedDateTime date) {
-                return false;
-            }
-        };
+    /**
+     * Provide nearest date for next execution, as milliseconds from epoch,
+     * resolving local times affected by daylight saving transitions with given policy.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return next execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    default long nextExecutionEpochMillis(final long epochMillis, final ZoneId zone, final DaylightSavingPolicy policy) {
+        return nextExecution(Instant.ofEpochMilli(epochMillis), zone, policy).map(Instant::toEpochMilli).orElse(NO_EXECUTION);
     }
 
     /**
-     * Provide nearest date for next execution.
+     * Provide nearest date for next execution, resolving local times affected by daylight saving transitions with given policy.
+     * Implementations not supporting policies evaluate as {@link #nextExecution(Instant, ZoneId)}.
      *
-     * @param date - ZonedDateTime instance. If null, a NullPointerException will be raised.
-     * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Contains next execution time or empty.
      */
-    Optional<ZonedDateTime> nextExecution(final ZonedDateTime date);
+    default Optional<Instant> nextExecution(final Instant date, final ZoneId zone, final DaylightSavingPolicy policy) {
+        Preconditions.checkNotNull(policy);
+        return nextExecution(date, zone);
+    }
 
     /**
      * Provide nearest time for next execution.
@@ -141,6 +149,70 @@ public interface ExecutionTime {
      */
     Optional<ZonedDateTime> lastExecution(final ZonedDateTime date);
 
+    /**
+     * Provide nearest date for last execution, giving up once the search exceeds given budget.
+     * Implementations that do not search step by step ignore the budget.
+     *
+     * @param date   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @param budget - SearchBudget instance. If null, a NullPointerException will be raised.
+     * @return Optional ZonedDateTime instance, never null. Last execution time or empty.
+     */
+    default Optional<ZonedDateTime> lastExecution(final ZonedDateTime date, final SearchBudget budget) {
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        return lastExecution(date);
+    }
+
+    /**
+     * Provide nearest date for last execution, as milliseconds from epoch.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return last execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    default long lastExecutionEpochMillis(final long epochMillis, final ZoneId zone) {
+        return lastExecution(Instant.ofEpochMilli(epochMillis), zone).map(Instant::toEpochMilli).orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Provide nearest date for last execution.
+     *
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Last execution time or empty.
+     */
+    default Optional<Instant> lastExecution(final Instant date, final ZoneId zone) {
+        Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(zone);
+        return lastExecution(date.atZone(zone)).map(ZonedDateTime::toInstant);
+    }
+
+    /**
+     * Provide nearest date for last execution, as milliseconds from epoch,
+     * resolving local times affected by daylight saving transitions with given policy.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return last execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    default long lastExecutionEpochMillis(final long epochMillis, final ZoneId zone, final DaylightSavingPolicy policy) {
+        return lastExecution(Instant.ofEpochMilli(epochMillis), zone, policy).map(Instant::toEpochMilli).orElse(NO_EXECUTION);
+    }
+
+    /**
+     * Provide nearest date for last execution, resolving local times affected by daylight saving transitions with given policy.
+     * Implementations not supporting policies evaluate as {@link #lastExecution(Instant, ZoneId)}.
+     *
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Last execution time or empty.
+     */
+    default Optional<Instant> lastExecution(final Instant date, final ZoneId zone, final DaylightSavingPolicy policy) {
+        Preconditions.checkNotNull(policy);
+        return lastExecution(date, zone);
+    }
+
     /**
      * Provide nearest time from last execution.
      *
@@ -157,6 +229,28 @@ public interface ExecutionTime {
      */
     boolean isMatch(ZonedDateTime date);
 
+    /**
+     * Check if the cron executes at all. Crons that never execute, such as those asking for February 30th,
+     * are detected without searching, and all their searches return no execution right away.
+     *
+     * @return true if some date matches the cron expression
+     */
+    default boolean isSatisfiable() {
+        return true;
+    }
+
+    /**
+     * Restrict executions to business days of given calendar: executions on weekends and holidays are skipped.
+     * Execution times built from crons intersect business days with the days each month matches,
+     * while other implementations skip non business days as they are found.
+     *
+     * @param calendar - BusinessCalendar instance. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null
+     */
+    default ExecutionTime onBusinessDays(final BusinessCalendar calendar) {
+        return new BusinessDayExecutionTime(this, calendar);
+    }
+
     /**
      * Provide count of times cron expression would execute between given start and end dates
      *
@@ -190,4 +284,109 @@ public interface ExecutionTime {
         }
         return executions;
     }
+
+    /**
+     * Provide count of executions in consecutive buckets, from start date (inclusive) to end date (exclusive).
+     * Bucket i starts at {@code startDate.plus(i, bucket)}, and the last bucket ends at end date.
+     * Executions are counted in the zone of start date, as {@link #nextExecution(Instant, ZoneId, DaylightSavingPolicy)}
+     * reports them with {@link DaylightSavingPolicy#SKIP}.
+     *
+     * @param startDate - Start date. If null, a NullPointerException will be raised.
+     * @param endDate - End date, after start date. If null, a NullPointerException will be raised.
+     * @param bucket - unit of each bucket, supported by ZonedDateTime. If null, a NullPointerException will be raised.
+     * @return count of executions for each bucket
+     */
+    default long[] countByBucket(final ZonedDateTime startDate, final ZonedDateTime endDate, final ChronoUnit bucket) {
+        final Instant[] boundaries = ExecutionCounter.bucketBoundaries(startDate, endDate, bucket);
+        final long[] counts = new long[boundaries.length - 1];
+        int index = 0;
+        Optional<Instant> next = nextExecution(boundaries[0].minusNanos(1), startDate.getZone(), DaylightSavingPolicy.SKIP);
+        while (next.isPresent() && next.get().isBefore(boundaries[counts.length])) {
+            while (!next.get().isBefore(boundaries[index + 1])) {
+                index++;
+            }
+            counts[index]++;
+            next = nextExecution(next.get(), startDate.getZone(), DaylightSavingPolicy.SKIP);
+        }
+        return counts;
+    }
+
+    /**
+     * Provide next execution for each of given reference dates.
+     * References are sorted and swept once: consecutive references that share the same next execution
+     * are resolved without searching again.
+     *
+     * @param epochSeconds - reference dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance crons are evaluated in. If null, a NullPointerException will be raised.
+     * @return array with next execution as seconds from epoch for each reference, or {@link #NO_EXECUTION}
+     */
+    default long[] nextExecutions(final long[] epochSeconds, final ZoneId zone) {
+        Preconditions.checkNotNull(epochSeconds, "Reference dates must not be null");
+        Preconditions.checkNotNull(zone, "ZoneId must not be null");
+        final SortedReferences references = new SortedReferences(epochSeconds);
+        final long[] sorted = references.sorted();
+        final long[] sortedResults = new long[sorted.length];
+        long next = NO_EXECUTION;
+        boolean exhausted = false;
+        for (int i = 0; i < sorted.length; i++) {
+            if (exhausted) {
+                sortedResults[i] = NO_EXECUTION;
+                continue;
+            }
+            if (next == NO_EXECUTION || sorted[i] >= next) {
+                next = nextExecution(Instant.ofEpochSecond(sorted[i]), zone).map(Instant::getEpochSecond).orElse(NO_EXECUTION);
+                exhausted = next == NO_EXECUTION;
+            }
+            sortedResults[i] = next;
+        }
+        return references.toInputOrder(sortedResults);
+    }
+
+    /**
+     * Provide last execution for each of given reference dates.
+     * References are sorted and swept once: consecutive references that share the same last execution
+     * are resolved without searching again.
+     *
+     * @param epochSeconds - reference dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance crons are evaluated in. If null, a NullPointerException will be raised.
+     * @return array with last execution as seconds from epoch for each reference, or {@link #NO_EXECUTION}
+     */
+    default long[] lastExecutions(final long[] epochSeconds, final ZoneId zone) {
+        Preconditions.checkNotNull(epochSeconds, "Reference dates must not be null");
+        Preconditions.checkNotNull(zone, "ZoneId must not be null");
+        final SortedReferences references = new SortedReferences(epochSeconds);
+        final long[] sorted = references.sorted();
+        final long[] sortedResults = new long[sorted.length];
+        long last = NO_EXECUTION;
+        boolean exhausted = false;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            if (exhausted) {
+                sortedResults[i] = NO_EXECUTION;
+                continue;
+            }
+            if (last == NO_EXECUTION || sorted[i] <= last) {
+                last = lastExecution(Instant.ofEpochSecond(sorted[i]), zone).map(Instant::getEpochSecond).orElse(NO_EXECUTION);
+                exhausted = last == NO_EXECUTION;
+            }
+            sortedResults[i] = last;
+        }
+        return references.toInputOrder(sortedResults);
+    }
+
+    /**
+     * Check which of given dates match the cron expression, as {@link #isMatch(ZonedDateTime)} does.
+     * Bit i of the output is set if the i-th date matches, and cleared otherwise.
+     *
+     * @param epochSeconds - dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance crons are evaluated in. If null, a NullPointerException will be raised.
+     * @param out - BitSet receiving the result. If null, a NullPointerException will be raised.
+     */
+    default void matchMask(final long[] epochSeconds, final ZoneId zone, final BitSet out) {
+        Preconditions.checkNotNull(epochSeconds, "Dates must not be null");
+        Preconditions.checkNotNull(zone, "ZoneId must not be null");
+        Preconditions.checkNotNull(out, "Output must not be null");
+        for (int i = 0; i < epochSeconds.length; i++) {
+            out.set(i, isMatch(Instant.ofEpochSecond(epochSeconds[i]).atZone(zone)));
+        }
+    }
 }
@@ -13,7 +13,9 @@
 
 package com.cronutils.model.time;
 
+import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.constraint.FieldConstraints;
@@ -25,6 +27,12 @@ import com.cronutils.model.time.generator.FieldValueGenerator;
 import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
 import com.cronutils.utils.Preconditions;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import static com.cronutils.model.field.expression.FieldExpression.always;
 
 /**
@@ -46,27 +54,111 @@ class ExecutionTimeBuilder {
         this.cron = cron;
     }
 
+    /**
+     * Builds execution time for given Cron, without looking it up in a cache.
+     *
+     * @param cron - Cron instance
+     * @return ExecutionTime instance
+     */
+    static ExecutionTime build(final Cron cron) {
+        if (cron instanceof SingleCron) {
+            final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
+            final ExecutionTimeBuilder executionTimeBuilder = new ExecutionTimeBuilder(cron);
+            for (final CronFieldName name : CronFieldName.values()) {
+                if (fields.get(name) != null) {
+                    switch (name) {
+                        case SECOND:
+                            executionTimeBuilder.forSecondsMatching(fields.get(name));
+                            break;
+                        case MINUTE:
+                            executionTimeBuilder.forMinutesMatching(fields.get(name));
+                            break;
+                        case HOUR:
+                            executionTimeBuilder.forHoursMatching(fields.get(name));
+                            break;
+                        case DAY_OF_WEEK:
+                            executionTimeBuilder.forDaysOfWeekMatching(fields.get(name));
+                            break;
+                        case DAY_OF_MONTH:
+                            executionTimeBuilder.forDaysOfMonthMatching(fields.get(name));
+                            break;
+                        case MONTH:
+                            executionTimeBuilder.forMonthsMatching(fields.get(name));
+                            break;
+                        case YEAR:
+                            executionTimeBuilder.forYearsMatching(fields.get(name));
+                            break;
+                        case DAY_OF_YEAR:
+                            executionTimeBuilder.forDaysOfYearMatching(fields.get(name));
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+            final ExecutionTime executionTime = executionTimeBuilder.build();
+            //impossible schedules are detected once, before the execution time is shared
+            executionTime.isSatisfiable();
+            return executionTime;
+        }
+        if (cron instanceof CompositeCron) {
+            return new CompositeExecutionTime(((CompositeCron) cron).getCrons().parallelStream().map(ExecutionTime::forCron).collect(Collectors.toList()));
+        }
+
+        return new ExecutionTime() {
+            @Override
+            public Optional<ZonedDateTime> nextExecution(ZonedDateTime date) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Duration> timeToNextExecution(ZonedDateTime date) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<ZonedDateTime> lastExecution(ZonedDateTime date) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<Duration> timeFromLastExecution(ZonedDateTime date) {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean isMatch(ZonedDateTime date) {
+                return false;
+            }
+
+            @Override
+            public boolean isSatisfiable() {
+                return false;
+            }
+        };
+    }
+
     protected ExecutionTimeBuilder forSecondsMatching(final CronField cronField) {
         validate(CronFieldName.SECOND, cronField);
-        seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        seconds = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateValues(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forMinutesMatching(final CronField cronField) {
         validate(CronFieldName.MINUTE, cronField);
-        minutes = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 59));
+        minutes = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateValues(0, 59));
         return this;
     }
 
     protected ExecutionTimeBuilder forHoursMatching(final CronField cronField) {
         validate(CronFieldName.HOUR, cronField);
-        hours = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(0, 23));
+        hours = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateValues(0, 23));
         return this;
     }
 
     protected ExecutionTimeBuilder forMonthsMatching(final CronField cronField) {
         validate(CronFieldName.MONTH, cronField);
-        months = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidates(1, 12));
+        months = new TimeNode(FieldValueGeneratorFactory.forCronField(cronField).generateCandidateValues(1, 12));
         return this;
     }
 
@@ -142,7 +234,8 @@ class ExecutionTimeBuilder {
                     constraints);
         }
 
-        return new SingleExecutionTime(this.cron.getCronDefinition(),
+        //an expression rather than the cron, since execution times are shared by equal crons
+        return new SingleExecutionTime(this.cron.asString(), this.cron.getCronDefinition(),
                 this.cron.retrieve(CronFieldName.YEAR), daysOfWeekCronField, daysOfMonthCronField, daysOfYearCronField,
                 months, hours, minutes, seconds
         );
@@ -153,14 +246,14 @@ class ExecutionTimeBuilder {
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, new On(new IntegerFieldValue(lower)), constraints)
-                ).generateCandidates(lower, higher));
+                ).generateCandidateValues(lower, higher));
     }
 
     private TimeNode timeNodeAlways(final CronFieldName name, final int lower, final int higher) {
         return new TimeNode(
                 FieldValueGeneratorFactory.forCronField(
                         new CronField(name, always(), getConstraint(name))
-                ).generateCandidates(lower, higher));
+                ).generateCandidateValues(lower, higher));
     }
 
     private void validate(final CronFieldName name, final CronField cronField) {
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.metrics.CronMetricsRegistry;
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinition;
+import com.cronutils.utils.Preconditions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded, thread safe cache of execution times, keyed by cron definition and expression.
+ * Lookups do not lock; once the cache is full, entries are evicted in insertion order, except that entries
+ * looked up since they were last considered get a second chance and are moved back to the end of the queue.
+ * Execution times are immutable, so a single instance is shared by all callers of equal crons.
+ */
+public final class ExecutionTimeCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final ExecutionTimeCache SHARED = new ExecutionTimeCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final Map<Key, Entry> executionTimes = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize - maximum number of execution times kept, must be positive
+     */
+    public ExecutionTimeCache(final int maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum size must be positive");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Cache used by {@link ExecutionTime#forCron(Cron)}.
+     *
+     * @return shared ExecutionTimeCache instance, never null
+     */
+    public static ExecutionTimeCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Provides execution time for given cron, building it if no equal cron was cached.
+     *
+     * @param cron - SingleCron or CompositeCron instance. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null
+     */
+    public ExecutionTime get(final Cron cron) {
+        Preconditions.checkNotNull(cron, "Cron must not be null");
+        final Key key = new Key(cron);
+        final Entry cached = executionTimes.get(key);
+        if (cached != null) {
+            //only written when unset, so that frequent hits do not contend on the flag
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            hits.increment();
+            CronMetricsRegistry.get().cacheHit();
+            return cached.executionTime;
+        }
+        misses.increment();
+        CronMetricsRegistry.get().cacheMiss();
+        //built outside the map, since composite crons look up their members
+        final ExecutionTime executionTime = ExecutionTimeBuilder.build(cron);
+        final Entry previous = executionTimes.putIfAbsent(key, new Entry(executionTime));
+        if (previous != null) {
+            return previous.executionTime;
+        }
+        insertionOrder.add(key);
+        while (executionTimes.size() > maximumSize) {
+            final Key eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            final Entry entry = executionTimes.get(eldest);
+            if (entry != null && entry.referenced) {
+                entry.referenced = false;
+                insertionOrder.add(eldest);
+            } else if (entry != null && executionTimes.remove(eldest, entry)) {
+                evictions.increment();
+            }
+        }
+        return executionTime;
+    }
+
+    /**
+     * Removes all cached execution times. Statistics are kept.
+     */
+    public void clear() {
+        executionTimes.clear();
+        insertionOrder.clear();
+    }
+
+    public int size() {
+        return executionTimes.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ExecutionTimeCache{size=%d, maximumSize=%d, hits=%d, misses=%d, evictions=%d}",
+                size(), maximumSize, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private static final class Entry {
+        private final ExecutionTime executionTime;
+        private volatile boolean referenced;
+
+        private Entry(final ExecutionTime executionTime) {
+            this.executionTime = executionTime;
+        }
+    }
+
+    /**
+     * Cron definition and member expressions.
+     * Composite crons are keyed by their members, since their merged expression may be shared by different member sets.
+     */
+    private static final class Key {
+        private final CronDefinition cronDefinition;
+        private final List<String> expressions;
+        private final boolean composite;
+        private final int hashCode;
+
+        private Key(final Cron cron) {
+            this.cronDefinition = cron.getCronDefinition();
+            this.composite = cron instanceof CompositeCron;
+            this.expressions = composite
+                    ? ((CompositeCron) cron).getCrons().stream().map(Cron::asString).collect(Collectors.toList())
+                    : Collections.singletonList(cron.asString());
+            this.hashCode = Objects.hash(cronDefinition, expressions, composite);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return hashCode == that.hashCode && composite == that.composite && expressions.equals(that.expressions)
+                    && Objects.equals(cronDefinition, that.cronDefinition);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Executions of a set of crons per time slot, as computed by {@link CronLoadProfiler}.
+ * Slots are consecutive and of the same size, starting at the start of the window.
+ */
+public final class LoadProfile {
+    private final List<Cron> crons;
+    private final List<List<SingleExecutionTime>> members;
+    private final ZoneId zone;
+    private final long startEpochSecond;
+    private final long endEpochSecond;
+    private final ChronoUnit resolution;
+    private final int slotSeconds;
+    private final int[] counts;
+    private volatile int[] sortedCounts;
+
+    LoadProfile(final List<Cron> crons, final List<List<SingleExecutionTime>> members, final ZoneId zone, final long startEpochSecond,
+                final long endEpochSecond, final ChronoUnit resolution, final int[] counts) {
+        this.crons = crons;
+        this.members = members;
+        this.zone = zone;
+        this.startEpochSecond = startEpochSecond;
+        this.endEpochSecond = endEpochSecond;
+        this.resolution = resolution;
+        this.slotSeconds = (int) resolution.getDuration().getSeconds();
+        this.counts = counts;
+    }
+
+    public List<Cron> getCrons() {
+        return crons;
+    }
+
+    public ChronoUnit getResolution() {
+        return resolution;
+    }
+
+    public int getSlotCount() {
+        return counts.length;
+    }
+
+    /**
+     * Start of given slot. The last slot may end before a whole slot elapses, at the end of the window.
+     *
+     * @param slot - slot index, from zero
+     * @return ZonedDateTime instance in the zone of the window, never null
+     */
+    public ZonedDateTime getSlotStart(final int slot) {
+        checkSlot(slot);
+        return ZonedDateTime.ofInstant(Instant.ofEpochSecond(startEpochSecond + (long) slot * slotSeconds), zone);
+    }
+
+    /**
+     * Number of executions in given slot.
+     *
+     * @param slot - slot index, from zero
+     * @return number of executions
+     */
+    public int getCount(final int slot) {
+        checkSlot(slot);
+        return counts[slot];
+    }
+
+    /**
+     * Number of executions per slot.
+     *
+     * @return a copy of the histogram, indexed by slot
+     */
+    public int[] getCounts() {
+        return counts.clone();
+    }
+
+    public long getTotalExecutions() {
+        long total = 0;
+        for (final int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Highest number of executions in a single slot.
+     *
+     * @return peak number of executions
+     */
+    public int getPeak() {
+        return sortedCounts()[counts.length - 1];
+    }
+
+    /**
+     * Start of the first slot reaching the peak.
+     *
+     * @return ZonedDateTime instance, never null
+     */
+    public ZonedDateTime getPeakStart() {
+        final int peak = getPeak();
+        int slot = 0;
+        while (counts[slot] != peak) {
+            slot++;
+        }
+        return getSlotStart(slot);
+    }
+
+    /**
+     * Number of executions not exceeded by given percentage of slots, using the nearest rank method.
+     *
+     * @param percentile - percentage of slots, greater than zero and at most 100
+     * @return number of executions
+     */
+    public int percentile(final double percentile) {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "Percentile must be greater than 0 and at most 100, got %s", percentile);
+        final int[] sorted = sortedCounts();
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Number of executions not exceeded by 99% of slots.
+     *
+     * @return number of executions
+     */
+    public int getP99() {
+        return percentile(99);
+    }
+
+    /**
+     * Slots with most executions, with the crons executing in each of them.
+     * Slots with the same number of executions are sorted by time.
+     *
+     * @param limit - maximum number of spikes, greater than zero
+     * @return spikes sorted by decreasing number of executions, never null
+     */
+    public List<Spike> getSpikes(final int limit) {
+        Preconditions.checkArgument(limit > 0, "Limit must be greater than zero");
+        final Comparator<Integer> busiestFirst = Comparator.<Integer>comparingInt(slot -> counts[slot]).reversed().thenComparingInt(slot -> slot);
+        //keeps the busiest slots seen so far, with the least busy one on top
+        final PriorityQueue<Integer> busiest = new PriorityQueue<>(busiestFirst.reversed());
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] == 0) {
+                continue;
+            }
+            if (busiest.size() < limit) {
+                busiest.add(slot);
+            } else if (busiestFirst.compare(slot, busiest.peek()) < 0) {
+                busiest.poll();
+                busiest.add(slot);
+            }
+        }
+        final List<Integer> slots = new ArrayList<>(busiest);
+        slots.sort(busiestFirst);
+        final List<Spike> spikes = new ArrayList<>(slots.size());
+        for (final int slot : slots) {
+            spikes.add(new Spike(getSlotStart(slot), counts[slot], contributors(slot)));
+        }
+        return spikes;
+    }
+
+    /**
+     * Crons counted at least once in given slot. Executions are counted as in the histogram,
+     * within the window and once for local times repeated by daylight saving time.
+     */
+    private List<Cron> contributors(final int slot) {
+        final long slotStart = startEpochSecond + (long) slot * slotSeconds;
+        final long slotEnd = Math.min(slotStart + slotSeconds, endEpochSecond);
+        final ZoneRules rules = zone.getRules();
+        final List<Cron> contributors = new ArrayList<>();
+        for (int i = 0; i < crons.size(); i++) {
+            if (new ExecutionCounter(members.get(i)).count(slotStart, slotEnd, rules) > 0) {
+                contributors.add(crons.get(i));
+            }
+        }
+        return Collections.unmodifiableList(contributors);
+    }
+
+    private int[] sortedCounts() {
+        int[] sorted = sortedCounts;
+        if (sorted == null) {
+            sorted = counts.clone();
+            Arrays.sort(sorted);
+            sortedCounts = sorted;
+        }
+        return sorted;
+    }
+
+    private void checkSlot(final int slot) {
+        Preconditions.checkArgument(slot >= 0 && slot < counts.length, "Slot must be between 0 and %s, got %s", counts.length - 1, slot);
+    }
+
+    /**
+     * A slot among the busiest ones, with the crons executing in it.
+     */
+    public static final class Spike {
+        private final ZonedDateTime start;
+        private final int count;
+        private final List<Cron> crons;
+
+        private Spike(final ZonedDateTime start, final int count, final List<Cron> crons) {
+            this.start = start;
+            this.count = count;
+            this.crons = crons;
+        }
+
+        public ZonedDateTime getStart() {
+            return start;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public List<Cron> getCrons() {
+            return crons;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Spike{start=%s, count=%s, crons=%s}", start, count, crons.size());
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
+
+import static com.cronutils.model.time.ExecutionTime.NO_EXECUTION;
+
+/**
+ * Searches executions over field bitmasks, in local time.
+ * Local times are expressed as seconds from 1970-01-01T00:00:00 on the local time line, and dates are
+ * converted arithmetically, so that no date time instances are created during the search.
+ */
+final class LocalTimeSearch {
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private LocalTimeSearch() {
+    }
+
+    /**
+     * Provides the first local second strictly after given one matched by the execution time.
+     *
+     * @param executionTime - execution time to evaluate
+     * @param localSecond   - local seconds from epoch
+     * @return local seconds from epoch, or {@link ExecutionTime#NO_EXECUTION}
+     */
+    static long next(final SingleExecutionTime executionTime, final long localSecond) {
+        final CanonicalCron canonical = executionTime.canonical();
+        final long hours = canonical.getHours();
+        final long minutes = canonical.getMinutes();
+        final long seconds = canonical.getSeconds();
+        final long months = canonical.getMonths();
+        final long start = localSecond + 1;
+        final long startDay = Math.floorDiv(start, SECONDS_PER_DAY);
+        final int startSecondOfDay = Math.floorMod(start, SECONDS_PER_DAY);
+        final long startDate = civilFromDays(startDay);
+        final int startYear = year(startDate);
+        final int lastYear = canonical.hasYearRestriction()
+                ? canonical.lastYear()
+                : startYear + CronOverlap.GREGORIAN_CYCLE_YEARS;
+
+        for (int year = canonical.nextYear(startYear); year >= 0 && year <= lastYear; year = canonical.nextYear(year + 1)) {
+            final boolean isStartYear = year == startYear;
+            for (int month = nextBit(months, isStartYear ? month(startDate) : 1); month > 0 && month <= 12; month = nextBit(months, month + 1)) {
+                final long days = executionTime.daysOfMonthMask(year, month);
+                final boolean isStartMonth = isStartYear && month == month(startDate);
+                for (int day = nextBit(days, isStartMonth ? day(startDate) : 1); day > 0; day = nextBit(days, day + 1)) {
+                    final boolean isStartDay = isStartMonth && day == day(startDate);
+                    final int secondOfDay = nextSecondOfDay(hours, minutes, seconds, isStartDay ? startSecondOfDay : 0);
+                    if (secondOfDay >= 0) {
+                        return daysFromCivil(year, month, day) * SECONDS_PER_DAY + secondOfDay;
+                    }
+                }
+            }
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Provides the last local second strictly before given one matched by the execution time.
+     *
+     * @param executionTime - execution time to evaluate
+     * @param localSecond   - local seconds from epoch
+     * @return local seconds from epoch, or {@link ExecutionTime#NO_EXECUTION}
+     */
+    static long previous(final SingleExecutionTime executionTime, final long localSecond) {
+        final CanonicalCron canonical = executionTime.canonical();
+        final long hours = canonical.getHours();
+        final long minutes = canonical.getMinutes();
+        final long seconds = canonical.getSeconds();
+        final long months = canonical.getMonths();
+        final long start = localSecond - 1;
+        final long startDay = Math.floorDiv(start, SECONDS_PER_DAY);
+        final int startSecondOfDay = Math.floorMod(start, SECONDS_PER_DAY);
+        final long startDate = civilFromDays(startDay);
+        final int startYear = year(startDate);
+        final int firstYear = canonical.hasYearRestriction()
+                ? canonical.firstYear()
+                : Math.max(startYear - CronOverlap.GREGORIAN_CYCLE_YEARS, 0);
+
+        for (int year = canonical.previousYear(startYear); year >= firstYear; year = canonical.previousYear(year - 1)) {
+            final boolean isStartYear = year == startYear;
+            for (int month = previousBit(months, isStartYear ? month(startDate) : 12); month > 0; month = previousBit(months, month - 1)) {
+                final long days = executionTime.daysOfMonthMask(year, month);
+                final boolean isStartMonth = isStartYear && month == month(startDate);
+                for (int day = previousBit(days, isStartMonth ? day(startDate) : 31); day > 0; day = previousBit(days, day - 1)) {
+                    final boolean isStartDay = isStartMonth && day == day(startDate);
+                    final int secondOfDay = previousSecondOfDay(hours, minutes, seconds, isStartDay ? startSecondOfDay : SECONDS_PER_DAY - 1);
+                    if (secondOfDay >= 0) {
+                        return daysFromCivil(year, month, day) * SECONDS_PER_DAY + secondOfDay;
+                    }
+                }
+            }
+        }
+        return NO_EXECUTION;
+    }
+
+    /**
+     * Sets bit i of given output for each date matched by the execution time. Bits of dates not matched are left untouched.
+     * The zone offset is only looked up again when a date falls outside the offset period of the previous one,
+     * and the day fields are only evaluated again when a date falls on another day.
+     *
+     * @param executionTime - execution time to evaluate
+     * @param epochSeconds  - dates as seconds from epoch
+     * @param rules         - rules of the zone the cron is evaluated in
+     * @param out           - BitSet receiving the result
+     */
+    static void matchMask(final SingleExecutionTime executionTime, final long[] epochSeconds, final ZoneRules rules, final BitSet out) {
+        final CanonicalCron canonical = executionTime.canonical();
+        final long hours = canonical.getHours();
+        final long minutes = canonical.getMinutes();
+        final long seconds = canonical.getSeconds();
+        final long months = canonical.getMonths();
+        final boolean fixedOffset = rules.isFixedOffset();
+        long periodStart = 0;
+        long periodEnd = -1;
+        int offset = 0;
+        long cachedDay = Long.MIN_VALUE;
+        boolean dayMatches = false;
+        int cachedYearMonth = Integer.MIN_VALUE;
+        long days = 0;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            final long epochSecond = epochSeconds[i];
+            if (epochSecond < periodStart || epochSecond >= periodEnd) {
+                final Instant instant = Instant.ofEpochSecond(epochSecond);
+                offset = rules.getOffset(instant).getTotalSeconds();
+                if (fixedOffset) {
+                    periodStart = Long.MIN_VALUE;
+                    periodEnd = Long.MAX_VALUE;
+                } else {
+                    final ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+                    final ZoneOffsetTransition next = rules.nextTransition(instant);
+                    periodStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+                    periodEnd = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+                }
+            }
+            final long local = epochSecond + offset;
+            final long epochDay = Math.floorDiv(local, SECONDS_PER_DAY);
+            if (epochDay != cachedDay) {
+                cachedDay = epochDay;
+                final long date = civilFromDays(epochDay);
+                final int year = year(date);
+                final int month = month(date);
+                dayMatches = false;
+                if (canonical.isYearMatch(year) && (months >>> month & 1) != 0) {
+                    final int yearMonth = year * 12 + month;
+                    if (yearMonth != cachedYearMonth) {
+                        cachedYearMonth = yearMonth;
+                        days = executionTime.daysOfMonthMask(year, month);
+                    }
+                    dayMatches = (days >>> day(date) & 1) != 0;
+                }
+            }
+            if (dayMatches) {
+                final int secondOfDay = (int) (local - epochDay * SECONDS_PER_DAY);
+                if ((hours >>> (secondOfDay / 3600) & 1) != 0 && (minutes >>> (secondOfDay / 60 % 60) & 1) != 0
+                        && (seconds >>> (secondOfDay % 60) & 1) != 0) {
+                    out.set(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Smallest second of day at or after given one, matching all three masks.
+     *
+     * @return second of day or -1 if none remain in this day
+     */
+    static int nextSecondOfDay(final long hours, final long minutes, final long seconds, final int from) {
+        final int fromHour = from / 3600;
+        final int fromMinute = from / 60 % 60;
+        final int fromSecond = from % 60;
+        for (int hour = nextBit(hours, fromHour); hour >= 0 && hour < 24; hour = nextBit(hours, hour + 1)) {
+            final boolean sameHour = hour == fromHour;
+            for (int minute = nextBit(minutes, sameHour ? fromMinute : 0); minute >= 0 && minute < 60; minute = nextBit(minutes, minute + 1)) {
+                final int second = nextBit(seconds, sameHour && minute == fromMinute ? fromSecond : 0);
+                if (second >= 0 && second < 60) {
+                    return hour * 3600 + minute * 60 + second;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Greatest second of day at or before given one, matching all three masks.
+     *
+     * @return second of day or -1 if none precede it in this day
+     */
+    static int previousSecondOfDay(final long hours, final long minutes, final long seconds, final int from) {
+        final int fromHour = from / 3600;
+        final int fromMinute = from / 60 % 60;
+        final int fromSecond = from % 60;
+        for (int hour = previousBit(hours, Math.min(fromHour, 23)); hour >= 0; hour = previousBit(hours, hour - 1)) {
+            final boolean sameHour = hour == fromHour;
+            for (int minute = previousBit(minutes, sameHour ? fromMinute : 59); minute >= 0; minute = previousBit(minutes, minute - 1)) {
+                final int second = previousBit(seconds, sameHour && minute == fromMinute ? fromSecond : 59);
+                if (second >= 0) {
+                    return hour * 3600 + minute * 60 + second;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the lowest bit set at or above given index.
+     *
+     * @return bit index or -1 if none
+     */
+    static int nextBit(final long mask, final int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        final long remaining = mask & (-1L << Math.max(from, 0));
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * Index of the highest bit set at or below given index.
+     *
+     * @return bit index or -1 if none
+     */
+    static int previousBit(final long mask, final int from) {
+        if (from < 0) {
+            return -1;
+        }
+        final long remaining = from >= Long.SIZE - 1 ? mask : mask & ((1L << (from + 1)) - 1);
+        return remaining == 0 ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(remaining);
+    }
+
+    /**
+     * Days from 1970-01-01 to given date in the proleptic Gregorian calendar.
+     */
+    static long daysFromCivil(final int year, final int month, final int day) {
+        final long y = month <= 2 ? year - 1L : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Date for given days from 1970-01-01, packed as {@code year * 10000 + month * 100 + day}.
+     * See {@link #year(long)}, {@link #month(long)} and {@link #day(long)}.
+     */
+    static long civilFromDays(final long epochDay) {
+        final long z = epochDay + 719_468;
+        final long era = Math.floorDiv(z, 146_097);
+        final long dayOfEra = z - era * 146_097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        final long month = mp < 10 ? mp + 3 : mp - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10_000 + month * 100 + day;
+    }
+
+    static int year(final long civil) {
+        return (int) Math.floorDiv(civil, 10_000);
+    }
+
+    static int month(final long civil) {
+        return Math.floorMod(civil, 10_000) / 100;
+    }
+
+    static int day(final long civil) {
+        return Math.floorMod(civil, 100);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.model.Cron;
+
+import java.util.List;
+
+/**
+ * Crons shifted by {@link CronRebalancer}, with the busiest minute and second of the hour before and after the shifts.
+ */
+public final class RebalancePlan {
+    private final List<Cron> crons;
+    private final int peakBefore;
+    private final int peakAfter;
+    private final int secondPeakBefore;
+    private final int secondPeakAfter;
+
+    RebalancePlan(final List<Cron> crons, final int peakBefore, final int peakAfter, final int secondPeakBefore, final int secondPeakAfter) {
+        this.crons = crons;
+        this.peakBefore = peakBefore;
+        this.peakAfter = peakAfter;
+        this.secondPeakBefore = secondPeakBefore;
+        this.secondPeakAfter = secondPeakAfter;
+    }
+
+    /**
+     * Rebalanced crons, in the order they were given. Crons that were not moved are the given instances.
+     *
+     * @return unmodifiable list, never null
+     */
+    public List<Cron> getCrons() {
+        return crons;
+    }
+
+    /**
+     * Highest number of crons executing at a same minute of the hour, before rebalancing.
+     *
+     * @return peak number of crons
+     */
+    public int getPeakBefore() {
+        return peakBefore;
+    }
+
+    /**
+     * Highest number of crons executing at a same minute of the hour, after rebalancing.
+     *
+     * @return peak number of crons
+     */
+    public int getPeakAfter() {
+        return peakAfter;
+    }
+
+    /**
+     * Highest number of crons executing at a same second of the hour, before rebalancing.
+     *
+     * @return peak number of crons
+     */
+    public int getSecondPeakBefore() {
+        return secondPeakBefore;
+    }
+
+    /**
+     * Highest number of crons executing at a same second of the hour, after rebalancing.
+     *
+     * @return peak number of crons
+     */
+    public int getSecondPeakAfter() {
+        return secondPeakAfter;
+    }
+}
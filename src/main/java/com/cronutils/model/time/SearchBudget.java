@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import com.cronutils.metrics.CronMetricsRegistry;
+import com.cronutils.utils.Preconditions;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the work done by a single next or last execution search.
+ * A search gives up, returning no execution, once it took the maximum number of steps
+ * or once candidates are further than the maximum horizon from the reference date.
+ * Limits are immutable; each budget counts how many searches exceeded them, so that callers can monitor them.
+ */
+public final class SearchBudget {
+    static final int DEFAULT_MAX_ITERATIONS = 100_000;
+    //any satisfiable cron without year restrictions executes within a Gregorian cycle
+    static final Duration DEFAULT_MAX_HORIZON = ChronoUnit.YEARS.getDuration().multipliedBy(CronOverlap.GREGORIAN_CYCLE_YEARS);
+
+    private static final SearchBudget DEFAULT = new SearchBudget(DEFAULT_MAX_ITERATIONS, DEFAULT_MAX_HORIZON);
+
+    private final int maxIterations;
+    private final Duration maxHorizon;
+    private final long maxHorizonSeconds;
+    private final LongAdder iterationLimitHits = new LongAdder();
+    private final LongAdder horizonLimitHits = new LongAdder();
+
+    private SearchBudget(final int maxIterations, final Duration maxHorizon) {
+        this.maxIterations = maxIterations;
+        this.maxHorizon = maxHorizon;
+        this.maxHorizonSeconds = maxHorizon.getSeconds();
+    }
+
+    /**
+     * Budget used when none is given.
+     *
+     * @return shared SearchBudget instance, never null
+     */
+    public static SearchBudget defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param maxIterations - maximum number of search steps, must be positive
+     * @param maxHorizon    - maximum distance from the reference date, must be positive. If null, a NullPointerException will be raised.
+     * @return SearchBudget instance, never null
+     */
+    public static SearchBudget of(final int maxIterations, final Duration maxHorizon) {
+        Preconditions.checkArgument(maxIterations > 0, "Maximum iterations must be positive");
+        Preconditions.checkNotNull(maxHorizon, "Maximum horizon must not be null");
+        Preconditions.checkArgument(!maxHorizon.isNegative() && !maxHorizon.isZero(), "Maximum horizon must be positive");
+        return new SearchBudget(maxIterations, maxHorizon);
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public Duration getMaxHorizon() {
+        return maxHorizon;
+    }
+
+    /**
+     * Number of searches that gave up after taking the maximum number of steps.
+     *
+     * @return count since this budget was created
+     */
+    public long getIterationLimitHits() {
+        return iterationLimitHits.sum();
+    }
+
+    /**
+     * Number of searches that gave up after moving past the maximum horizon.
+     *
+     * @return count since this budget was created
+     */
+    public long getHorizonLimitHits() {
+        return horizonLimitHits.sum();
+    }
+
+    boolean isBeyondHorizon(final ZonedDateTime reference, final ZonedDateTime candidate) {
+        return Math.abs(candidate.toEpochSecond() - reference.toEpochSecond()) > maxHorizonSeconds;
+    }
+
+    void iterationLimitHit() {
+        iterationLimitHits.increment();
+        CronMetricsRegistry.get().iterationLimitHit();
+    }
+
+    void horizonLimitHit() {
+        horizonLimitHits.increment();
+        CronMetricsRegistry.get().horizonLimitHit();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchBudget{maxIterations=%d, maxHorizon=%s, iterationLimitHits=%d, horizonLimitHits=%d}",
+                maxIterations, maxHorizon, getIterationLimitHits(), getHorizonLimitHits());
+    }
+}
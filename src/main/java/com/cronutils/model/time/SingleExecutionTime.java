@@ -14,6 +14,8 @@
 package com.cronutils.model.time;
 
 import com.cronutils.mapper.WeekDay;
+import com.cronutils.metrics.CronMetrics;
+import com.cronutils.metrics.CronMetricsRegistry;
 import com.cronutils.model.definition.CronDefinition;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.CronFieldName;
@@ -24,6 +26,7 @@ import com.cronutils.model.field.expression.QuestionMark;
 import com.cronutils.model.time.generator.FieldValueGenerator;
 import com.cronutils.model.time.generator.FieldValueGeneratorFactory;
 import com.cronutils.model.time.generator.NoSuchValueException;
+import com.cronutils.utils.BusinessCalendar;
 import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.VisibleForTesting;
 
@@ -32,18 +35,16 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 import static com.cronutils.model.field.CronFieldName.*;
 import static com.cronutils.model.field.value.SpecialChar.QUESTION_MARK;
 import static com.cronutils.model.time.generator.FieldValueGeneratorFactory.*;
-import static com.cronutils.utils.Predicates.not;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
@@ -52,12 +53,13 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  * Calculates execution time given a cron pattern.
  */
 public class SingleExecutionTime implements ExecutionTime {
-    private static final int MAX_ITERATIONS = 100_000;
-
     private static final LocalTime MAX_SECONDS = LocalTime.MAX.truncatedTo(SECONDS);
 
+    //reported to metrics, null when built without a cron
+    private final String expression;
     private final CronDefinition cronDefinition;
     private final FieldValueGenerator yearsValueGenerator;
+    private final CronField yearsValueCronField;
     private final CronField daysOfWeekCronField;
     private final CronField daysOfMonthCronField;
     private final CronField daysOfYearCronField;
@@ -66,12 +68,26 @@ public class SingleExecutionTime implements ExecutionTime {
     private final TimeNode hours;
     private final TimeNode minutes;
     private final TimeNode seconds;
+    private final BusinessCalendar businessCalendar;
+
+    private volatile CanonicalCron canonical;
+    private volatile DayMask dayMask;
+    private volatile Boolean satisfiable;
 
     @VisibleForTesting
     SingleExecutionTime(final CronDefinition cronDefinition, final CronField yearsValueCronField, final CronField daysOfWeekCronField,
             final CronField daysOfMonthCronField, final CronField daysOfYearCronField, final TimeNode months, final TimeNode hours,
             final TimeNode minutes, final TimeNode seconds) {
+        this(null, cronDefinition, yearsValueCronField, daysOfWeekCronField, daysOfMonthCronField, daysOfYearCronField,
+                months, hours, minutes, seconds);
+    }
+
+    SingleExecutionTime(final String expression, final CronDefinition cronDefinition, final CronField yearsValueCronField,
+            final CronField daysOfWeekCronField, final CronField daysOfMonthCronField, final CronField daysOfYearCronField,
+            final TimeNode months, final TimeNode hours, final TimeNode minutes, final TimeNode seconds) {
+        this.expression = expression;
         this.cronDefinition = Preconditions.checkNotNull(cronDefinition);
+        this.yearsValueCronField = yearsValueCronField;
         if(cronDefinition.containsFieldDefinition(CronFieldName.YEAR)){
             if(!cronDefinition.getFieldDefinition(CronFieldName.YEAR).isOptional()){
                 Preconditions.checkNotNull(yearsValueCronField);
@@ -91,6 +107,24 @@ public class SingleExecutionTime implements ExecutionTime {
         this.hours = Preconditions.checkNotNull(hours);
         this.minutes = Preconditions.checkNotNull(minutes);
         this.seconds = Preconditions.checkNotNull(seconds);
+        this.businessCalendar = null;
+    }
+
+    private SingleExecutionTime(final SingleExecutionTime executionTime, final BusinessCalendar businessCalendar) {
+        this.expression = executionTime.expression;
+        this.cronDefinition = executionTime.cronDefinition;
+        this.yearsValueCronField = executionTime.yearsValueCronField;
+        this.yearsValueGenerator = executionTime.yearsValueGenerator;
+        this.daysOfWeekCronField = executionTime.daysOfWeekCronField;
+        this.daysOfMonthCronField = executionTime.daysOfMonthCronField;
+        this.daysOfYearCronField = executionTime.daysOfYearCronField;
+        this.months = executionTime.months;
+        this.hours = executionTime.hours;
+        this.minutes = executionTime.minutes;
+        this.seconds = executionTime.seconds;
+        this.businessCalendar = businessCalendar;
+        this.canonical = executionTime.canonical();
+        this.dayMask = executionTime.dayMask();
     }
 
     /**
@@ -100,22 +134,38 @@ public class SingleExecutionTime implements ExecutionTime {
      * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
      */
     public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date) {
+        return nextExecution(date, SearchBudget.defaults());
+    }
+
+    /**
+     * Provide nearest date for next execution, giving up once the search exceeds given budget.
+     *
+     * @param date   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @param budget - SearchBudget instance. If null, a NullPointerException will be raised.
+     * @return Optional ZonedDateTime instance, never null. Contains next execution time or empty.
+     */
+    @Override
+    public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date, final SearchBudget budget) {
         Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        if (!isSatisfiable()) {
+            return Optional.empty();
+        }
         try {
-            ZonedDateTime nextMatch = nextClosestMatch(date);
+            ZonedDateTime nextMatch = nextClosestMatch(date, budget);
             if (nextMatch.equals(date)) {
                 // When we're at the exact match, we need to find the next one
-                nextMatch = nextClosestMatch(date.plusSeconds(1));
+                nextMatch = nextClosestMatch(date.plusSeconds(1), budget);
 
                 // Handle DST transitions
                 if (nextMatch.getOffset().compareTo(date.getOffset()) > 0) {
-                    final Optional<ZonedDateTime> nextNextExecution = nextExecution(nextMatch);
+                    final Optional<ZonedDateTime> nextNextExecution = nextExecution(nextMatch, budget);
 
                     if (nextNextExecution.isPresent()) {
                         final boolean lessFrequentThan1Hour = (Duration.between(nextMatch, nextNextExecution.get()).toHours() > 1);
                         if (lessFrequentThan1Hour) {
                             // Avoid duplicate execution during DST overlap
-                            nextMatch = nextClosestMatch(date.plusSeconds(1).plusHours(1));
+                            nextMatch = nextClosestMatch(date.plusSeconds(1).plusHours(1), budget);
                         }
                     }
                 }
@@ -123,7 +173,7 @@ public class SingleExecutionTime implements ExecutionTime {
                 // If we're crossing a minute boundary, ensure we get the first valid second
                 // in the next minute by using truncatedTo(MINUTES)
                 ZonedDateTime startOfNextMinute = date.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
-                nextMatch = nextClosestMatch(startOfNextMinute);
+                nextMatch = nextClosestMatch(startOfNextMinute, budget);
             }
             return Optional.of(nextMatch);
         }
@@ -137,59 +187,74 @@ public class SingleExecutionTime implements ExecutionTime {
      * If date is match, will return this date.
      *
      * @param date - reference ZonedDateTime instance - never null;
+     * @param budget - limits of the search - never null;
      * @return ZonedDateTime instance, never null. Value obeys logic specified above.
-     * @throws NoSuchValueException if there is no potential next year
+     * @throws NoSuchValueException if there is no potential next year, or the budget was exceeded
      */
-    private ZonedDateTime nextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        ExecutionTimeResult result = new ExecutionTimeResult(date, false);
-        for (int i = 0; i < MAX_ITERATIONS; i++) {
-            result = potentialNextClosestMatch(result.getTime());
-            if (result.isMatch()) {
-                return result.getTime();
+    private ZonedDateTime nextClosestMatch(final ZonedDateTime date, final SearchBudget budget) throws NoSuchValueException {
+        final CronMetrics metrics = CronMetricsRegistry.get();
+        //read once, since metrics may be enabled while searching
+        final boolean measured = metrics.isEnabled();
+        final long start = measured ? System.nanoTime() : 0L;
+        int iterations = 0;
+        ZonedDateTime match = null;
+        try {
+            ExecutionTimeResult result = new ExecutionTimeResult(date, false);
+            while (iterations < budget.getMaxIterations()) {
+                iterations++;
+                result = potentialNextClosestMatch(result.getTime());
+                if (result.isMatch()) {
+                    match = result.getTime();
+                    return match;
+                }
+                if (budget.isBeyondHorizon(date, result.getTime())) {
+                    budget.horizonLimitHit();
+                    throw new NoSuchValueException();
+                }
             }
-            if (result.getTime().getYear() - date.getYear() > 100) {
-                throw new NoSuchValueException();
+            budget.iterationLimitHit();
+            throw new NoSuchValueException();
+        } finally {
+            if (measured) {
+                metrics.searched(CronMetrics.SearchDirection.NEXT, expression, date, iterations, System.nanoTime() - start, match);
             }
         }
-
-        throw new NoSuchValueException();
     }
 
     private ExecutionTimeResult potentialNextClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        final List<Integer> year = yearsValueGenerator.generateCandidates(date.getYear(), date.getYear()).stream().filter(d->d>=date.getYear()).collect(Collectors.toList());
-        final int lowestMonth = months.getValues().get(0);
-        final int lowestHour = hours.getValues().get(0);
-        final int lowestMinute = minutes.getValues().get(0);
-        final int lowestSecond = seconds.getValues().get(0);
+        final int lowestMonth = months.first();
+        final int lowestHour = hours.first();
+        final int lowestMinute = minutes.first();
+        final int lowestSecond = seconds.first();
 
-        if (year.isEmpty()) {
+        if (!yearsValueGenerator.isMatch(date.getYear())) {
             return getNextPotentialYear(date, lowestMonth, lowestHour, lowestMinute, lowestSecond);
         }
 
-        if (!months.getValues().contains(date.getMonthValue())) {
+        if (!months.contains(date.getMonthValue())) {
             return getNextPotentialMonth(date, lowestHour, lowestMinute, lowestSecond);
         }
 
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, date);
+        final Optional<TimeNode> optionalDays = generateDays(date);
         if (!optionalDays.isPresent()) {
-            return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
+            return new ExecutionTimeResult(toBeginOfNextMonthWithDays(date), false);
         }
         final TimeNode node = optionalDays.get();
 
-        if (!node.getValues().contains(date.getDayOfMonth())) {
+        if (!node.contains(date.getDayOfMonth())) {
             return getNextPotentialDayOfMonth(date, lowestHour, lowestMinute, lowestSecond, node);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
             return getNextPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
             return getNextPotentialMinute(date);
         }
         // Rationale for rounding up the nanos:
         // If nanos != 0, then the matched seconds field time is already in the past.
         // Additionally, all other fields return the next match with nanos set to zero
         ZonedDateTime dateWithRoundedUpNanos = date.getNano() == 0 ? date : date.plusNanos(1_000_000_000 - date.getNano());
-        if (!seconds.getValues().contains(dateWithRoundedUpNanos.getSecond())) {
+        if (!seconds.contains(dateWithRoundedUpNanos.getSecond())) {
             return getNextPotentialSecond(dateWithRoundedUpNanos);
         }
 
@@ -203,37 +268,36 @@ public class SingleExecutionTime implements ExecutionTime {
                                                      final int lowestSecond)
                                                      throws NoSuchValueException {
         final int newYear = yearsValueGenerator.generateNextValue(date.getYear());
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, ZonedDateTime.of(
+        final Optional<TimeNode> optionalDays = generateDays(ZonedDateTime.of(
                 LocalDate.of(newYear, lowestMonth, 1),
                 LocalTime.MIN,
                 date.getZone())
         );
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(ZonedDateTime.of(
-                    LocalDate.of(newYear, lowestMonth, days.get(0)),
+                    LocalDate.of(newYear, lowestMonth, optionalDays.get().first()),
                     LocalTime.of(lowestHour, lowestMinute, lowestSecond), date.getZone()), false);
         } else {
-            return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
+            return new ExecutionTimeResult(toBeginOfNextMonthWithDays(date), false);
         }
     }
 
-    private ExecutionTimeResult getNextPotentialMonth(final ZonedDateTime date, final int lowestHour, final int lowestMinute, final int lowestSecond) {
+    private ExecutionTimeResult getNextPotentialMonth(final ZonedDateTime date, final int lowestHour, final int lowestMinute, final int lowestSecond)
+            throws NoSuchValueException {
         NearestValue nearestValue;
         nearestValue = months.getNextValue(date.getMonthValue(), 0);
         final int nextMonths = nearestValue.getValue();
         if (nearestValue.getShifts() > 0) {
             return new ExecutionTimeResult(date.truncatedTo(DAYS).withMonth(1).withDayOfMonth(1).plusYears(nearestValue.getShifts()), false);
         }
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition,
+        final Optional<TimeNode> optionalDays = generateDays(
                 ZonedDateTime.of(LocalDateTime.of(date.getYear(), nextMonths, 1, 0, 0), date.getZone()));
         if (optionalDays.isPresent()) {
-            final List<Integer> days = optionalDays.get().getValues();
             return new ExecutionTimeResult(
-                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(days.get(0))
+                    date.truncatedTo(SECONDS).withMonth(nextMonths).withDayOfMonth(optionalDays.get().first())
                             .with(LocalTime.of(lowestHour, lowestMinute, lowestSecond)), false);
         } else {
-            return new ExecutionTimeResult(toBeginOfNextMonth(date), false);
+            return new ExecutionTimeResult(toBeginOfNextMonthWithDays(date), false);
         }
     }
 
@@ -250,105 +314,155 @@ public class SingleExecutionTime implements ExecutionTime {
                 .with(LocalTime.of(lowestHour, lowestMinute, lowestSecond)), false);
     }
 
-    private ExecutionTimeResult getNextPotentialHour(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getNextPotentialHour(final ZonedDateTime date) {
         return getNextPotentialValue(date, hours, ChronoField.HOUR_OF_DAY);
     }
 
-    private ExecutionTimeResult getNextPotentialMinute(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getNextPotentialMinute(final ZonedDateTime date) {
         return getNextPotentialValue(date, minutes, ChronoField.MINUTE_OF_HOUR);
     }
 
-    private ExecutionTimeResult getNextPotentialSecond(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getNextPotentialSecond(final ZonedDateTime date) {
         return getNextPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
+    /**
+     * Jumps to the next value of given field, truncating lower fields.
+     * If no greater value exists, carries into the next unit of the higher field and takes the lowest value.
+     */
     private static ExecutionTimeResult getNextPotentialValue(
             final ZonedDateTime date,
             final TimeNode node,
-            final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
-
-        TemporalUnit unit = field.getBaseUnit();
-
-        long maximum = field.range().getMaximum();
-        long minimum = field.range().getMinimum();
-        long range = maximum - minimum;
-
-        ZonedDateTime newDate = date;
-        for (long i = 0; i < 2 * range; i++) {
-            newDate = newDate.plus(1, unit);
+            final TemporalField field) {
+        final TemporalUnit unit = field.getBaseUnit();
+        final NearestValue nearestValue = node.getNextValue(date.get(field), 0);
+        final ZonedDateTime newDate;
+        if (nearestValue.getShifts() > 0) {
+            final TemporalUnit higherUnit = field.getRangeUnit();
+            newDate = date.truncatedTo(higherUnit).plus(1, higherUnit).with(field, nearestValue.getValue());
+        } else {
+            newDate = date.with(field, nearestValue.getValue());
+        }
+        if (!newDate.isAfter(date)) {
+            // jump did not move forward, e.g. due to a zone offset change: advance one unit instead
+            return new ExecutionTimeResult(date.truncatedTo(unit).plus(1, unit), false);
+        }
+        return new ExecutionTimeResult(newDate.truncatedTo(unit), false);
+    }
 
-            if (values.contains(newDate.get(field))) {
-                newDate = newDate
-                        .truncatedTo(unit);
-                return new ExecutionTimeResult(newDate, false);
+    /**
+     * Skips months that cannot host an execution, because their year or month does not match or no day matches,
+     * so that sparse schedules (e.g. February 29th, 31st of month) do not crawl month by month.
+     *
+     * @param datetime - reference date
+     * @return start of the first month after the reference one that has matching days
+     * @throws NoSuchValueException if no such month exists
+     */
+    private ZonedDateTime toBeginOfNextMonthWithDays(final ZonedDateTime datetime) throws NoSuchValueException {
+        final long monthsMask = canonical().getMonths();
+        int year = datetime.getYear();
+        int month = datetime.getMonthValue() + 1;
+        int lastYear = Integer.MAX_VALUE;
+        while (year <= lastYear) {
+            if (!yearsValueGenerator.isMatch(year)) {
+                year = yearsValueGenerator.generateNextValue(year);
+                month = 1;
+                continue;
+            }
+            if (lastYear == Integer.MAX_VALUE) {
+                //days of week and month lengths repeat every Gregorian cycle
+                lastYear = year + CronOverlap.GREGORIAN_CYCLE_YEARS;
             }
+            for (int candidate = LocalTimeSearch.nextBit(monthsMask, month); candidate > 0 && candidate <= 12;
+                    candidate = LocalTimeSearch.nextBit(monthsMask, candidate + 1)) {
+                if (daysOfMonthMask(year, candidate) != 0) {
+                    return ZonedDateTime.of(year, candidate, 1, 0, 0, 0, 0, datetime.getZone());
+                }
+            }
+            year++;
+            month = 1;
         }
-
         throw new NoSuchValueException();
     }
 
-    private ZonedDateTime toBeginOfNextMonth(final ZonedDateTime datetime) {
-        return datetime.truncatedTo(DAYS).plusMonths(1).withDayOfMonth(1);
-    }
-
     /**
      * If date is not match, will return previous closest match.
      * If date is match, will return this date.
      *
      * @param date - reference ZonedDateTime instance - never null;
+     * @param budget - limits of the search - never null;
      * @return ZonedDateTime instance, never null. Value obeys logic specified above.
-     * @throws NoSuchValueException if there is not previous year
+     * @throws NoSuchValueException if there is not previous year, or the budget was exceeded
      */
-    private ZonedDateTime previousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
-        ExecutionTimeResult result = new ExecutionTimeResult(date, false);
-
-        for (int i = 0; i < MAX_ITERATIONS; i++) {
-            result = potentialPreviousClosestMatch(result.getTime());
-            if (result.isMatch()) {
-                return result.getTime();
+    private ZonedDateTime previousClosestMatch(final ZonedDateTime date, final SearchBudget budget) throws NoSuchValueException {
+        final CronMetrics metrics = CronMetricsRegistry.get();
+        //read once, since metrics may be enabled while searching
+        final boolean measured = metrics.isEnabled();
+        final long start = measured ? System.nanoTime() : 0L;
+        int iterations = 0;
+        ZonedDateTime match = null;
+        try {
+            ExecutionTimeResult result = new ExecutionTimeResult(date, false);
+            while (iterations < budget.getMaxIterations()) {
+                iterations++;
+                result = potentialPreviousClosestMatch(result.getTime());
+                if (result.isMatch()) {
+                    match = result.getTime();
+                    return match;
+                }
+                if (budget.isBeyondHorizon(date, result.getTime())) {
+                    budget.horizonLimitHit();
+                    throw new NoSuchValueException();
+                }
+            }
+            budget.iterationLimitHit();
+            throw new NoSuchValueException();
+        } finally {
+            if (measured) {
+                metrics.searched(CronMetrics.SearchDirection.PREVIOUS, expression, date, iterations, System.nanoTime() - start, match);
             }
         }
-        throw new NoSuchValueException();
     }
 
     private ExecutionTimeResult potentialPreviousClosestMatch(final ZonedDateTime date) throws NoSuchValueException {
         // Get all valid years up to the current year
-        final List<Integer> year;
+        final int[] years;
         if (cronDefinition.containsFieldDefinition(CronFieldName.YEAR)) {
-            year = yearsValueGenerator.generateCandidates(
+            years = yearsValueGenerator.generateCandidateValues(
                 cronDefinition.getFieldDefinition(CronFieldName.YEAR).getConstraints().getStartRange(),
                 date.getYear()
-            ).stream().filter(y -> y <= date.getYear()).collect(Collectors.toList());
+            );
         } else {
             // For cron expressions without a YEAR field (e.g. Unix crons), we use the current year
-            year = Collections.singletonList(date.getYear());
+            years = new int[] { date.getYear() };
         }
 
         // For the current date, get the valid days
-        final Optional<TimeNode> optionalDays = generateDays(cronDefinition, date);
+        final Optional<TimeNode> optionalDays = generateDays(date);
         
         // Get the highest values for each field
-        final int highestMonth = months.getValues().get(months.getValues().size() - 1);
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
+        final int highestMonth = months.last();
+        final int highestHour = hours.last();
+        final int highestMinute = minutes.last();
+        final int highestSecond = seconds.last();
 
         // Check each field from largest to smallest
-        if (!year.contains(date.getYear())) {
-            Optional<Integer> validPrevYear = year.stream().filter(y -> y < date.getYear()).max(Integer::compareTo);
-            if (validPrevYear.isPresent()) {
+        final int matchingYears = Arrays.binarySearch(years, date.getYear());
+        if (matchingYears < 0) {
+            //candidates are sorted, so the previous valid year precedes the insertion point
+            final int previousYearIndex = -matchingYears - 2;
+            if (previousYearIndex >= 0) {
                 // When moving to a previous year, we need to check the last valid day in the highest month
                 ZonedDateTime lastDateOfYear = ZonedDateTime.of(
-                    validPrevYear.get(), highestMonth,
+                    years[previousYearIndex], highestMonth,
                     1, // We'll adjust the day after checking the month's length
                     highestHour, highestMinute, highestSecond, 0,
                     date.getZone()
                 );
                 // Get valid days for this date
-                Optional<TimeNode> yearEndDays = generateDays(cronDefinition, lastDateOfYear);
+                Optional<TimeNode> yearEndDays = generateDays(lastDateOfYear);
                 if (yearEndDays.isPresent()) {
-                    int lastValidDay = yearEndDays.get().getValues().get(yearEndDays.get().getValues().size() - 1);
+                    int lastValidDay = yearEndDays.get().last();
                     ZonedDateTime result = lastDateOfYear.withDayOfMonth(Math.min(lastValidDay, lastDateOfYear.toLocalDate().lengthOfMonth()));
                     // If seconds are not part of the cron definition, truncate to minutes
                     if (!cronDefinition.containsFieldDefinition(CronFieldName.SECOND)) {
@@ -357,28 +471,28 @@ public class SingleExecutionTime implements ExecutionTime {
                     return new ExecutionTimeResult(result, false);
                 }
             }
-            return getPreviousPotentialYear(date, optionalDays.orElse(null), highestMonth, optionalDays.map(d -> d.getValues().get(d.getValues().size() - 1)).orElse(1), highestHour, highestMinute, highestSecond);
+            return getPreviousPotentialYear(date, optionalDays.orElse(null), highestMonth, optionalDays.map(TimeNode::last).orElse(1), highestHour, highestMinute, highestSecond);
         }
         
-        if (!months.getValues().contains(date.getMonthValue())) {
-            return getPreviousPotentialMonth(date, optionalDays.map(d -> d.getValues().get(d.getValues().size() - 1)).orElse(1), highestHour, highestMinute, highestSecond);
+        if (!months.contains(date.getMonthValue())) {
+            return getPreviousPotentialMonth(date, optionalDays.map(TimeNode::last).orElse(1), highestHour, highestMinute, highestSecond);
         }
 
-        if (!optionalDays.isPresent() || !optionalDays.get().getValues().stream().anyMatch(i -> i <= date.getDayOfMonth())) {
+        if (!optionalDays.isPresent() || optionalDays.get().first() > date.getDayOfMonth()) {
             return new ExecutionTimeResult(toEndOfPreviousMonth(date), false);
         }
 
         TimeNode days = optionalDays.get();
-        if (!days.getValues().contains(date.getDayOfMonth())) {
+        if (!days.contains(date.getDayOfMonth())) {
             return getPreviousPotentialDayOfMonth(date, days, highestHour, highestMinute, highestSecond);
         }
-        if (!hours.getValues().contains(date.getHour())) {
+        if (!hours.contains(date.getHour())) {
             return getPreviousPotentialHour(date);
         }
-        if (!minutes.getValues().contains(date.getMinute())) {
+        if (!minutes.contains(date.getMinute())) {
             return getPreviousPotentialMinute(date);
         }
-        if (!seconds.getValues().contains(date.getSecond())) {
+        if (!seconds.contains(date.getSecond())) {
             return getPreviousPotentialSecond(date);
         }
         // If seconds are not part of the cron definition, truncate to minutes
@@ -455,121 +569,276 @@ public class SingleExecutionTime implements ExecutionTime {
                 .with(LocalTime.of(highestHour, highestMinute, highestSecond)).truncatedTo(SECONDS), false);
     }
 
-    private ExecutionTimeResult getPreviousPotentialHour(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getPreviousPotentialHour(final ZonedDateTime date) {
         return getPreviousPotentialValue(date, hours, ChronoField.HOUR_OF_DAY);
     }
 
-    private ExecutionTimeResult getPreviousPotentialMinute(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getPreviousPotentialMinute(final ZonedDateTime date) {
         return getPreviousPotentialValue(date, minutes, ChronoField.MINUTE_OF_HOUR);
     }
 
-    private ExecutionTimeResult getPreviousPotentialSecond(final ZonedDateTime date) throws NoSuchValueException {
+    private ExecutionTimeResult getPreviousPotentialSecond(final ZonedDateTime date) {
         return getPreviousPotentialValue(date, seconds, ChronoField.SECOND_OF_MINUTE);
     }
 
+    /**
+     * Jumps to the end of the previous value of given field.
+     * If no smaller value exists, carries into the previous unit of the higher field and takes the highest value.
+     */
     private static ExecutionTimeResult getPreviousPotentialValue(
             final ZonedDateTime date,
             final TimeNode node,
-            final TemporalField field) throws NoSuchValueException {
-        Set<Integer> values = new HashSet<>(node.values);
-
-        TemporalUnit unit = field.getBaseUnit();
-
-        long maximum = field.range().getMaximum();
-        long minimum = field.range().getMinimum();
-        long range = maximum - minimum;
-
-        ZonedDateTime newDate = date;
-        for (long i = 0; i < 2 * range; i++) {
-            newDate = newDate.minus(1, unit);
-
-            if (values.contains(newDate.get(field))) {
-                newDate = newDate
-                        .truncatedTo(unit)
-                        .plus(1, unit)
-                        .minusSeconds(1);
-                return new ExecutionTimeResult(newDate, false);
-            }
+            final TemporalField field) {
+        final TemporalUnit unit = field.getBaseUnit();
+        final NearestValue nearestValue = node.getPreviousValue(date.get(field), 0);
+        final ZonedDateTime newDate;
+        if (nearestValue.getShifts() > 0) {
+            newDate = date.truncatedTo(field.getRangeUnit()).minusSeconds(1).with(field, nearestValue.getValue());
+        } else {
+            newDate = date.with(field, nearestValue.getValue());
         }
-
-        throw new NoSuchValueException();
+        final ZonedDateTime endOfUnit = newDate.truncatedTo(unit).plus(1, unit).minusSeconds(1);
+        if (newDate.get(field) != nearestValue.getValue() || !endOfUnit.isBefore(date)) {
+            // value does not exist at that date (e.g. a daylight saving gap): move to the end of the previous unit instead
+            return new ExecutionTimeResult(date.truncatedTo(unit).minusSeconds(1), false);
+        }
+        return new ExecutionTimeResult(endOfUnit, false);
     }
 
     private ZonedDateTime toEndOfPreviousMonth(final ZonedDateTime datetime) {
         final ZonedDateTime previousMonth = datetime.minusMonths(1).with(lastDayOfMonth());
-        final int highestHour = hours.getValues().get(hours.getValues().size() - 1);
-        final int highestMinute = minutes.getValues().get(minutes.getValues().size() - 1);
-        final int highestSecond = seconds.getValues().get(seconds.getValues().size() - 1);
+        final int highestHour = hours.last();
+        final int highestMinute = minutes.last();
+        final int highestSecond = seconds.last();
         return ZonedDateTime
                 .of(previousMonth.getYear(), previousMonth.getMonth().getValue(), previousMonth.getDayOfMonth(), highestHour, highestMinute, highestSecond, 0,
                         previousMonth.getZone());
     }
 
-    private Optional<TimeNode> generateDays(final CronDefinition cronDefinition, final ZonedDateTime date) {
-        if (isGenerateDaysAsDoY(cronDefinition)) {
-            return generateDayCandidatesUsingDoY(date);
+    /**
+     * Canonical form of the cron this execution time was built for. Computed once and cached.
+     *
+     * @return CanonicalCron instance, never null
+     */
+    CanonicalCron canonical() {
+        CanonicalCron result = canonical;
+        if (result == null) {
+            final BitSet daysOfYear = isGenerateDaysAsDoY(cronDefinition) ? daysOfYear() : null;
+            result = CanonicalCron.of(this, yearsValueCronField, daysOfYear);
+            canonical = result;
         }
-        //If DoW is not supported in custom definition, we just return an empty list.
-        if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) != null && cronDefinition.getFieldDefinition(DAY_OF_MONTH) != null) {
-            return generateDaysDoWAndDoMSupported(cronDefinition, date);
+        return result;
+    }
+
+    TimeNode getSeconds() {
+        return seconds;
+    }
+
+    TimeNode getMinutes() {
+        return minutes;
+    }
+
+    TimeNode getHours() {
+        return hours;
+    }
+
+    TimeNode getMonths() {
+        return months;
+    }
+
+    CronField getDaysOfWeekCronField() {
+        return daysOfWeekCronField;
+    }
+
+    CronField getDaysOfMonthCronField() {
+        return daysOfMonthCronField;
+    }
+
+    WeekDay getMondayDoWValue() {
+        final DayOfWeekFieldDefinition definition = (DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK);
+        return definition == null ? null : definition.getMondayDoWValue();
+    }
+
+    /**
+     * Describes how day of month and day of week fields are combined by {@link #generateDays(ZonedDateTime)}.
+     */
+    CanonicalCron.DayMatching getDayMatching() {
+        if (isGenerateDaysAsDoY(cronDefinition)) {
+            return CanonicalCron.DayMatching.DAY_OF_YEAR;
         }
         if (cronDefinition.getFieldDefinition(DAY_OF_WEEK) == null) {
-            return generateDayCandidatesUsingDoM(date);
+            return CanonicalCron.DayMatching.DAY_OF_MONTH;
         }
-        return Optional
-                .of(generateDayCandidatesUsingDoW(date, ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()));
+        if (cronDefinition.getFieldDefinition(DAY_OF_MONTH) == null) {
+            return CanonicalCron.DayMatching.DAY_OF_WEEK;
+        }
+        final boolean questionMarkSupported = cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
+        final boolean alwaysDoM = daysOfMonthCronField.getExpression() instanceof Always;
+        final boolean alwaysDoW = daysOfWeekCronField.getExpression() instanceof Always;
+        if (alwaysDoM && alwaysDoW) {
+            return CanonicalCron.DayMatching.DAY_OF_MONTH;
+        }
+        if (questionMarkSupported) {
+            if (daysOfMonthCronField.getExpression() instanceof QuestionMark) {
+                return CanonicalCron.DayMatching.DAY_OF_WEEK;
+            }
+            if (daysOfWeekCronField.getExpression() instanceof QuestionMark) {
+                return CanonicalCron.DayMatching.DAY_OF_MONTH;
+            }
+            return CanonicalCron.DayMatching.DAY_OF_MONTH_AND_WEEK;
+        }
+        if (alwaysDoM) {
+            return CanonicalCron.DayMatching.DAY_OF_WEEK;
+        }
+        if (alwaysDoW) {
+            return CanonicalCron.DayMatching.DAY_OF_MONTH;
+        }
+        return cronDefinition.isMatchDayOfWeekAndDayOfMonth()
+                ? CanonicalCron.DayMatching.DAY_OF_MONTH_AND_WEEK
+                : CanonicalCron.DayMatching.DAY_OF_MONTH_OR_WEEK;
     }
 
-    private boolean isGenerateDaysAsDoY(final CronDefinition cronDefinition) {
-        if (!cronDefinition.containsFieldDefinition(DAY_OF_YEAR)) {
-            return false;
-        }
+    /**
+     * Days matched by the day fields in given month, restricted to business days if a calendar was given.
+     *
+     * @param year  - year to evaluate
+     * @param month - month to evaluate, 1-12
+     * @return bitmask where bit n is set if day of month n matches
+     */
+    long daysOfMonthMask(final int year, final int month) {
+        final long days = dayMask().daysOfMonth(year, month);
+        return businessCalendar == null || days == 0 ? days : days & businessCalendar.businessDaysOfMonth(year, month);
+    }
 
-        if (!cronDefinition.getFieldDefinition(DAY_OF_YEAR).getConstraints().getSpecialChars().contains(QUESTION_MARK)) {
-            return true;
+    /**
+     * Restrict executions to business days of given calendar. Business days are intersected with the days
+     * matched by the day fields of each month before searching, so skipping holidays and weekends costs no extra search.
+     *
+     * @param calendar - BusinessCalendar instance. If null, a NullPointerException will be raised.
+     * @return ExecutionTime instance, never null
+     */
+    @Override
+    public ExecutionTime onBusinessDays(final BusinessCalendar calendar) {
+        Preconditions.checkNotNull(calendar, "Business calendar must not be null");
+        if (businessCalendar != null) {
+            return ExecutionTime.super.onBusinessDays(calendar);
         }
+        return new SingleExecutionTime(this, calendar);
+    }
 
-        return !(daysOfYearCronField.getExpression() instanceof QuestionMark);
+    /**
+     * Provide count of executions in consecutive buckets, from start date (inclusive) to end date (exclusive).
+     * Counts are computed from the field bitmasks of each day, without enumerating executions.
+     *
+     * @param startDate - Start date. If null, a NullPointerException will be raised.
+     * @param endDate - End date, after start date. If null, a NullPointerException will be raised.
+     * @param bucket - unit of each bucket, supported by ZonedDateTime. If null, a NullPointerException will be raised.
+     * @return count of executions for each bucket
+     */
+    @Override
+    public long[] countByBucket(final ZonedDateTime startDate, final ZonedDateTime endDate, final ChronoUnit bucket) {
+        return new ExecutionCounter(Collections.singletonList(this)).countByBucket(startDate, endDate, bucket);
     }
 
-    private Optional<TimeNode> generateDayCandidatesUsingDoY(final ZonedDateTime reference) {
-        final int year = reference.getYear();
-        final int month = reference.getMonthValue();
-        final LocalDate date = LocalDate.of(year, 1, 1);
-        final int lengthOfYear = date.lengthOfYear();
+    /**
+     * Check which of given dates match the cron expression.
+     * Dates are converted to local fields arithmetically, reusing the zone offset while dates stay within the same
+     * offset period, and matched against field bitmasks without creating date time instances.
+     *
+     * @param epochSeconds - dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param out - BitSet receiving the result. If null, a NullPointerException will be raised.
+     */
+    @Override
+    public void matchMask(final long[] epochSeconds, final ZoneId zone, final BitSet out) {
+        Preconditions.checkNotNull(epochSeconds, "Dates must not be null");
+        Preconditions.checkNotNull(zone, "ZoneId must not be null");
+        Preconditions.checkNotNull(out, "Output must not be null");
+        out.clear(0, epochSeconds.length);
+        if (isSatisfiable()) {
+            LocalTimeSearch.matchMask(this, epochSeconds, zone.getRules(), out);
+        }
+    }
 
-        final List<Integer> candidates = createDayOfYearValueGeneratorInstance(daysOfYearCronField, year).generateCandidates(1, lengthOfYear);
+    /**
+     * Check if some date matches all fields. Month lengths and days of week repeat every Gregorian cycle,
+     * so it is enough to check each allowed year within one cycle.
+     */
+    @Override
+    public boolean isSatisfiable() {
+        Boolean result = satisfiable;
+        if (result == null) {
+            result = hasMatchingDay();
+            satisfiable = result;
+        }
+        return result;
+    }
 
-        final int low = LocalDate.of(year, month, 1).getDayOfYear();
-        final int high = month == 12
-                ? LocalDate.of(year, 12, 31).getDayOfYear() + 1
-                : LocalDate.of(year, month + 1, 1).getDayOfYear();
+    private boolean hasMatchingDay() {
+        final CanonicalCron canonical = canonical();
+        final DayMask days = dayMask();
+        final long monthsMask = canonical.getMonths();
+        final boolean[] checked = new boolean[CronOverlap.GREGORIAN_CYCLE_YEARS];
+        int remaining = CronOverlap.GREGORIAN_CYCLE_YEARS;
+        for (int year = canonical.nextYear(canonical.firstYear()); year >= 0 && remaining > 0; year = canonical.nextYear(year + 1)) {
+            final int cycleYear = year % CronOverlap.GREGORIAN_CYCLE_YEARS;
+            if (checked[cycleYear]) {
+                continue;
+            }
+            checked[cycleYear] = true;
+            remaining--;
+            for (int month = LocalTimeSearch.nextBit(monthsMask, 1); month > 0 && month <= 12; month = LocalTimeSearch.nextBit(monthsMask, month + 1)) {
+                //holidays are finite, so only weekends can leave no business day to execute on
+                final long weekdays = businessCalendar == null ? -1L : businessCalendar.weekdaysOfMonth(year, month);
+                if ((days.daysOfMonth(year, month) & weekdays) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
-        final List<Integer> collectedCandidates = candidates.stream().filter(dayOfYear -> dayOfYear >= low && dayOfYear < high)
-                .map(dayOfYear -> LocalDate.ofYearDay(reference.getYear(), dayOfYear).getDayOfMonth())
-                .collect(Collectors.toList());
+    private DayMask dayMask() {
+        DayMask result = dayMask;
+        if (result == null) {
+            result = DayMask.of(this, isGenerateDaysAsDoY(cronDefinition) ? daysOfYear() : null);
+            dayMask = result;
+        }
+        return result;
+    }
 
-        return Optional.of(collectedCandidates).filter(not(List::isEmpty)).map(TimeNode::new);
+    private BitSet daysOfYear() {
+        final BitSet days = new BitSet();
+        //2024 is a leap year, so all day of year values are considered
+        for (final int day : createDayOfYearValueGeneratorInstance(daysOfYearCronField, 2024).generateCandidateValues(1, 366)) {
+            days.set(day);
+        }
+        return days;
     }
 
-    private Optional<TimeNode> generateDaysDoWAndDoMSupported(final CronDefinition cronDefinition, final ZonedDateTime date) {
-        final boolean questionMarkSupported = cronDefinition.getFieldDefinition(DAY_OF_WEEK).getConstraints().getSpecialChars().contains(QUESTION_MARK);
-        if (questionMarkSupported) {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(
-                    date.getYear(),
-                    date.getMonthValue(),
-                    ((DayOfWeekFieldDefinition) cronDefinition.getFieldDefinition(DAY_OF_WEEK)).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
-        } else {
-            final List<Integer> candidates = generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(
-                    date.getYear(), date.getMonthValue(),
-                    ((DayOfWeekFieldDefinition)
-                            cronDefinition.getFieldDefinition(DAY_OF_WEEK)
-                    ).getMondayDoWValue()
-            );
-            return Optional.of(candidates).filter(not(List::isEmpty)).map(TimeNode::new);
+    private Optional<TimeNode> generateDays(final ZonedDateTime date) {
+        final long mask = daysOfMonthMask(date.getYear(), date.getMonthValue());
+        if (mask == 0) {
+            return Optional.empty();
+        }
+        final int[] days = new int[Long.bitCount(mask)];
+        int size = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            days[size++] = Long.numberOfTrailingZeros(remaining);
         }
+        return Optional.of(new TimeNode(days));
+    }
+
+    private boolean isGenerateDaysAsDoY(final CronDefinition cronDefinition) {
+        if (!cronDefinition.containsFieldDefinition(DAY_OF_YEAR)) {
+            return false;
+        }
+
+        if (!cronDefinition.getFieldDefinition(DAY_OF_YEAR).getConstraints().getSpecialChars().contains(QUESTION_MARK)) {
+            return true;
+        }
+
+        return !(daysOfYearCronField.getExpression() instanceof QuestionMark);
     }
 
     /**
@@ -590,11 +859,27 @@ public class SingleExecutionTime implements ExecutionTime {
      * @return Optional ZonedDateTime instance, never null. Last execution time or empty.
      */
     public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date) {
+        return lastExecution(date, SearchBudget.defaults());
+    }
+
+    /**
+     * Provide nearest date for last execution, giving up once the search exceeds given budget.
+     *
+     * @param date   - ZonedDateTime instance. If null, a NullPointerException will be raised.
+     * @param budget - SearchBudget instance. If null, a NullPointerException will be raised.
+     * @return Optional ZonedDateTime instance, never null. Last execution time or empty.
+     */
+    @Override
+    public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date, final SearchBudget budget) {
         Preconditions.checkNotNull(date);
+        Preconditions.checkNotNull(budget, "Search budget must not be null");
+        if (!isSatisfiable()) {
+            return Optional.empty();
+        }
         try {
-            ZonedDateTime previousMatch = previousClosestMatch(date);
+            ZonedDateTime previousMatch = previousClosestMatch(date, budget);
             if (previousMatch.equals(date)) {
-                previousMatch = previousClosestMatch(date.minusSeconds(1));
+                previousMatch = previousClosestMatch(date.minusSeconds(1), budget);
             }
             return Optional.of(previousMatch);
         } catch (final NoSuchValueException e) {
@@ -602,6 +887,335 @@ public class SingleExecutionTime implements ExecutionTime {
         }
     }
 
+    /**
+     * Provide nearest date for next execution, as milliseconds from epoch.
+     * The search runs directly over field values in local time, without creating date instances,
+     * resolving local times affected by daylight saving transitions with {@link DaylightSavingPolicy#SKIP}.
+     * Results may therefore differ from {@link #nextExecution(ZonedDateTime)} around transitions only:
+     * that search does not resolve skipped and repeated local times consistently.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return next execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long nextExecutionEpochMillis(final long epochMillis, final ZoneId zone) {
+        return nextExecutionEpochMillis(epochMillis, zone, DaylightSavingPolicy.SKIP);
+    }
+
+    /**
+     * Provide nearest date for next execution, resolving local times affected by daylight saving transitions
+     * with {@link DaylightSavingPolicy#SKIP}, as {@link #nextExecutionEpochMillis(long, ZoneId)} does.
+     *
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Contains next execution time or empty.
+     */
+    @Override
+    public Optional<Instant> nextExecution(final Instant date, final ZoneId zone) {
+        return nextExecution(date, zone, DaylightSavingPolicy.SKIP);
+    }
+
+    /**
+     * Provide nearest date for next execution, as milliseconds from epoch.
+     * The search runs over field values in local time, one zone offset at a time,
+     * resolving each transition once according to given policy.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return next execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long nextExecutionEpochMillis(final long epochMillis, final ZoneId zone, final DaylightSavingPolicy policy) {
+        final long next = nextEpochSecond(Math.floorDiv(epochMillis, 1000), Preconditions.checkNotNull(zone).getRules(),
+                Preconditions.checkNotNull(policy));
+        return next == NO_EXECUTION ? NO_EXECUTION : next * 1000;
+    }
+
+    @Override
+    public Optional<Instant> nextExecution(final Instant date, final ZoneId zone, final DaylightSavingPolicy policy) {
+        Preconditions.checkNotNull(date);
+        final long next = nextEpochSecond(date.getEpochSecond(), Preconditions.checkNotNull(zone).getRules(),
+                Preconditions.checkNotNull(policy));
+        return next == NO_EXECUTION ? Optional.empty() : Optional.of(Instant.ofEpochSecond(next));
+    }
+
+    /**
+     * Provide nearest date for last execution, as milliseconds from epoch.
+     * The search runs directly over field values in local time, without creating date instances,
+     * resolving local times affected by daylight saving transitions with {@link DaylightSavingPolicy#SKIP}.
+     * Results may therefore differ from {@link #lastExecution(ZonedDateTime)} around transitions only:
+     * that search does not resolve skipped and repeated local times consistently.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return last execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long lastExecutionEpochMillis(final long epochMillis, final ZoneId zone) {
+        return lastExecutionEpochMillis(epochMillis, zone, DaylightSavingPolicy.SKIP);
+    }
+
+    /**
+     * Provide nearest date for last execution, resolving local times affected by daylight saving transitions
+     * with {@link DaylightSavingPolicy#SKIP}, as {@link #lastExecutionEpochMillis(long, ZoneId)} does.
+     *
+     * @param date - Instant instance. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @return Optional Instant instance, never null. Contains last execution time or empty.
+     */
+    @Override
+    public Optional<Instant> lastExecution(final Instant date, final ZoneId zone) {
+        return lastExecution(date, zone, DaylightSavingPolicy.SKIP);
+    }
+
+    /**
+     * Provide nearest date for last execution, as milliseconds from epoch.
+     * The search runs over field values in local time, one zone offset at a time,
+     * resolving each transition once according to given policy.
+     *
+     * @param epochMillis - reference date as milliseconds from epoch.
+     * @param zone - ZoneId instance cron is evaluated in. If null, a NullPointerException will be raised.
+     * @param policy - DaylightSavingPolicy instance. If null, a NullPointerException will be raised.
+     * @return last execution as milliseconds from epoch, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long lastExecutionEpochMillis(final long epochMillis, final ZoneId zone, final DaylightSavingPolicy policy) {
+        final long last = lastEpochSecond(-Math.floorDiv(-epochMillis, 1000), Preconditions.checkNotNull(zone).getRules(),
+                Preconditions.checkNotNull(policy));
+        return last == NO_EXECUTION ? NO_EXECUTION : last * 1000;
+    }
+
+    @Override
+    public Optional<Instant> lastExecution(final Instant date, final ZoneId zone, final DaylightSavingPolicy policy) {
+        Preconditions.checkNotNull(date);
+        final long last = lastEpochSecond(ceilEpochSecond(date), Preconditions.checkNotNull(zone).getRules(),
+                Preconditions.checkNotNull(policy));
+        return last == NO_EXECUTION ? Optional.empty() : Optional.of(Instant.ofEpochSecond(last));
+    }
+
+    /**
+     * Provide next execution for each of given reference dates, as {@link #nextExecution(Instant, ZoneId)} does.
+     * References are sorted and swept once, searching field values in local time from one execution to the next;
+     * the zone offset is only looked up again when a reference crosses an offset transition.
+     *
+     * @param epochSeconds - reference dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance crons are evaluated in. If null, a NullPointerException will be raised.
+     * @return array with next execution as seconds from epoch for each reference, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long[] nextExecutions(final long[] epochSeconds, final ZoneId zone) {
+        Preconditions.checkNotNull(epochSeconds, "Reference dates must not be null");
+        final ZoneRules rules = Preconditions.checkNotNull(zone, "ZoneId must not be null").getRules();
+        final SortedReferences references = new SortedReferences(epochSeconds);
+        final long[] sorted = references.sorted();
+        final long[] sortedResults = new long[sorted.length];
+        Arrays.fill(sortedResults, NO_EXECUTION);
+        if (!isSatisfiable()) {
+            return sortedResults;
+        }
+        //offset period containing the current reference: [periodStart, periodEnd)
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        //first local second not affected by a preceding overlap
+        long firstPlainLocal = Long.MIN_VALUE;
+        long next = NO_EXECUTION;
+        for (int i = 0; i < sorted.length; i++) {
+            final long reference = sorted[i];
+            if (next != NO_EXECUTION && reference < next) {
+                sortedResults[i] = next;
+                continue;
+            }
+            if (reference >= periodEnd) {
+                final Instant current = Instant.ofEpochSecond(reference);
+                offset = rules.getOffset(current).getTotalSeconds();
+                final ZoneOffsetTransition following = rules.nextTransition(current);
+                periodEnd = following == null ? Long.MAX_VALUE : following.toEpochSecond();
+                final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(reference + 1));
+                firstPlainLocal = previous != null && previous.isOverlap()
+                        ? previous.toEpochSecond() + previous.getOffsetBefore().getTotalSeconds()
+                        : Long.MIN_VALUE;
+            }
+            final long local = reference + offset >= firstPlainLocal ? LocalTimeSearch.next(this, reference + offset) : NO_EXECUTION;
+            if (local != NO_EXECUTION && local - offset < periodEnd) {
+                next = local - offset;
+            } else if (local == NO_EXECUTION && periodEnd == Long.MAX_VALUE && reference + offset >= firstPlainLocal) {
+                //no transition left to search across
+                break;
+            } else {
+                next = nextEpochSecond(reference, rules, DaylightSavingPolicy.SKIP);
+                if (next == NO_EXECUTION) {
+                    break;
+                }
+            }
+            sortedResults[i] = next;
+        }
+        return references.toInputOrder(sortedResults);
+    }
+
+    /**
+     * Provide last execution for each of given reference dates, as {@link #lastExecution(Instant, ZoneId)} does.
+     * References are sorted and swept once, searching field values in local time from one execution to the previous one;
+     * the zone offset is only looked up again when a reference crosses an offset transition.
+     *
+     * @param epochSeconds - reference dates as seconds from epoch. If null, a NullPointerException will be raised.
+     * @param zone - ZoneId instance crons are evaluated in. If null, a NullPointerException will be raised.
+     * @return array with last execution as seconds from epoch for each reference, or {@link #NO_EXECUTION}
+     */
+    @Override
+    public long[] lastExecutions(final long[] epochSeconds, final ZoneId zone) {
+        Preconditions.checkNotNull(epochSeconds, "Reference dates must not be null");
+        final ZoneRules rules = Preconditions.checkNotNull(zone, "ZoneId must not be null").getRules();
+        final SortedReferences references = new SortedReferences(epochSeconds);
+        final long[] sorted = references.sorted();
+        final long[] sortedResults = new long[sorted.length];
+        Arrays.fill(sortedResults, NO_EXECUTION);
+        if (!isSatisfiable()) {
+            return sortedResults;
+        }
+        //offset period containing the second before the current reference: [periodStart, periodEnd)
+        long periodStart = Long.MAX_VALUE;
+        long periodEnd = Long.MIN_VALUE;
+        int offset = 0;
+        //first local second executing within the period
+        long firstLocal = Long.MIN_VALUE;
+        long last = NO_EXECUTION;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            final long reference = sorted[i];
+            if (last != NO_EXECUTION && reference > last) {
+                sortedResults[i] = last;
+                continue;
+            }
+            if (reference - 1 < periodStart || reference - 1 >= periodEnd) {
+                final Instant current = Instant.ofEpochSecond(reference - 1);
+                offset = rules.getOffset(current).getTotalSeconds();
+                final ZoneOffsetTransition following = rules.nextTransition(current);
+                periodEnd = following == null ? Long.MAX_VALUE : following.toEpochSecond();
+                final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(reference));
+                periodStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+                if (previous == null) {
+                    firstLocal = Long.MIN_VALUE;
+                } else if (previous.isOverlap()) {
+                    //with a single execution per overlap, repeated local times execute before the transition
+                    firstLocal = periodStart + previous.getOffsetBefore().getTotalSeconds();
+                } else {
+                    firstLocal = periodStart + offset;
+                }
+            }
+            final long local = LocalTimeSearch.previous(this, reference + offset);
+            if (local != NO_EXECUTION && local >= firstLocal) {
+                last = local - offset;
+            } else if (local == NO_EXECUTION && periodStart == Long.MIN_VALUE) {
+                //no transition left to search across
+                break;
+            } else {
+                last = lastEpochSecond(reference, rules, DaylightSavingPolicy.SKIP);
+                if (last == NO_EXECUTION) {
+                    break;
+                }
+            }
+            sortedResults[i] = last;
+        }
+        return references.toInputOrder(sortedResults);
+    }
+
+    private static long ceilEpochSecond(final Instant date) {
+        return date.getNano() == 0 ? date.getEpochSecond() : date.getEpochSecond() + 1;
+    }
+
+    /**
+     * First execution strictly after given second.
+     * Each offset period between two transitions is searched in local time;
+     * local times skipped or repeated by a transition are resolved as the policy states.
+     */
+    private long nextEpochSecond(final long epochSecond, final ZoneRules rules, final DaylightSavingPolicy policy) {
+        if (!isSatisfiable()) {
+            return NO_EXECUTION;
+        }
+        long instant = epochSecond;
+        int offset = rules.getOffset(Instant.ofEpochSecond(instant)).getTotalSeconds();
+        long fromLocal = instant + offset;
+        final ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(instant + 1));
+        if (previous != null && previous.isOverlap() && policy != DaylightSavingPolicy.FIRE_TWICE) {
+            //repeated local times already executed before the transition
+            fromLocal = Math.max(fromLocal, previous.toEpochSecond() + previous.getOffsetBefore().getTotalSeconds() - 1);
+        }
+        long local = LocalTimeSearch.next(this, fromLocal);
+        while (true) {
+            final ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(instant));
+            if (transition == null || local != NO_EXECUTION && local - offset < transition.toEpochSecond()) {
+                return local == NO_EXECUTION ? NO_EXECUTION : local - offset;
+            }
+            final long transitionSecond = transition.toEpochSecond();
+            final int offsetAfter = transition.getOffsetAfter().getTotalSeconds();
+            if (transition.isGap()) {
+                if (local == NO_EXECUTION) {
+                    return NO_EXECUTION;
+                }
+                if (local < transitionSecond + offsetAfter) {
+                    if (policy == DaylightSavingPolicy.SHIFT) {
+                        return transitionSecond;
+                    }
+                    local = LocalTimeSearch.next(this, transitionSecond + offsetAfter - 1);
+                }
+            } else if (policy == DaylightSavingPolicy.FIRE_TWICE) {
+                //search repeated local times again, with the offset after the transition
+                local = LocalTimeSearch.next(this, transitionSecond + offsetAfter - 1);
+            } else if (local == NO_EXECUTION) {
+                return NO_EXECUTION;
+            }
+            offset = offsetAfter;
+            instant = transitionSecond;
+        }
+    }
+
+    /**
+     * Last execution strictly before given second.
+     * Each offset period between two transitions is searched in local time;
+     * local times skipped or repeated by a transition are resolved as the policy states.
+     */
+    private long lastEpochSecond(final long epochSecond, final ZoneRules rules, final DaylightSavingPolicy policy) {
+        if (!isSatisfiable()) {
+            return NO_EXECUTION;
+        }
+        long instant = epochSecond;
+        int offset = rules.getOffset(Instant.ofEpochSecond(instant - 1)).getTotalSeconds();
+        long toLocal = instant + offset;
+        long local = LocalTimeSearch.previous(this, toLocal);
+        while (true) {
+            final ZoneOffsetTransition transition = rules.previousTransition(Instant.ofEpochSecond(instant));
+            if (transition == null) {
+                return local == NO_EXECUTION ? NO_EXECUTION : local - offset;
+            }
+            final long transitionSecond = transition.toEpochSecond();
+            final int offsetBefore = transition.getOffsetBefore().getTotalSeconds();
+            //with a single execution per overlap, repeated local times execute before the transition
+            final long periodStart = transition.isOverlap() && policy != DaylightSavingPolicy.FIRE_TWICE
+                    ? transitionSecond + offsetBefore
+                    : transitionSecond + offset;
+            if (local != NO_EXECUTION && local >= periodStart) {
+                return local - offset;
+            }
+            if (transition.isGap()) {
+                if (local == NO_EXECUTION) {
+                    return NO_EXECUTION;
+                }
+                if (local >= transitionSecond + offsetBefore) {
+                    if (policy == DaylightSavingPolicy.SHIFT) {
+                        return transitionSecond;
+                    }
+                    local = LocalTimeSearch.previous(this, transitionSecond + offsetBefore);
+                }
+            } else if (transitionSecond + offsetBefore > toLocal) {
+                local = LocalTimeSearch.previous(this, transitionSecond + offsetBefore);
+            }
+            toLocal = transitionSecond + offsetBefore;
+            offset = offsetBefore;
+            instant = transitionSecond;
+        }
+    }
+
     /**
      * Provide nearest time from last execution.
      *
@@ -657,12 +1271,12 @@ public class SingleExecutionTime implements ExecutionTime {
             } else {
                 boolean everythingInRange = false;
                 try {
-                    everythingInRange = dateValuesInExpectedRanges(nextClosestMatch(date), date);
+                    everythingInRange = dateValuesInExpectedRanges(nextClosestMatch(date, SearchBudget.defaults()), date);
                 } catch (final NoSuchValueException ignored) {
                     // Why is this ignored?
                 }
                 try {
-                    everythingInRange = dateValuesInExpectedRanges(previousClosestMatch(date), date);
+                    everythingInRange = dateValuesInExpectedRanges(previousClosestMatch(date, SearchBudget.defaults()), date);
                 } catch (final NoSuchValueException ignored) {
                     // Why is this ignored?
                 }
@@ -670,7 +1284,7 @@ public class SingleExecutionTime implements ExecutionTime {
             }
         } else {
             try {
-                return dateValuesInExpectedRanges(nextClosestMatch(date.minusSeconds(1)), date);
+                return dateValuesInExpectedRanges(nextClosestMatch(date.minusSeconds(1), SearchBudget.defaults()), date);
             } catch (final NoSuchValueException ignored) {
                 // Why is this ignored?
             }
@@ -706,90 +1320,6 @@ public class SingleExecutionTime implements ExecutionTime {
         return everythingInRange;
     }
 
-    private List<Integer> generateDayCandidatesQuestionMarkNotSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(year, month, 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else if (daysOfMonthCronField.getExpression() instanceof Always) {
-            return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else if (daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else {
-            final List<Integer> dayOfWeekCandidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField,
-                    year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth);
-            final List<Integer> dayOfMonthCandidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth);
-            if (cronDefinition.isMatchDayOfWeekAndDayOfMonth()) {
-                final Set<Integer> intersection = new HashSet<>(dayOfWeekCandidates);
-                return dayOfMonthCandidates
-                        .stream().filter(intersection::contains)
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
-            } else {
-                return Stream.concat(dayOfWeekCandidates.stream(), dayOfMonthCandidates.stream())
-                        .distinct().sorted()
-                        .collect(Collectors.toList());
-            }
-        }
-    }
-
-    private List<Integer> generateDayCandidatesQuestionMarkSupportedUsingDoWAndDoM(final int year, final int month, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(year, month, 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        if (daysOfMonthCronField.getExpression() instanceof Always && daysOfWeekCronField.getExpression() instanceof Always) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else if (daysOfMonthCronField.getExpression() instanceof QuestionMark) {
-            return createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else if (daysOfWeekCronField.getExpression() instanceof QuestionMark) {
-            return createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month)
-                    .generateCandidates(1, lengthOfMonth)
-                    .stream().distinct().sorted()
-                    .collect(Collectors.toList());
-        } else {
-            Set<Integer> candidates = new HashSet<>(createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, year, month).generateCandidates(1, lengthOfMonth));
-            Set<Integer> daysOfWeek = new HashSet<>(createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, year, month, mondayDoWValue).generateCandidates(1, lengthOfMonth));
-            // Only the intersection of valid days from the days of week and valid days of month should be returned.
-            candidates.retainAll(daysOfWeek);
-            return candidates.stream().sorted().collect(Collectors.toList());
-        }
-    }
-
-    private Optional<TimeNode> generateDayCandidatesUsingDoM(final ZonedDateTime reference) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfMonthValueGeneratorInstance(daysOfMonthCronField, reference.getYear(), reference.getMonthValue())
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return candidates.isEmpty() ? Optional.empty() : Optional.of(new TimeNode(candidates));
-    }
-
-    private TimeNode generateDayCandidatesUsingDoW(final ZonedDateTime reference, final WeekDay mondayDoWValue) {
-        final LocalDate date = LocalDate.of(reference.getYear(), reference.getMonthValue(), 1);
-        final int lengthOfMonth = date.lengthOfMonth();
-        final List<Integer> candidates = createDayOfWeekValueGeneratorInstance(daysOfWeekCronField, reference.getYear(), reference.getMonthValue(), mondayDoWValue)
-                .generateCandidates(1, lengthOfMonth)
-                .stream().distinct().sorted()
-                .collect(Collectors.toList());
-        return new TimeNode(candidates);
-    }
-
     private static final class ExecutionTimeResult {
         private final ZonedDateTime time;
         private final boolean isMatch;
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.model.time;
+
+import java.util.Arrays;
+
+/**
+ * Reference dates sorted to be swept once, with results mapped back to the order references were given in.
+ */
+final class SortedReferences {
+    private final long[] references;
+    private final long[] sorted;
+
+    SortedReferences(final long[] references) {
+        this.references = references;
+        this.sorted = references.clone();
+        Arrays.sort(sorted);
+    }
+
+    long[] sorted() {
+        return sorted;
+    }
+
+    /**
+     * Maps results computed over sorted references back to the original reference order.
+     */
+    long[] toInputOrder(final long[] sortedResults) {
+        final long[] results = new long[references.length];
+        for (int i = 0; i < references.length; i++) {
+            results[i] = sortedResults[Arrays.binarySearch(sorted, references[i])];
+        }
+        return results;
+    }
+}
@@ -16,25 +16,60 @@ package com.cronutils.model.time;
 import com.cronutils.utils.Preconditions;
 import com.cronutils.utils.VisibleForTesting;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 class TimeNode {
-    protected List<Integer> values;
+    protected int[] values;
 
     public TimeNode(final List<Integer> values) {
-        this.values = Preconditions.checkNotNullNorEmpty(values, "Values must not be empty");
-        Collections.sort(this.values);
+        this(Preconditions.checkNotNullNorEmpty(values, "Values must not be empty").stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    public TimeNode(final int[] values) {
+        Preconditions.checkNotNull(values, "Values must not be null");
+        Preconditions.checkArgument(values.length > 0, "Values must not be empty");
+        this.values = IntStream.of(values).sorted().distinct().toArray();
     }
 
     public NearestValue getNextValue(final int reference, final int shifts) {
         return getNearestForwardValue(reference, shifts);
     }
 
+    /**
+     * Boxed view of the values, in ascending order.
+     */
     public List<Integer> getValues() {
-        return Collections.unmodifiableList(values);
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(final int index) {
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int first() {
+        return values[0];
+    }
+
+    public int last() {
+        return values[values.length - 1];
+    }
+
+    public boolean contains(final int value) {
+        return Arrays.binarySearch(values, value) >= 0;
     }
 
     public NearestValue getPreviousValue(final int reference, final int shifts) {
@@ -52,31 +87,25 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestForwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        int index = 0;
-        boolean foundGreater = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value > reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundGreater = true;
-                    break;
-                }
-            }
-            if (!foundGreater) {
-                shift.incrementAndGet();
+        int index = Arrays.binarySearch(values, reference);
+        int shift = 0;
+        if (index < 0) {
+            index = -index - 1;
+            if (index < values.length) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = 0;
+                shift++;
             }
-        } else {
-            index = temporaryValues.indexOf(reference);
         }
-        int value = temporaryValues.get(index);
         for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
+            index++;
+            if (index == values.length) {
+                index = 0;
+                shift++;
+            }
         }
-        return new NearestValue(value, shift.get());
+        return new NearestValue(values[index], shift);
     }
 
     /**
@@ -90,32 +119,25 @@ class TimeNode {
      */
     @VisibleForTesting
     NearestValue getNearestBackwardValue(final int reference, int shiftsToApply) {
-        final List<Integer> temporaryValues = new ArrayList<>(this.values);
-        Collections.reverse(temporaryValues);
-        int index = 0;
-        boolean foundSmaller = false;
-        final AtomicInteger shift = new AtomicInteger(0);
-        if (!temporaryValues.contains(reference)) {
-            for (final Integer value : temporaryValues) {
-                if (value < reference) {
-                    index = temporaryValues.indexOf(value);
-                    shiftsToApply--;//we just moved a position!
-                    foundSmaller = true;
-                    break;
-                }
-            }
-            if (!foundSmaller) {
-                shift.incrementAndGet();
+        int index = Arrays.binarySearch(values, reference);
+        int shift = 0;
+        if (index < 0) {
+            index = -index - 2;
+            if (index >= 0) {
+                shiftsToApply--;//we just moved a position!
+            } else {
+                index = values.length - 1;
+                shift++;
             }
-        } else {
-            index = temporaryValues.indexOf(reference);
         }
-        int value = temporaryValues.get(index);
         for (int j = 0; j < shiftsToApply; j++) {
-            value = getValueFromList(temporaryValues, index + 1, shift);
-            index = temporaryValues.indexOf(value);
+            index--;
+            if (index < 0) {
+                index = values.length - 1;
+                shift++;
+            }
         }
-        return new NearestValue(value, shift.get());
+        return new NearestValue(values[index], shift);
     }
 
     /**
@@ -18,7 +18,6 @@ import com.cronutils.model.field.CronFieldName;
 import com.cronutils.model.field.expression.Always;
 import com.cronutils.model.field.expression.FieldExpression;
 
-import java.util.ArrayList;
 import java.util.List;
 
 class AlwaysFieldValueGenerator extends FieldValueGenerator {
@@ -48,9 +47,14 @@ class AlwaysFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
-        for (int j = start + 1; j < end; j++) {
-            values.add(j);
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        final int[] values = new int[Math.max(end - start - 1, 0)];
+        for (int j = 0; j < values.length; j++) {
+            values[j] = start + 1 + j;
         }
         return values;
     }
@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 class AndFieldValueGenerator extends FieldValueGenerator {
     private static final Logger log = LoggerFactory.getLogger(AndFieldValueGenerator.class);
@@ -70,7 +71,12 @@ class AndFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        final IntStream.Builder values = IntStream.builder();
         try {
             int reference = generateNextValue(start);
             while (reference < end) {
@@ -80,7 +86,7 @@ class AndFieldValueGenerator extends FieldValueGenerator {
         } catch (final NoSuchValueException e) {
             log.debug("Catched expected exception while generating candidates", e);
         }
-        return values;
+        return values.build().toArray();
     }
 
     @Override
@@ -19,8 +19,8 @@ import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.value.FieldValue;
 import com.cronutils.model.field.value.IntegerFieldValue;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 class BetweenFieldValueGenerator extends FieldValueGenerator {
 
@@ -60,7 +60,12 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        final IntStream.Builder values = IntStream.builder();
         //check overlapping ranges: x1 <= y2 && y1 <= x2
         final Between between = (Between) cronField.getExpression();
         final int expressionStart = map(between.getFrom());
@@ -90,7 +95,7 @@ class BetweenFieldValueGenerator extends FieldValueGenerator {
                 // TODO: Explain why this exception is ignored
             }
         }
-        return values;
+        return values.build().toArray();
     }
 
     @Override
@@ -20,8 +20,8 @@ import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
 import com.cronutils.utils.VisibleForTesting;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 class EveryFieldValueGenerator extends FieldValueGenerator {
 
@@ -103,7 +103,12 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        final IntStream.Builder values = IntStream.builder();
         try {
             final int offset = offset();
             if (start < offset && offset < end) {
@@ -119,7 +124,7 @@ class EveryFieldValueGenerator extends FieldValueGenerator {
         } catch (final NoSuchValueException ignored) {
             // We just skip, since we generate values until we get the exception
         }
-        return values;
+        return values.build().toArray();
     }
 
     @Override
@@ -17,9 +17,8 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.utils.Preconditions;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -55,18 +54,62 @@ public abstract class FieldValueGenerator {
 
     protected abstract List<Integer> generateCandidatesNotIncludingIntervalExtremes(int start, int end);
 
+    /**
+     * Primitive counterpart of {@link #generateCandidatesNotIncludingIntervalExtremes(int, int)}.
+     * Generators override it to avoid boxing; by default, it unboxes the candidates list.
+     *
+     * @param start - interval start, exclusive
+     * @param end   - interval end, exclusive
+     * @return candidate values, in any order
+     */
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        return generateCandidatesNotIncludingIntervalExtremes(start, end).stream().mapToInt(Integer::intValue).toArray();
+    }
+
     public abstract boolean isMatch(int value);
 
-    public final List<Integer> generateCandidates(final int start, final int end) {
-        List<Integer> candidates = generateCandidatesNotIncludingIntervalExtremes(start, end);
+    /**
+     * Generates candidates within an interval, without boxing them.
+     *
+     * @param start - interval start, inclusive
+     * @param end   - interval end, inclusive
+     * @return sorted distinct candidate values, never null
+     */
+    public final int[] generateCandidateValues(final int start, final int end) {
+        final int[] generated = generateCandidateValuesNotIncludingIntervalExtremes(start, end);
+        final int[] candidates = Arrays.copyOf(generated, generated.length + 2);
+        int size = generated.length;
         if (isMatch(start)) {
-            candidates.add(start);
+            candidates[size++] = start;
         }
         if (isMatch(end)) {
-            candidates.add(end);
+            candidates[size++] = end;
+        }
+        Arrays.sort(candidates, 0, size);
+        int distinct = 0;
+        for (int j = 0; j < size; j++) {
+            if (distinct == 0 || candidates[distinct - 1] != candidates[j]) {
+                candidates[distinct++] = candidates[j];
+            }
+        }
+        return distinct == candidates.length ? candidates : Arrays.copyOf(candidates, distinct);
+    }
+
+    public final List<Integer> generateCandidates(final int start, final int end) {
+        return boxed(generateCandidateValues(start, end));
+    }
+
+    /**
+     * Boxes primitive candidates, for generators implementing {@link #generateCandidateValuesNotIncludingIntervalExtremes(int, int)}.
+     *
+     * @param values - candidate values
+     * @return mutable List of candidates, in the same order
+     */
+    protected static List<Integer> boxed(final int[] values) {
+        final List<Integer> candidates = new ArrayList<>(values.length);
+        for (final int value : values) {
+            candidates.add(value);
         }
-        candidates = new LinkedList<>(new HashSet<>(candidates));
-        Collections.sort(candidates);
         return candidates;
     }
 
@@ -19,6 +19,10 @@ import com.cronutils.model.field.expression.*;
 import com.cronutils.model.field.value.SpecialChar;
 
 public class FieldValueGeneratorFactory {
+    //January 2024 has 31 days and starts on a Monday: day of month n is day of week n for the first week.
+    private static final int REFERENCE_YEAR = 2024;
+    private static final int REFERENCE_MONTH = 1;
+
     private FieldValueGeneratorFactory() {
     }
 
@@ -80,6 +84,38 @@ public class FieldValueGeneratorFactory {
         return forCronField(cronField);
     }
 
+    /**
+     * Plain days of month matched by given field, evaluated against a 31 day month.
+     * Special values (L, W, LW) depend on the month, so they must be resolved by callers.
+     *
+     * @param cronField - day of month field
+     * @return bitmask where bit n is set if day of month n matches
+     */
+    public static long daysOfMonthMask(final CronField cronField) {
+        long mask = 0;
+        for (final int day : createDayOfMonthValueGeneratorInstance(cronField, REFERENCE_YEAR, REFERENCE_MONTH).generateCandidateValues(1, 31)) {
+            mask |= 1L << day;
+        }
+        return mask;
+    }
+
+    /**
+     * Plain days of week matched by given field, evaluated over the first week of a month starting on Monday,
+     * so that they use java.time numbering (Monday=1).
+     *
+     * @param cronField      - day of week field
+     * @param mondayDoWValue - value of Monday in the field definition
+     * @return bitmask where bit n is set if day of week n matches
+     */
+    public static long daysOfWeekMask(final CronField cronField, final WeekDay mondayDoWValue) {
+        long mask = 0;
+        for (final int day : createDayOfWeekValueGeneratorInstance(cronField, REFERENCE_YEAR, REFERENCE_MONTH, mondayDoWValue)
+                .generateCandidateValues(1, 7)) {
+            mask |= 1L << day;
+        }
+        return mask;
+    }
+
     public static FieldValueGenerator createYearValueGeneratorInstance(final CronField cronField) {
         return forCronField(cronField);
     }
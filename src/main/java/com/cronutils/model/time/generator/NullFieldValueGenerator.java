@@ -16,7 +16,6 @@ package com.cronutils.model.time.generator;
 import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 
-import java.util.ArrayList;
 import java.util.List;
 
 class NullFieldValueGenerator extends FieldValueGenerator {
@@ -36,7 +35,12 @@ class NullFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        return new ArrayList<>();
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
+        return new int[0];
     }
 
     @Override
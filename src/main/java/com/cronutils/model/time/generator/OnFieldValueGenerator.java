@@ -17,7 +17,6 @@ import com.cronutils.model.field.CronField;
 import com.cronutils.model.field.expression.FieldExpression;
 import com.cronutils.model.field.expression.On;
 
-import java.util.ArrayList;
 import java.util.List;
 
 class OnFieldValueGenerator extends FieldValueGenerator {
@@ -45,12 +44,13 @@ class OnFieldValueGenerator extends FieldValueGenerator {
 
     @Override
     protected List<Integer> generateCandidatesNotIncludingIntervalExtremes(final int start, final int end) {
-        final List<Integer> values = new ArrayList<>();
+        return boxed(generateCandidateValuesNotIncludingIntervalExtremes(start, end));
+    }
+
+    @Override
+    protected int[] generateCandidateValuesNotIncludingIntervalExtremes(final int start, final int end) {
         final int time = ((On) cronField.getExpression()).getTime().getValue();
-        if (time > start && time < end) {
-            values.add(time);
-        }
-        return values;
+        return time > start && time < end ? new int[] { time } : new int[0];
     }
 
     @Override
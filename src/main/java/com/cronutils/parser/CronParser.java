@@ -15,6 +15,8 @@
 package com.cronutils.parser;
 
 import com.cronutils.builder.CronBuilder;
+import com.cronutils.metrics.CronMetrics;
+import com.cronutils.metrics.CronMetricsRegistry;
 import com.cronutils.model.CompositeCron;
 import com.cronutils.model.Cron;
 import com.cronutils.model.SingleCron;
@@ -84,6 +86,36 @@ public class CronParser {
         throw new IllegalArgumentException(String.format("Nickname %s not supported!", nickname));
     }
 
+    /**
+     * Parse string with cron expression, resolving hashed values from given key.
+     * Hashed values ({@code H}, {@code H/step}, {@code H(from-to)} and {@code H(from-to)/step}) are replaced by plain values
+     * picked from a hash of the key, so that crons sharing an expression are spread evenly, and identically on every node.
+     * Nicknames get hashed minutes ({@code @hourly}) or hashed minutes and hours (other nicknames).
+     *
+     * @param expression - cron expression, never null
+     * @param hashKey    - key hashed values are picked from, such as a job id. If null, a NullPointerException will be raised.
+     * @return Cron instance, corresponding to cron expression received
+     * @throws java.lang.IllegalArgumentException if expression does not match cron definition
+     */
+    public Cron parse(final String expression, final String hashKey) {
+        Preconditions.checkNotNull(expression, "Expression must not be null");
+        Preconditions.checkNotNull(hashKey, "Hash key must not be null");
+        final String replaced = expression.replaceAll("\\s+", " ").trim();
+        if (replaced.startsWith("@")) {
+            return HashedSpread.spread(parse(replaced), replaced, hashKey);
+        }
+        if (replaced.contains("||")) {
+            return new CompositeCron(Arrays.stream(replaced.split("\\|\\|"))
+                    .map(cron -> parse(cron, hashKey)).collect(Collectors.toList()));
+        }
+        final String[] expressionParts = replaced.split(" ");
+        final List<CronParserField> fields = expressions.get(expressionParts.length);
+        if (fields == null) {
+            return parse(replaced);
+        }
+        return parse(String.join(" ", HashedSpread.resolve(expressionParts, fields, hashKey)));
+    }
+
     /**
      * Parse string with cron expression.
      *
@@ -93,6 +125,22 @@ public class CronParser {
      */
     public Cron parse(final String expression) {
         Preconditions.checkNotNull(expression, "Expression must not be null");
+        final CronMetrics metrics = CronMetricsRegistry.get();
+        if (!metrics.isEnabled()) {
+            return parseExpression(expression);
+        }
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final Cron cron = parseExpression(expression);
+            success = true;
+            return cron;
+        } finally {
+            metrics.parsed(expression, System.nanoTime() - start, success);
+        }
+    }
+
+    private Cron parseExpression(final String expression) {
         final String replaced = expression.replaceAll("\\s+", " ").trim();
         if (StringUtils.isEmpty(replaced)) {
             throw new IllegalArgumentException("Empty expression!");
@@ -124,7 +172,7 @@ public class CronParser {
         }
 
         if(expression.contains("||")) {
-            List<Cron> crons = Arrays.stream(expression.split("\\|\\|")).map(this::parse).collect(Collectors.toList());
+            List<Cron> crons = Arrays.stream(expression.split("\\|\\|")).map(this::parseExpression).collect(Collectors.toList());
             return new CompositeCron(crons);
         }
         if(expression.contains("|")){
@@ -141,7 +189,7 @@ public class CronParser {
                 }
                 crons.add(builder.toString().trim());
             }
-            return new CompositeCron(crons.stream().map(this::parse).collect(Collectors.toList()));
+            return new CompositeCron(crons.stream().map(this::parseExpression).collect(Collectors.toList()));
         }else{
             final String[] expressionParts = replaced.toUpperCase().split(" ");
             final int expressionLength = expressionParts.length;
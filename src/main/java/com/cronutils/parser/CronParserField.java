@@ -63,6 +63,15 @@ public class CronParserField {
         return field;
     }
 
+    /**
+     * Returns field constraints.
+     *
+     * @return FieldConstraints, never null
+     */
+    public FieldConstraints getConstraints() {
+        return constraints;
+    }
+
     /**
      * Returns optional tag.
      *
@@ -293,7 +293,7 @@ public class FieldParser {
             try {
                 return Integer.parseInt(exp);
             } catch (final NumberFormatException e) {
-                final String invalidChars = new StringValidations(fieldConstraints).removeValidChars(exp);
+                final String invalidChars = StringValidations.forConstraints(fieldConstraints).removeValidChars(exp);
                 throw new IllegalArgumentException(String.format("Invalid chars in expression! Expression: %s Invalid chars: %s", exp, invalidChars));
             }
         }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.SingleCron;
+import com.cronutils.model.field.CronField;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.cronutils.model.field.expression.FieldExpressionFactory.on;
+
+/**
+ * Resolves hashed values ({@code H}, {@code H/step}, {@code H(from-to)} and {@code H(from-to)/step}) into plain values,
+ * picked from a hash of a caller supplied key. The same key always gives the same values, on any node,
+ * while different keys are spread evenly over the allowed range.
+ */
+final class HashedSpread {
+    private static final Pattern HASH = Pattern.compile("(?<=^|[,|])H(?:\\((\\d+)-(\\d+)\\))?(?:/(\\d+))?(?=$|[,|])", Pattern.CASE_INSENSITIVE);
+    //days of month hashed without a range are kept within the shortest month, so that they execute every month
+    private static final int LAST_DAY_OF_SHORTEST_MONTH = 28;
+    //hours hashed for @midnight are kept close to midnight
+    private static final int LAST_MIDNIGHT_HOUR = 2;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private HashedSpread() {
+    }
+
+    /**
+     * Replaces hashed values of each field of a cron expression.
+     *
+     * @param parts   - cron expression fields
+     * @param fields  - parser fields, in the same order
+     * @param hashKey - key values are picked from
+     * @return cron expression fields without hashed values
+     */
+    static String[] resolve(final String[] parts, final List<CronParserField> fields, final String hashKey) {
+        final String[] resolved = new String[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            resolved[i] = i < fields.size() ? resolve(parts[i], fields.get(i), hashKey) : parts[i];
+        }
+        return resolved;
+    }
+
+    private static String resolve(final String part, final CronParserField field, final String hashKey) {
+        final Matcher matcher = HASH.matcher(part);
+        if (!matcher.find()) {
+            return part;
+        }
+        final StringBuffer resolved = new StringBuffer();
+        int index = 0;
+        do {
+            final int[] range = defaultRange(field.getField(), field.getConstraints());
+            final boolean explicitRange = matcher.group(1) != null;
+            final int from = explicitRange ? Integer.parseInt(matcher.group(1)) : range[0];
+            final int to = explicitRange ? Integer.parseInt(matcher.group(2)) : range[1];
+            if (from > to) {
+                throw new IllegalArgumentException(String.format("Invalid hashed range %s", matcher.group()));
+            }
+            final long hash = hash(hashKey, field.getField(), index++);
+            final String value;
+            if (matcher.group(3) == null) {
+                value = String.valueOf(from + Math.floorMod(hash, to - from + 1));
+            } else {
+                final int step = Integer.parseInt(matcher.group(3));
+                if (step <= 0) {
+                    throw new IllegalArgumentException(String.format("Invalid hashed step %s", matcher.group()));
+                }
+                final int start = from + (int) Math.floorMod(hash, (long) Math.min(step, to - from + 1));
+                value = explicitRange ? String.format("%s-%s/%s", start, to, step) : String.format("%s/%s", start, step);
+            }
+            matcher.appendReplacement(resolved, value);
+        } while (matcher.find());
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Spreads the time of day of a nickname: minutes for {@code @hourly}, minutes and hours for other nicknames.
+     *
+     * @param cron     - cron built for the nickname
+     * @param nickname - nickname, such as {@code @hourly}
+     * @param hashKey  - key values are picked from
+     * @return cron with hashed minutes and hours
+     */
+    static Cron spread(final Cron cron, final String nickname, final String hashKey) {
+        if ("@reboot".equals(nickname) || !(cron instanceof SingleCron)) {
+            return cron;
+        }
+        final Map<CronFieldName, CronField> fields = cron.retrieveFieldsAsMap();
+        final List<CronField> spread = new ArrayList<>();
+        for (final CronField field : fields.values()) {
+            final CronFieldName name = field.getField();
+            if (name == CronFieldName.MINUTE || (name == CronFieldName.HOUR && !"@hourly".equals(nickname))) {
+                final int to = name == CronFieldName.HOUR && "@midnight".equals(nickname)
+                        ? LAST_MIDNIGHT_HOUR : field.getConstraints().getEndRange();
+                final int from = field.getConstraints().getStartRange();
+                spread.add(new CronField(name, on(from + Math.floorMod(hash(hashKey, name, 0), to - from + 1)), field.getConstraints()));
+            } else {
+                spread.add(field);
+            }
+        }
+        return new SingleCron(cron.getCronDefinition(), spread);
+    }
+
+    private static int[] defaultRange(final CronFieldName name, final FieldConstraints constraints) {
+        final int from = constraints.getStartRange();
+        final int to = constraints.getEndRange();
+        switch (name) {
+            case DAY_OF_MONTH:
+                return new int[]{from, Math.min(to, LAST_DAY_OF_SHORTEST_MONTH)};
+            case DAY_OF_WEEK:
+                //definitions accepting both 0 and 7 for Sunday would otherwise weigh it twice
+                return new int[]{from, Math.min(to, from + 6)};
+            default:
+                return new int[]{from, to};
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the key, field and position, with a final avalanche step, so that similar keys land far apart.
+     * It does not depend on the JVM, unlike identity hashes.
+     */
+    static long hash(final String hashKey, final CronFieldName field, final int index) {
+        long hash = FNV_OFFSET_BASIS;
+        for (final byte b : (hashKey + '\u0000' + field.name() + '\u0000' + index).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 jmrozanec
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.cronutils.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Weekend days and holidays, precomputed so that business days are checked and counted in constant time.
+ * Holidays are kept as one bitset per year, indexed by day of year, and weekday holidays are accumulated
+ * into prefix sums over the years holidays span. Outside those years, only weekends are taken into account.
+ * Instances are immutable and can be shared.
+ */
+public final class BusinessCalendar {
+    private static final int DAYS_PER_WEEK = 7;
+    //bits 0, 7, 14, 21, 28 and 35: a given day of week repeated over a month, shifted to its first occurrence
+    private static final long WEEKLY = 0x810204081L;
+
+    private final int weekend;
+    private final int businessDaysPerWeek;
+    private final long[] weekdaysByFirstDayOfWeek;
+    private final int firstYear;
+    private final BitSet[] holidays;
+    private final long[] holidaysOfMonth;
+    private final long firstEpochDay;
+    private final int[] holidaysBefore;
+
+    private BusinessCalendar(final int weekend, final Collection<LocalDate> holidayDates) {
+        this.weekend = weekend;
+        this.businessDaysPerWeek = DAYS_PER_WEEK - Integer.bitCount(weekend);
+        this.weekdaysByFirstDayOfWeek = new long[DAYS_PER_WEEK + 1];
+        for (int firstDayOfWeek = 1; firstDayOfWeek <= DAYS_PER_WEEK; firstDayOfWeek++) {
+            for (int dayOfWeek = 1; dayOfWeek <= DAYS_PER_WEEK; dayOfWeek++) {
+                if ((weekend >>> dayOfWeek & 1) == 0) {
+                    weekdaysByFirstDayOfWeek[firstDayOfWeek] |= WEEKLY << (1 + Math.floorMod(dayOfWeek - firstDayOfWeek, DAYS_PER_WEEK));
+                }
+            }
+        }
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (final LocalDate holiday : holidayDates) {
+            Preconditions.checkNotNull(holiday, "Holidays must not contain null");
+            first = Math.min(first, holiday.getYear());
+            last = Math.max(last, holiday.getYear());
+        }
+        if (holidayDates.isEmpty()) {
+            first = 0;
+            last = -1;
+        }
+        this.firstYear = first;
+        this.holidays = new BitSet[last - first + 1];
+        for (int i = 0; i < holidays.length; i++) {
+            holidays[i] = new BitSet(366);
+        }
+        this.holidaysOfMonth = new long[holidays.length * 12];
+        for (final LocalDate holiday : holidayDates) {
+            holidays[holiday.getYear() - first].set(holiday.getDayOfYear() - 1);
+            holidaysOfMonth[(holiday.getYear() - first) * 12 + holiday.getMonthValue() - 1] |= 1L << holiday.getDayOfMonth();
+        }
+        this.firstEpochDay = LocalDate.of(first, 1, 1).toEpochDay();
+        final int days = (int) (LocalDate.of(last + 1, 1, 1).toEpochDay() - firstEpochDay);
+        this.holidaysBefore = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            final LocalDate date = LocalDate.ofEpochDay(firstEpochDay + i);
+            holidaysBefore[i + 1] = holidaysBefore[i] + (isHoliday(date) && !isWeekend(date.getDayOfWeek()) ? 1 : 0);
+        }
+    }
+
+    /**
+     * Creates a calendar.
+     *
+     * @param weekendPolicy - days of week that are not business days. If null, a NullPointerException will be raised.
+     * @param holidays      - dates that are not business days. If null, a NullPointerException will be raised.
+     * @return BusinessCalendar instance, never null
+     */
+    public static BusinessCalendar of(final WeekendPolicy weekendPolicy, final Collection<LocalDate> holidays) {
+        Preconditions.checkNotNull(weekendPolicy, "Weekend policy must not be null");
+        return of(weekendPolicy.getWeekendDays(), holidays);
+    }
+
+    /**
+     * Creates a calendar.
+     *
+     * @param weekendDays - days of week that are not business days, at most six. If null, a NullPointerException will be raised.
+     * @param holidays    - dates that are not business days. If null, a NullPointerException will be raised.
+     * @return BusinessCalendar instance, never null
+     */
+    public static BusinessCalendar of(final Set<DayOfWeek> weekendDays, final Collection<LocalDate> holidays) {
+        Preconditions.checkNotNull(weekendDays, "Weekend days must not be null");
+        Preconditions.checkNotNull(holidays, "Holidays must not be null");
+        Preconditions.checkArgument(weekendDays.size() < DAYS_PER_WEEK, "Weekend must leave at least one business day per week");
+        int weekend = 0;
+        for (final DayOfWeek dayOfWeek : weekendDays) {
+            weekend |= 1 << Preconditions.checkNotNull(dayOfWeek, "Weekend days must not contain null").getValue();
+        }
+        return new BusinessCalendar(weekend, holidays);
+    }
+
+    public boolean isWeekend(final DayOfWeek dayOfWeek) {
+        return (weekend >>> dayOfWeek.getValue() & 1) != 0;
+    }
+
+    public boolean isHoliday(final LocalDate date) {
+        final int index = date.getYear() - firstYear;
+        return index >= 0 && index < holidays.length && holidays[index].get(date.getDayOfYear() - 1);
+    }
+
+    public boolean isBusinessDay(final LocalDate date) {
+        return !isWeekend(date.getDayOfWeek()) && !isHoliday(date);
+    }
+
+    /**
+     * Days of given month that are not weekend days.
+     *
+     * @param year  - year to evaluate
+     * @param month - month to evaluate, 1-12
+     * @return bitmask where bit n is set if day of month n is not a weekend day
+     */
+    public long weekdaysOfMonth(final int year, final int month) {
+        final LocalDate firstDay = LocalDate.of(year, month, 1);
+        return weekdaysByFirstDayOfWeek[firstDay.getDayOfWeek().getValue()] & ((1L << (firstDay.lengthOfMonth() + 1)) - 2);
+    }
+
+    /**
+     * Business days of given month.
+     *
+     * @param year  - year to evaluate
+     * @param month - month to evaluate, 1-12
+     * @return bitmask where bit n is set if day of month n is a business day
+     */
+    public long businessDaysOfMonth(final int year, final int month) {
+        final long weekdays = weekdaysOfMonth(year, month);
+        final int index = year - firstYear;
+        return index >= 0 && index < holidays.length ? weekdays & ~holidaysOfMonth[index * 12 + month - 1] : weekdays;
+    }
+
+    /**
+     * First business day at or after given date.
+     *
+     * @param date - LocalDate instance. If null, a NullPointerException will be raised.
+     * @return business day, never null
+     */
+    public LocalDate nextBusinessDay(final LocalDate date) {
+        LocalDate day = Preconditions.checkNotNull(date, "Date must not be null");
+        while (!isBusinessDay(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * Last business day at or before given date.
+     *
+     * @param date - LocalDate instance. If null, a NullPointerException will be raised.
+     * @return business day, never null
+     */
+    public LocalDate previousBusinessDay(final LocalDate date) {
+        LocalDate day = Preconditions.checkNotNull(date, "Date must not be null");
+        while (!isBusinessDay(day)) {
+            day = day.minusDays(1);
+        }
+        return day;
+    }
+
+    /**
+     * Counts business days between two dates, both included.
+     *
+     * @param startDate - first date. If null, a NullPointerException will be raised.
+     * @param endDate   - last date, not before the first one. If null, a NullPointerException will be raised.
+     * @return number of business days
+     */
+    public int workdaysCount(final LocalDate startDate, final LocalDate endDate) {
+        Preconditions.checkNotNull(startDate, "Start date must not be null");
+        Preconditions.checkNotNull(endDate, "End date must not be null");
+        Preconditions.checkArgument(!endDate.isBefore(startDate), "End date must not be before start date");
+        final long start = startDate.toEpochDay();
+        final long end = endDate.toEpochDay();
+        final long weeks = (end - start + 1) / DAYS_PER_WEEK;
+        long count = weeks * businessDaysPerWeek;
+        //at most six days left after whole weeks
+        for (long day = start + weeks * DAYS_PER_WEEK; day <= end; day++) {
+            if ((weekend >>> (Math.floorMod(day + 3, DAYS_PER_WEEK) + 1) & 1) == 0) {
+                count++;
+            }
+        }
+        return Math.toIntExact(count - holidaysBefore[clamp(end + 1)] + holidaysBefore[clamp(start)]);
+    }
+
+    private int clamp(final long epochDay) {
+        return (int) Math.max(0, Math.min(holidaysBefore.length - 1, epochDay - firstEpochDay));
+    }
+}
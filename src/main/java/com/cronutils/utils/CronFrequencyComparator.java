@@ -1,14 +1,17 @@
 package com.cronutils.utils;
 
 import com.cronutils.model.Cron;
-import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.model.time.CronFrequency;
 
 import java.time.ZonedDateTime;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CronFrequencyComparator implements Comparator<Cron> {
     private final ZonedDateTime startDate;
     private final ZonedDateTime endDate;
+    private final Map<Cron, Long> frequencies = new ConcurrentHashMap<>();
 
     public CronFrequencyComparator(ZonedDateTime startDate, ZonedDateTime endDate){
         this.startDate = startDate;
@@ -17,8 +20,13 @@ public class CronFrequencyComparator implements Comparator<Cron> {
 
     @Override
     public int compare(Cron o1, Cron o2) {
-        int executions1 = ExecutionTime.forCron(o1).countExecutions(startDate, endDate);
-        int executions2 = ExecutionTime.forCron(o2).countExecutions(startDate, endDate);
-        return executions1-executions2;
+        return Long.compare(frequency(o1), frequency(o2));
+    }
+
+    /**
+     * Executions of given cron within this comparator window; computed once per cron instance.
+     */
+    private long frequency(Cron cron) {
+        return frequencies.computeIfAbsent(cron, c -> CronFrequency.estimate(c, startDate, endDate));
     }
 }
@@ -12,10 +12,12 @@
  */
 package com.cronutils.utils;
 
-import java.time.Duration;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class DateUtils {
     private DateUtils(){}
@@ -24,42 +26,31 @@ public class DateUtils {
         return workdaysCount(startDate, startDate.plusDays(days), holidays, weekendPolicy);
     }
 
+    /**
+     * Counts workdays between two dates, both included. Holidays on weekend days, or listed more than once, are subtracted once at most.
+     * Holidays are not modified. See {@link BusinessCalendar} to count workdays repeatedly for the same holidays.
+     */
     public static int workdaysCount(ZonedDateTime startDate, ZonedDateTime endDate, List<ZonedDateTime> holidays, WeekendPolicy weekendPolicy){
-        Collections.sort(holidays);
-        holidays = holidaysInRange(startDate, endDate, holidays);
-        int daysToWeekend = WeekendPolicy.daysToWeekend(weekendPolicy, startDate);
-        int daysFromWeekend = WeekendPolicy.daysFromWeekend(weekendPolicy, endDate);
-        int daysBetween = (int)Duration.between(startDate, endDate).toDays()+1;
-
-        //2+ [xxx+2]/7*5
-        int tmpWeekdays = (daysBetween-daysToWeekend-daysFromWeekend-2)/7*5;
-        tmpWeekdays = tmpWeekdays-holidays.size();
-
-        return tmpWeekdays+daysToWeekend+daysFromWeekend;
-    }
-
-    private static List<ZonedDateTime> holidaysInRange(ZonedDateTime startDate, ZonedDateTime endDate, List<ZonedDateTime> holidays){
-        if(holidays.isEmpty()){
-            return holidays;
-        }
-        int idxstart = findIdx(0, holidays.size()-1, startDate, holidays);
-        int idxend = findIdx(0, holidays.size()-1, endDate, holidays);
-        return holidays.subList(idxstart, idxend+1);
-    }
-
-    private static int findIdx(int startidx, int endidx, ZonedDateTime endDate, List<ZonedDateTime> holidays){
-        if(startidx==endidx){
-            return startidx;
-        }
-        int pivot = (endidx-startidx)/2;
-
-        if(holidays.get(pivot).equals(endDate)){
-            return pivot;
+        final LocalDate start = startDate.toLocalDate();
+        final LocalDate end = endDate.toLocalDate();
+        Preconditions.checkArgument(!end.isBefore(start), "End date must not be before start date");
+        final Set<DayOfWeek> weekendDays = weekendPolicy.getWeekendDays();
+        final long days = end.toEpochDay() - start.toEpochDay() + 1;
+        final long weeks = days / 7;
+        long count = weeks * (7 - weekendDays.size());
+        //at most six days left after whole weeks
+        for (LocalDate day = start.plusWeeks(weeks); !day.isAfter(end); day = day.plusDays(1)) {
+            if (!weekendDays.contains(day.getDayOfWeek())) {
+                count++;
+            }
         }
-        if(holidays.get(pivot).isBefore(endDate)){
-            return findIdx(++pivot, endidx, endDate, holidays);
-        }else{
-            return findIdx(startidx, pivot, endDate, holidays);
+        final Set<LocalDate> subtracted = new HashSet<>();
+        for (final ZonedDateTime holiday : holidays) {
+            final LocalDate date = holiday.toLocalDate();
+            if (!date.isBefore(start) && !date.isAfter(end) && !weekendDays.contains(date.getDayOfWeek()) && subtracted.add(date)) {
+                count--;
+            }
         }
+        return Math.toIntExact(count);
     }
 }
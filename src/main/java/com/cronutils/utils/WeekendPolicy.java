@@ -12,10 +12,26 @@
  */
 package com.cronutils.utils;
 
+import java.time.DayOfWeek;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 public enum WeekendPolicy {
-    THURSDAY_FRIDAY, FRIDAY_SATURDAY, SATURDAY_SUNDAY;
+    THURSDAY_FRIDAY(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+    FRIDAY_SATURDAY(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY),
+    SATURDAY_SUNDAY(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final Set<DayOfWeek> weekendDays;
+
+    WeekendPolicy(final DayOfWeek first, final DayOfWeek second) {
+        this.weekendDays = Collections.unmodifiableSet(EnumSet.of(first, second));
+    }
+
+    public Set<DayOfWeek> getWeekendDays() {
+        return weekendDays;
+    }
 
     public static int daysToWeekend(WeekendPolicy policy, ZonedDateTime date) {
         int dow = date.getDayOfWeek().getValue();
@@ -0,0 +1,51 @@
+package com.cronutils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.constraint.FieldConstraints;
+import com.cronutils.model.field.constraint.FieldConstraintsBuilder;
+
+/**
+ * Test for StringValidations.java
+ */
+class StringValidationsTest {
+
+    private final FieldConstraints daysOfWeek = FieldConstraintsBuilder.instance().forField(CronFieldName.DAY_OF_WEEK)
+            .addLSupport().addHashSupport().createConstraintsInstance();
+
+    @Test
+    void testValidCharsAreRemoved() {
+        final StringValidations validations = new StringValidations(daysOfWeek);
+        assertEquals("", validations.removeValidChars("MON-FRI"));
+        assertEquals("", validations.removeValidChars("mon, wed,fri"));
+        assertEquals("", validations.removeValidChars("1-5/2,6#3,*,?"));
+        assertEquals("", validations.removeValidChars("5L"));
+    }
+
+    @Test
+    void testInvalidCharsAreKept() {
+        final StringValidations validations = new StringValidations(daysOfWeek);
+        assertEquals("$", validations.removeValidChars("MON$"));
+        assertEquals("MONX", validations.removeValidChars("MONX"));
+        assertEquals("LW", validations.removeValidChars("LW"));
+        assertEquals("JAN", validations.removeValidChars("JAN"));
+        //digits do not delimit words
+        assertEquals("", validations.removeValidChars("MO1N"));
+    }
+
+    @Test
+    void testInstancesAreSharedByEqualConstraints() {
+        final FieldConstraints constraints = FieldConstraintsBuilder.instance().addLSupport().addLWSupport().addWSupport()
+                .createConstraintsInstance();
+        final StringValidations validations = StringValidations.forConstraints(constraints);
+        assertSame(validations, StringValidations.forConstraints(FieldConstraintsBuilder.instance().addLSupport().addLWSupport()
+                .addWSupport().createConstraintsInstance()));
+        assertNotSame(validations, StringValidations.forConstraints(daysOfWeek));
+        assertEquals("", validations.removeValidChars("L,LW,15W"));
+    }
+}
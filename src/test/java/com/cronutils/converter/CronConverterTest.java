@@ -13,14 +13,20 @@
 
 package com.cronutils.converter;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.spy;
 
 public class CronConverterTest {
@@ -53,4 +59,47 @@ public class CronConverterTest {
 						.from(ZoneId.of(timezone)).to(ZoneId.of("UTC"))
 						.convert());
 	}
+
+	public static Stream<Arguments> unixCronExpressions() {
+		return Stream.of(Arguments.of("Pacific/Pago_Pago", "15 * * * *", "15 * * * *"),
+				Arguments.of("Pacific/Chatham", "15 * * * *", "30 * * * *"),
+				Arguments.of("Asia/Colombo", "45 * * * *", "15 * * * *"),
+				Arguments.of("Australia/Eucla", "13 * * * *", "28 * * * *"),
+				Arguments.of("America/St_Johns", "0 8 * * *", "30 11 * * *"),
+				Arguments.of("Asia/Kolkata", "20 0 * * *", "50 18 * * *"),
+				Arguments.of("Asia/Kolkata", "0 9-17 * * *", "30 3-11 * * *"),
+				Arguments.of("America/New_York", "0 22 * * 1-5", "0 3 * * 2-6")
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("unixCronExpressions")
+	public void testConvertWithoutBuilder(String timezone, String inputCronExpression, String expectedCronExpression) {
+		final CronConverter converter = new CronConverter(new CronToCalendarTransformer(), new CalendarToCronTransformer(),
+				Clock.fixed(Instant.parse("2024-01-15T12:00:00Z"), ZoneOffset.UTC));
+		assertEquals(expectedCronExpression, converter.convert(inputCronExpression, ZoneId.of(timezone), ZoneId.of("UTC")));
+	}
+
+	@Test
+	public void testConvertMovesDays() {
+		final CronConverter converter = new CronConverter(new CronToCalendarTransformer(), new CalendarToCronTransformer(),
+				Clock.fixed(Instant.parse("2024-07-01T12:00:00Z"), ZoneOffset.UTC));
+		assertEquals("30 23 14 * 0", converter.convert("30 1 15 * 1", ZoneId.of("Europe/Paris"), ZoneId.of("UTC")));
+	}
+
+	@Test
+	public void testConvertRejectsCronsThatCannotBeShifted() {
+		final CronConverter converter = new CronConverter(new CronToCalendarTransformer(), new CalendarToCronTransformer(),
+				Clock.fixed(Instant.parse("2024-07-01T12:00:00Z"), ZoneOffset.UTC));
+		//executions move to the next day, which may fall into August
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("30 20 31 7 *", ZoneId.of("America/New_York"), ZoneId.of("UTC")));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("? * * * *", ZoneId.of("Asia/Kolkata"), ZoneId.of("UTC")));
+	}
+
+	@Test
+	public void testConvertFromSharedInstance() {
+		final CronConverter converter = new CronConverter();
+		IntStream.range(0, 1000).parallel().forEach(i ->
+				assertEquals("50 18 * * *", converter.convert("20 0 * * *", ZoneId.of("Asia/Kolkata"), ZoneId.of("UTC"))));
+	}
 }
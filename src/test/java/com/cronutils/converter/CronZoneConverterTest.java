@@ -0,0 +1,111 @@
+package com.cronutils.converter;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for CronZoneConverter.java */
+public class CronZoneConverterTest {
+	private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+	private static final CronParser UNIX = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+
+	@Test
+	public void testShiftsHoursAndMinutes() {
+		final Cron converted = CronZoneConverter.convert(UNIX.parse("0 9 * * *"), ZoneId.of("America/New_York"), ZoneOffset.UTC,
+				Instant.parse("2024-07-01T00:00:00Z"));
+		assertEquals("0 13 * * *", converted.asString());
+	}
+
+	@Test
+	public void testShiftsMinutesOfEveryHour() {
+		final Cron converted = CronZoneConverter.convert(UNIX.parse("0 * * * *"), ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(12, 45));
+		assertEquals("45 * * * *", converted.asString());
+	}
+
+	@Test
+	public void testSplitsStepsIntoCompositeCron() {
+		final Cron converted = CronZoneConverter.convert(QUARTZ.parse("0 0/15 9-17 ? * MON-FRI"), ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.UTC);
+		assertTrue(converted instanceof CompositeCron);
+		assertEquals(List.of("0 30,45 3 ? * 2-6", "0 0/15 4-11 ? * 2-6", "0 0,15 12 ? * 2-6"), asStrings(converted));
+	}
+
+	@Test
+	public void testMovesDayOfWeekToPreviousDay() {
+		final Cron converted = CronZoneConverter.convert(QUARTZ.parse("0 30 1 ? * MON"), ZoneOffset.ofHours(2), ZoneOffset.UTC);
+		assertEquals("0 30 23 ? * 1", converted.asString());
+	}
+
+	@Test
+	public void testSplitsExecutionsMovedToNextDay() {
+		final Cron converted = CronZoneConverter.convert(UNIX.parse("0 22-23 * * 1"), ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(1, 30));
+		assertEquals(List.of("30 23 * * 1", "30 0 * * 2"), asStrings(converted));
+	}
+
+	@Test
+	public void testMovesDaysOfMonth() {
+		final Cron converted = CronZoneConverter.convert(UNIX.parse("30 23 1-10 * *"), ZoneOffset.UTC, ZoneOffset.ofHours(1));
+		assertEquals("30 0 2-11 * *", converted.asString());
+	}
+
+	@Test
+	public void testMovesFirstDayOfMonthToLastDay() {
+		final Cron converted = CronZoneConverter.convert(QUARTZ.parse("0 0 0 1 * ?"), ZoneOffset.ofHours(1), ZoneOffset.UTC);
+		assertEquals("0 0 23 L * ?", converted.asString());
+	}
+
+	@Test
+	public void testConvertedCronsCanBeParsed() {
+		final Cron converted = CronZoneConverter.convert(QUARTZ.parse("0 0/20 8-10,14 ? * 2-6"), ZoneOffset.ofHoursMinutes(5, 45), ZoneOffset.UTC);
+		for (final String expression : asStrings(converted)) {
+			assertEquals(expression, QUARTZ.parse(expression).asString());
+		}
+	}
+
+	@Test
+	public void testSameOffsetsKeepCron() {
+		final Cron cron = QUARTZ.parse("0 0 12 ? * 2#1");
+		assertSame(cron, CronZoneConverter.convert(cron, ZoneOffset.ofHours(3), ZoneOffset.ofHours(3)));
+	}
+
+	@Test
+	public void testRejectsNthDayOfWeekMovedToAnotherDay() {
+		assertThrows(IllegalArgumentException.class,
+				() -> CronZoneConverter.convert(QUARTZ.parse("0 0 0 ? * 2#1"), ZoneOffset.ofHours(1), ZoneOffset.UTC));
+	}
+
+	@Test
+	public void testRejectsDaysCrossingRestrictedMonths() {
+		assertThrows(IllegalArgumentException.class,
+				() -> CronZoneConverter.convert(QUARTZ.parse("0 30 23 * 1 ?"), ZoneOffset.UTC, ZoneOffset.ofHours(1)));
+	}
+
+	@Test
+	public void testConcurrentConversions() {
+		final Cron cron = QUARTZ.parse("0 0/15 9-17 ? * MON-FRI");
+		final List<String> expected = asStrings(CronZoneConverter.convert(cron, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.UTC));
+		IntStream.range(0, 1000).parallel().forEach(i ->
+				assertEquals(expected, asStrings(CronZoneConverter.convert(cron, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.UTC))));
+	}
+
+	private static List<String> asStrings(final Cron cron) {
+		if (cron instanceof CompositeCron) {
+			return ((CompositeCron) cron).getCrons().stream().map(Cron::asString).collect(Collectors.toList());
+		}
+		return List.of(cron.asString());
+	}
+}
@@ -0,0 +1,164 @@
+package com.cronutils.metrics;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.model.time.ExecutionTimeCache;
+import com.cronutils.model.time.SearchBudget;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for CronMetricsRegistry.java */
+public class CronMetricsRegistryTest {
+    private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    private static final ZonedDateTime DATE = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private RecordingMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = new RecordingMetrics();
+        CronMetricsRegistry.register(metrics);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CronMetricsRegistry.reset();
+    }
+
+    @Test
+    public void testNoopIsDisabled() {
+        CronMetricsRegistry.reset();
+        assertSame(CronMetrics.noop(), CronMetricsRegistry.get());
+        assertFalse(CronMetricsRegistry.get().isEnabled());
+    }
+
+    @Test
+    public void testRecordsParses() {
+        QUARTZ.parse("0 0 12 ? * MON-FRI || 0 0 18 ? * SAT");
+        assertThrows(IllegalArgumentException.class, () -> QUARTZ.parse("0 0 25 * * ?"));
+        assertEquals(List.of("0 0 12 ? * MON-FRI || 0 0 18 ? * SAT", "0 0 25 * * ?"), metrics.expressions);
+        assertEquals(List.of(true, false), metrics.parseResults);
+    }
+
+    @Test
+    public void testRecordsSearches() {
+        final Cron cron = QUARTZ.parse("0 30 9 ? * MON");
+        final ZonedDateTime next = ExecutionTime.forCron(cron).nextExecution(DATE).orElseThrow();
+        assertEquals(DATE.withHour(9).withMinute(30), next);
+        assertFalse(metrics.searches.isEmpty());
+        final Search last = metrics.searches.get(metrics.searches.size() - 1);
+        assertEquals(CronMetrics.SearchDirection.NEXT, last.direction);
+        assertEquals(cron.asString(), last.expression);
+        assertEquals(next, last.result);
+        assertTrue(last.iterations > 0);
+
+        ExecutionTime.forCron(cron).lastExecution(DATE);
+        assertEquals(CronMetrics.SearchDirection.PREVIOUS, metrics.searches.get(metrics.searches.size() - 1).direction);
+    }
+
+    @Test
+    public void testSkipsSearchesStartedWhileDisabled() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(QUARTZ.parse("0 0 9 ? * TUE"));
+        //metrics get enabled while the search runs
+        metrics.disabledChecks = 1;
+        assertTrue(executionTime.nextExecution(DATE).isPresent());
+        assertTrue(metrics.searches.isEmpty());
+    }
+
+    @Test
+    public void testRecordsIterationLimitHits() {
+        final Cron cron = QUARTZ.parse("0 0 0 29 2 ? 2096");
+        assertFalse(ExecutionTime.forCron(cron).nextExecution(DATE, SearchBudget.of(1, Duration.ofDays(365 * 100))).isPresent());
+        assertEquals(1, metrics.iterationLimitHits);
+        final Search search = metrics.searches.get(metrics.searches.size() - 1);
+        assertEquals(1, search.iterations);
+        assertNull(search.result);
+    }
+
+    @Test
+    public void testRecordsCacheLookups() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(4);
+        final Cron cron = QUARTZ.parse("0 0 12 * * ?");
+        cache.get(cron);
+        cache.get(cron);
+        assertEquals(1, metrics.cacheMisses);
+        assertEquals(1, metrics.cacheHits);
+    }
+
+    private static final class Search {
+        private final CronMetrics.SearchDirection direction;
+        private final String expression;
+        private final int iterations;
+        private final ZonedDateTime result;
+
+        private Search(final CronMetrics.SearchDirection direction, final String expression, final int iterations, final ZonedDateTime result) {
+            this.direction = direction;
+            this.expression = expression;
+            this.iterations = iterations;
+            this.result = result;
+        }
+    }
+
+    private static final class RecordingMetrics implements CronMetrics {
+        private final List<String> expressions = new ArrayList<>();
+        private final List<Boolean> parseResults = new ArrayList<>();
+        private final List<Search> searches = new ArrayList<>();
+        private int cacheHits;
+        private int cacheMisses;
+        private int iterationLimitHits;
+        private int disabledChecks;
+
+        @Override
+        public boolean isEnabled() {
+            if (disabledChecks > 0) {
+                disabledChecks--;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void parsed(final String expression, final long durationNanos, final boolean success) {
+            expressions.add(expression);
+            parseResults.add(success);
+        }
+
+        @Override
+        public void searched(final SearchDirection direction, final String expression, final ZonedDateTime date, final int iterations,
+                             final long durationNanos, final ZonedDateTime result) {
+            searches.add(new Search(direction, expression, iterations, result));
+        }
+
+        @Override
+        public void cacheHit() {
+            cacheHits++;
+        }
+
+        @Override
+        public void cacheMiss() {
+            cacheMisses++;
+        }
+
+        @Override
+        public void iterationLimitHit() {
+            iterationLimitHits++;
+        }
+    }
+}
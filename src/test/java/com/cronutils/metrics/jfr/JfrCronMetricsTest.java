@@ -0,0 +1,134 @@
+package com.cronutils.metrics.jfr;
+
+import com.cronutils.metrics.CronMetrics;
+import com.cronutils.metrics.CronMetricsRegistry;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for JfrCronMetrics.java */
+public class JfrCronMetricsTest {
+    private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testPublishesCountersAsPeriodicEvent() throws Exception {
+        final Path file = directory.resolve("metrics.jfr");
+        try (Recording recording = new Recording(); JfrCronMetrics metrics = JfrCronMetrics.install()) {
+            recording.enable("com.cronutils.Metrics").with("period", "endChunk");
+            recording.start();
+            QUARTZ.parse("0 0 12 * * ?");
+            QUARTZ.parse("0 0 12 * * ?");
+            ExecutionTime.forCron(QUARTZ.parse("0 15 10 ? * MON")).nextExecution(ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.cronutils.Metrics"))
+                .collect(Collectors.toList());
+        assertEquals(3, events.stream().mapToLong(event -> event.getLong("parses")).sum());
+        assertTrue(events.stream().mapToLong(event -> event.getLong("searches")).sum() > 0);
+        assertTrue(events.stream().mapToLong(event -> event.getLong("searchIterations")).sum() > 0);
+    }
+
+    @Test
+    public void testRecordsParseAndSearchEvents() throws Exception {
+        final Path file = directory.resolve("events.jfr");
+        final ZonedDateTime date = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        try (Recording recording = new Recording(); JfrCronMetrics metrics = JfrCronMetrics.install(Duration.ZERO)) {
+            recording.enable("com.cronutils.Parse");
+            recording.enable("com.cronutils.Search");
+            recording.start();
+            ExecutionTime.forCron(QUARTZ.parse("0 15 10 ? * MON")).nextExecution(date);
+            assertThrows(IllegalArgumentException.class, () -> QUARTZ.parse("0 15 25 ? * MON"));
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        final List<RecordedEvent> parses = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.cronutils.Parse")).collect(Collectors.toList());
+        assertEquals(List.of("0 15 10 ? * MON", "0 15 25 ? * MON"), parses.stream().map(event -> event.getString("expression")).collect(Collectors.toList()));
+        assertEquals(List.of(true, false), parses.stream().map(event -> event.getBoolean("success")).collect(Collectors.toList()));
+        final RecordedEvent search = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.cronutils.Search")).findFirst().orElseThrow();
+        assertEquals("0 15 10 ? * 2", search.getString("expression"));
+        assertEquals("NEXT", search.getString("direction"));
+        assertEquals(date.toString(), search.getString("referenceDate"));
+        assertEquals(date.withHour(10).withMinute(15).toString(), search.getString("result"));
+        assertTrue(search.getInt("iterations") > 0);
+        //the search time field is the duration of the search, the event being committed after it
+        assertEquals(Duration.ZERO, search.getDuration());
+        assertFalse(search.getDuration("searchTime").isNegative());
+    }
+
+    @Test
+    public void testSkipsSearchesBelowThreshold() throws Exception {
+        final Path file = directory.resolve("threshold.jfr");
+        try (Recording recording = new Recording(); JfrCronMetrics metrics = JfrCronMetrics.install(Duration.ofHours(1))) {
+            recording.enable("com.cronutils.Search");
+            recording.start();
+            ExecutionTime.forCron(QUARTZ.parse("0 15 10 ? * MON")).nextExecution(ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+            recording.stop();
+            recording.dump(file);
+        }
+        assertTrue(RecordingFile.readAllEvents(file).stream().noneMatch(event -> event.getEventType().getName().equals("com.cronutils.Search")));
+    }
+
+    @Test
+    public void testDisabledWithoutRecording() {
+        try (JfrCronMetrics metrics = JfrCronMetrics.install()) {
+            assertFalse(metrics.isEnabled());
+        }
+    }
+
+    @Test
+    public void testRejectsNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new JfrCronMetrics(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    public void testPublishesOnlyOnceInUse() {
+        final JfrCronMetrics metrics = new JfrCronMetrics();
+        assertFalse(FlightRecorder.removePeriodicEvent(metrics.publisher));
+        metrics.isEnabled();
+        assertTrue(FlightRecorder.removePeriodicEvent(metrics.publisher));
+    }
+
+    @Test
+    public void testCloseStopsPublishing() {
+        final JfrCronMetrics metrics = JfrCronMetrics.install();
+        metrics.close();
+        metrics.isEnabled();
+        assertFalse(FlightRecorder.removePeriodicEvent(metrics.publisher));
+    }
+
+    @Test
+    public void testCloseUnregistersMetrics() {
+        final JfrCronMetrics metrics = JfrCronMetrics.install();
+        assertSame(metrics, CronMetricsRegistry.get());
+        metrics.close();
+        assertSame(CronMetrics.noop(), CronMetricsRegistry.get());
+    }
+}
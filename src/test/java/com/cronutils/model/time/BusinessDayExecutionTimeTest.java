@@ -0,0 +1,115 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import com.cronutils.utils.BusinessCalendar;
+import com.cronutils.utils.WeekendPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for BusinessDayExecutionTime.java */
+public class BusinessDayExecutionTimeTest {
+    private static final CronParser PARSER = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    private static final ZoneId ZONE = ZoneId.of("Europe/Madrid");
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.of(WeekendPolicy.SATURDAY_SUNDAY,
+            Arrays.asList(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26)));
+
+    private static ExecutionTime executionTime(final String cron) {
+        return new BusinessDayExecutionTime(ExecutionTime.forCron(PARSER.parse(cron)), CALENDAR);
+    }
+
+    private static ZonedDateTime date(final int month, final int day, final int hour) {
+        return ZonedDateTime.of(2024, month, day, hour, 0, 0, 0, ZONE);
+    }
+
+    @Test
+    public void testNextExecutionSkipsHolidaysAndWeekends() {
+        final ExecutionTime executionTime = executionTime("0 0 9 * * ?");
+        assertEquals(Optional.of(date(12, 27, 9)), executionTime.nextExecution(date(12, 24, 10)));
+        assertEquals(Optional.of(ZonedDateTime.of(2024, 12, 30, 9, 0, 0, 0, ZONE)), executionTime.nextExecution(date(12, 27, 10)));
+        assertEquals(Optional.of(date(12, 24, 9)), executionTime.nextExecution(date(12, 24, 8)));
+    }
+
+    @Test
+    public void testNextExecutionAtMidnight() {
+        assertEquals(Optional.of(date(12, 27, 0)), executionTime("0 0 0 * * ?").nextExecution(date(12, 24, 12)));
+    }
+
+    @Test
+    public void testLastExecutionSkipsHolidaysAndWeekends() {
+        final ExecutionTime executionTime = executionTime("0 0 9,18 * * ?");
+        assertEquals(Optional.of(date(12, 27, 18)), executionTime.lastExecution(ZonedDateTime.of(2024, 12, 30, 8, 0, 0, 0, ZONE)));
+        assertEquals(Optional.of(date(12, 24, 18)), executionTime.lastExecution(date(12, 27, 8)));
+    }
+
+    @Test
+    public void testIsMatch() {
+        final ExecutionTime executionTime = executionTime("0 0 9 * * ?");
+        assertTrue(executionTime.isMatch(date(12, 24, 9)));
+        assertFalse(executionTime.isMatch(date(12, 25, 9)));
+        assertFalse(executionTime.isMatch(date(12, 28, 9)));
+    }
+
+    @Test
+    public void testCronOnlyOnWeekendsGivesUpAtHorizon() {
+        final SearchBudget budget = SearchBudget.of(1000, Duration.ofDays(365));
+        assertEquals(Optional.empty(), executionTime("0 0 9 ? * SAT").nextExecution(date(12, 24, 10), budget));
+        assertEquals(1, budget.getHorizonLimitHits());
+    }
+
+    @Test
+    public void testDayMaskMatchesDecorator() {
+        for (final String cron : Arrays.asList("0 0 9 * * ?", "0 30 0 ? * MON-WED", "0 0 12 L * ?", "0 0/30 8-9 25-27 12 ?")) {
+            final ExecutionTime masked = ExecutionTime.forCron(PARSER.parse(cron)).onBusinessDays(CALENDAR);
+            assertTrue(masked instanceof SingleExecutionTime);
+            final ExecutionTime decorated = executionTime(cron);
+            for (ZonedDateTime date = date(11, 20, 7); date.isBefore(date(12, 31, 23)); date = date.plusHours(7)) {
+                assertEquals(decorated.nextExecution(date), masked.nextExecution(date), cron + " next " + date);
+                assertEquals(decorated.lastExecution(date), masked.lastExecution(date), cron + " last " + date);
+            }
+        }
+    }
+
+    @Test
+    public void testDayMaskAppliesToMatchAndCount() {
+        final ExecutionTime masked = ExecutionTime.forCron(PARSER.parse("0 0 9,18 * * ?")).onBusinessDays(CALENDAR);
+        assertFalse(masked.isMatch(date(12, 25, 9)));
+        assertTrue(masked.isMatch(date(12, 27, 18)));
+        assertArrayEquals(new long[]{2, 0, 0, 2, 0, 0, 2}, masked.countByBucket(date(12, 24, 0), date(12, 31, 0), ChronoUnit.DAYS));
+        final BitSet matches = new BitSet();
+        masked.matchMask(new long[]{date(12, 24, 9).toEpochSecond(), date(12, 25, 9).toEpochSecond()}, ZONE, matches);
+        assertEquals(1, matches.cardinality());
+        assertTrue(matches.get(0));
+    }
+
+    @Test
+    public void testDayMaskOfCompositeMembers() {
+        final ExecutionTime composite = new CompositeExecutionTime(Arrays.asList(
+                ExecutionTime.forCron(PARSER.parse("0 0 9 * * ?")), ExecutionTime.forCron(PARSER.parse("0 0 18 * * ?"))));
+        final ExecutionTime masked = composite.onBusinessDays(CALENDAR);
+        assertEquals(Optional.of(date(12, 27, 9)), masked.nextExecution(date(12, 24, 19)));
+        assertNotEquals(composite.nextExecution(date(12, 24, 19)), masked.nextExecution(date(12, 24, 19)));
+    }
+
+    @Test
+    public void testCronOnlyOnWeekendsIsNotSatisfiable() {
+        final ExecutionTime masked = ExecutionTime.forCron(PARSER.parse("0 0 9 ? * SAT,SUN")).onBusinessDays(CALENDAR);
+        assertFalse(masked.isSatisfiable());
+        assertEquals(Optional.empty(), masked.nextExecution(date(12, 24, 10)));
+    }
+}
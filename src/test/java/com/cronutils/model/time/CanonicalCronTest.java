@@ -0,0 +1,91 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for CanonicalCron.java
+ */
+class CanonicalCronTest {
+
+    private CronParser unixParser;
+    private CronParser quartzParser;
+
+    @BeforeEach
+    public void setUp() {
+        unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+        quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+    }
+
+    @Test
+    void testListAndStepAreEquivalent() {
+        final CanonicalCron list = CanonicalCron.of(unixParser.parse("0,15,30,45 * * * *"));
+        final CanonicalCron step = CanonicalCron.of(unixParser.parse("*/15 * * * *"));
+        assertEquals(list, step);
+        assertEquals(list.hashCode(), step.hashCode());
+        assertEquals(1L | 1L << 15 | 1L << 30 | 1L << 45, list.getMinutes());
+    }
+
+    @Test
+    void testRangeAndListAreEquivalent() {
+        assertEquals(CanonicalCron.of(unixParser.parse("0 9-11 * * 1-5")), CanonicalCron.of(unixParser.parse("0 9,10,11 * * MON,TUE,WED,THU,FRI")));
+    }
+
+    @Test
+    void testDayOfWeekMappingAcrossDefinitions() {
+        assertEquals(CanonicalCron.of(unixParser.parse("0 12 * * 1")), CanonicalCron.of(quartzParser.parse("0 0 12 ? * 2 *")));
+        assertEquals(CanonicalCron.of(unixParser.parse("0 12 * * 0")), CanonicalCron.of(unixParser.parse("0 12 * * 7")));
+    }
+
+    @Test
+    void testEveryDayRulesCollapse() {
+        final CanonicalCron everyDay = CanonicalCron.of(unixParser.parse("0 0 * * *"));
+        assertEquals(everyDay, CanonicalCron.of(unixParser.parse("0 0 1-31 * *")));
+        assertEquals(everyDay, CanonicalCron.of(unixParser.parse("0 0 * * 0-6")));
+        assertEquals(CanonicalCron.DayMatching.EVERY_DAY, everyDay.getDayMatching());
+    }
+
+    @Test
+    void testSpecialDayRulesAreKept() {
+        final CanonicalCron lastDay = CanonicalCron.of(quartzParser.parse("0 0 0 L * ? *"));
+        assertNotEquals(lastDay, CanonicalCron.of(quartzParser.parse("0 0 0 31 * ? *")));
+        assertEquals(lastDay, CanonicalCron.of(quartzParser.parse("0 0 0 L 1-12 ? *")));
+        assertEquals(CanonicalCron.of(quartzParser.parse("0 0 0 ? * 2#1 *")), CanonicalCron.of(quartzParser.parse("0 0 0 ? * MON#1 *")));
+        assertNotEquals(CanonicalCron.of(quartzParser.parse("0 0 0 ? * 2#1 *")), CanonicalCron.of(quartzParser.parse("0 0 0 ? * 2#2 *")));
+    }
+
+    @Test
+    void testYearRestriction() {
+        final CanonicalCron restricted = CanonicalCron.of(quartzParser.parse("0 0 0 1 1 ? 2030-2032"));
+        assertTrue(restricted.hasYearRestriction());
+        assertTrue(restricted.isYearMatch(2031));
+        assertFalse(restricted.isYearMatch(2033));
+        assertFalse(CanonicalCron.of(quartzParser.parse("0 0 0 1 1 ? *")).hasYearRestriction());
+    }
+
+    @Test
+    void testDifferentSchedulesAreNotEqual() {
+        assertNotEquals(CanonicalCron.of(unixParser.parse("* * * * 1")), CanonicalCron.of(unixParser.parse("0 * * * *")));
+    }
+
+    @Test
+    void testCompositeCronIsRejected() {
+        final Cron composite = new CompositeCron(Arrays.asList(unixParser.parse("0 * * * *"), unixParser.parse("30 * * * *")));
+        assertThrows(IllegalArgumentException.class, () -> CanonicalCron.of(composite));
+    }
+}
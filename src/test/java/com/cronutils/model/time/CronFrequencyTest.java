@@ -0,0 +1,94 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for CronFrequency.java
+ */
+class CronFrequencyTest {
+
+    private CronParser unixParser;
+    private CronParser quartzParser;
+
+    @BeforeEach
+    public void setUp() {
+        unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+        quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+    }
+
+    @Test
+    void testMatchesCountExecutions() {
+        final ZonedDateTime start = ZonedDateTime.of(2024, 2, 27, 10, 17, 30, 500, UTC);
+        final ZonedDateTime end = ZonedDateTime.of(2024, 4, 2, 13, 45, 0, 0, UTC);
+        for (final String expression : Arrays.asList("*/15 * * * *", "0 9-17 * * 1-5", "45 13 * * *", "30 10-14 29 2 *")) {
+            final Cron cron = unixParser.parse(expression);
+            assertEquals(ExecutionTime.forCron(cron).countExecutions(start, end), CronFrequency.estimate(cron, start, end), expression);
+        }
+        final Cron lastDayOfMonth = quartzParser.parse("0 0 0 L * ? *");
+        assertEquals(ExecutionTime.forCron(lastDayOfMonth).countExecutions(start, end), CronFrequency.estimate(lastDayOfMonth, start, end));
+    }
+
+    @Test
+    void testSecondsAndYears() {
+        final Cron cron = quartzParser.parse("*/10 0 12 ? * MON 2025");
+        final ZonedDateTime start = ZonedDateTime.of(2024, 6, 1, 0, 0, 0, 0, UTC);
+        //52 Mondays in 2025, 6 executions each
+        assertEquals(52 * 6, CronFrequency.estimate(cron, start, start.plusYears(2)));
+    }
+
+    @Test
+    void testCompositeCronCountsCoincidingExecutionsOnce() {
+        final Cron composite = new CompositeCron(Arrays.asList(unixParser.parse("0 * * * *"), unixParser.parse("0 12 * * *"),
+                unixParser.parse("*/30 * * * *")));
+        final ZonedDateTime start = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC);
+        assertEquals(48, CronFrequency.estimate(composite, start, start.plusDays(1)));
+    }
+
+    @Test
+    void testCountsPartialDays() {
+        final Cron cron = unixParser.parse("0,30 1,3 * * *");
+        final ZonedDateTime midnight = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, UTC);
+        assertEquals(0, CronFrequency.estimate(cron, midnight, midnight.plusSeconds(3599)));
+        assertEquals(1, CronFrequency.estimate(cron, midnight, midnight.plusSeconds(3600)));
+        assertEquals(2, CronFrequency.estimate(cron, midnight, midnight.plusSeconds(3 * 3600 - 1)));
+        assertEquals(4, CronFrequency.estimate(cron, midnight, midnight.plusSeconds(86399)));
+        //the start is exclusive
+        assertEquals(3, CronFrequency.estimate(cron, midnight.plusHours(1), midnight.plusSeconds(86399)));
+    }
+
+    @Test
+    void testNestedCompositeCron() {
+        final Cron nested = new CompositeCron(Arrays.asList(
+                new CompositeCron(Arrays.asList(unixParser.parse("0 9 * * *"), unixParser.parse("0 10 * * *"))),
+                unixParser.parse("0 11 * * *")));
+        final ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, UTC);
+        assertEquals(30, CronFrequency.estimate(nested, start, start.plusDays(10)));
+        assertEquals(ExecutionTime.forCron(nested).countExecutions(start, start.plusDays(10)), CronFrequency.estimate(nested, start, start.plusDays(10)));
+    }
+
+    @Test
+    void testManyOverlappingMembers() {
+        final Cron composite = new CompositeCron(IntStream.rangeClosed(1, 22)
+                .mapToObj(step -> unixParser.parse(String.format("*/%s * * * *", step))).collect(Collectors.toList()));
+        final ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, UTC);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertEquals(1440, CronFrequency.estimate(composite, start, start.plusDays(1))));
+    }
+}
@@ -0,0 +1,133 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Test for CronLoadProfiler.java */
+public class CronLoadProfilerTest {
+    private static final CronParser UNIX = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+    private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+    private static final ZonedDateTime MIDNIGHT = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    public void testCountsExecutionsPerMinute() {
+        final Cron everyFiveMinutes = UNIX.parse("*/5 * * * *");
+        final Cron hourly = UNIX.parse("0 * * * *");
+        final LoadProfile profile = CronLoadProfiler.profile(List.of(everyFiveMinutes, hourly), MIDNIGHT, MIDNIGHT.plusHours(1), ChronoUnit.MINUTES);
+        assertEquals(60, profile.getSlotCount());
+        assertEquals(2, profile.getCount(0));
+        assertEquals(1, profile.getCount(5));
+        assertEquals(0, profile.getCount(6));
+        assertEquals(13, profile.getTotalExecutions());
+        assertEquals(2, profile.getPeak());
+        assertEquals(MIDNIGHT, profile.getPeakStart());
+    }
+
+    @Test
+    public void testReportsCronsOfEachSpike() {
+        final Cron everyFiveMinutes = UNIX.parse("*/5 * * * *");
+        final Cron hourly = UNIX.parse("0 * * * *");
+        final Cron quarterly = UNIX.parse("*/15 * * * *");
+        final List<LoadProfile.Spike> spikes = CronLoadProfiler.profile(List.of(everyFiveMinutes, hourly, quarterly),
+                MIDNIGHT, MIDNIGHT.plusHours(1), ChronoUnit.MINUTES).getSpikes(3);
+        assertEquals(List.of(3, 2, 2), spikes.stream().map(LoadProfile.Spike::getCount).collect(Collectors.toList()));
+        assertEquals(MIDNIGHT, spikes.get(0).getStart());
+        assertEquals(List.of(everyFiveMinutes, hourly, quarterly), spikes.get(0).getCrons());
+        assertEquals(MIDNIGHT.plusMinutes(15), spikes.get(1).getStart());
+        assertEquals(List.of(everyFiveMinutes, quarterly), spikes.get(1).getCrons());
+        assertEquals(MIDNIGHT.plusMinutes(30), spikes.get(2).getStart());
+    }
+
+    @Test
+    public void testSpikesOnlyReportCronsCountedInTheirSlot() {
+        final Cron first = QUARTZ.parse("0 0 0 * * ?");
+        final Cron afterEnd = QUARTZ.parse("45 0 0 * * ?");
+        final List<LoadProfile.Spike> spikes = CronLoadProfiler.profile(List.of(first, afterEnd), MIDNIGHT, MIDNIGHT.plusSeconds(30),
+                ChronoUnit.MINUTES).getSpikes(1);
+        assertEquals(1, spikes.get(0).getCount());
+        assertEquals(List.of(first), spikes.get(0).getCrons());
+
+        //01:30 is repeated after clocks move back at 02:00, but was already executed before the window
+        final ZonedDateTime start = ZonedDateTime.of(2024, 11, 3, 5, 45, 0, 0, ZoneOffset.UTC).withZoneSameInstant(ZoneId.of("America/New_York"));
+        final Cron beforeChange = QUARTZ.parse("0 50 1 * * ?");
+        final Cron repeated = QUARTZ.parse("0 30 1 * * ?");
+        final List<LoadProfile.Spike> overlap = CronLoadProfiler.profile(List.of(beforeChange, repeated), start, start.plusHours(1),
+                ChronoUnit.HOURS).getSpikes(1);
+        assertEquals(1, overlap.get(0).getCount());
+        assertEquals(List.of(beforeChange), overlap.get(0).getCrons());
+    }
+
+    @Test
+    public void testPercentilesPerSecond() {
+        final LoadProfile profile = CronLoadProfiler.profile(List.of(QUARTZ.parse("0/10 * * * * ?")), MIDNIGHT, MIDNIGHT.plusMinutes(1), ChronoUnit.SECONDS);
+        assertEquals(60, profile.getSlotCount());
+        assertEquals(1, profile.getP99());
+        assertEquals(0, profile.percentile(50));
+        assertEquals(1, profile.percentile(100));
+        assertEquals(6, profile.getSpikes(10).size());
+    }
+
+    @Test
+    public void testCompositeCronExecutionsAtSameSecondCountOnce() {
+        final Cron composite = new CompositeCron(List.of(UNIX.parse("0 * * * *"), UNIX.parse("*/30 * * * *")));
+        final LoadProfile profile = CronLoadProfiler.profile(List.of(composite), MIDNIGHT, MIDNIGHT.plusHours(1), ChronoUnit.MINUTES);
+        assertEquals(1, profile.getCount(0));
+        assertEquals(1, profile.getCount(30));
+        assertEquals(2, profile.getTotalExecutions());
+    }
+
+    @Test
+    public void testMatchesCountByBucketAcrossDaylightSavingChanges() {
+        final List<Cron> crons = List.of(QUARTZ.parse("0 0/7 * * * ?"), QUARTZ.parse("15 30 1-3 * * ?"), QUARTZ.parse("0/20 10 2 ? * SUN"),
+                QUARTZ.parse("0 0 0 L * ?"));
+        final ZoneId paris = ZoneId.of("Europe/Paris");
+        for (final ZonedDateTime start : List.of(ZonedDateTime.of(2024, 3, 30, 12, 0, 30, 0, paris), ZonedDateTime.of(2024, 10, 26, 12, 0, 0, 0, paris))) {
+            final ZonedDateTime end = start.plusDays(2);
+            final LoadProfile profile = CronLoadProfiler.profile(crons, start, end, ChronoUnit.MINUTES);
+            final long[] expected = new long[profile.getSlotCount()];
+            for (final Cron cron : crons) {
+                final long[] counts = ExecutionTime.forCron(cron).countByBucket(start, end, ChronoUnit.MINUTES);
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] += counts[i];
+                }
+            }
+            assertArrayEquals(expected, Arrays.stream(profile.getCounts()).asLongStream().toArray());
+        }
+    }
+
+    @Test
+    public void testHourlySlots() {
+        final LoadProfile profile = CronLoadProfiler.profile(List.of(QUARTZ.parse("0 * 9-17 ? * MON-FRI")),
+                MIDNIGHT, MIDNIGHT.plusDays(7), ChronoUnit.HOURS);
+        assertEquals(168, profile.getSlotCount());
+        assertEquals(60, profile.getPeak());
+        assertEquals(MIDNIGHT.plusHours(9), profile.getPeakStart());
+        assertEquals(5 * 9 * 60, profile.getTotalExecutions());
+    }
+
+    @Test
+    public void testRejectsInvalidArguments() {
+        final List<Cron> crons = List.of(UNIX.parse("* * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronLoadProfiler.profile(crons, MIDNIGHT, MIDNIGHT.plusDays(1), ChronoUnit.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> CronLoadProfiler.profile(crons, MIDNIGHT, MIDNIGHT, ChronoUnit.MINUTES));
+        assertThrows(IllegalArgumentException.class, () -> CronLoadProfiler.profile(crons, MIDNIGHT, MIDNIGHT.plusYears(1), ChronoUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> CronLoadProfiler.profile(crons, MIDNIGHT, MIDNIGHT.plusHours(1), ChronoUnit.MINUTES).percentile(0));
+    }
+}
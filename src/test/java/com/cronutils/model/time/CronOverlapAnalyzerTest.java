@@ -0,0 +1,118 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.UNIX;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for CronOverlapAnalyzer.java
+ */
+class CronOverlapAnalyzerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC);
+
+    private CronParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+    }
+
+    @Test
+    void testOverlapGraph() {
+        final Cron hourly = parser.parse("0 * * * *");
+        final Cron noon = parser.parse("0 12 * * *");
+        final Cron halfPast = parser.parse("30 * * * *");
+        final Cron mondays = parser.parse("0 12 * * 1");
+        final CronOverlapAnalyzer analyzer = new CronOverlapAnalyzer(START, START.plusDays(30));
+        final CronOverlapAnalyzer.OverlapGraph graph = analyzer.analyze(Arrays.asList(hourly, noon, halfPast, mondays));
+
+        assertEquals(3, graph.getOverlaps().size());
+        assertTrue(graph.getOverlaps(halfPast).isEmpty());
+        assertEquals(2, graph.getOverlaps(hourly).size());
+        assertEquals(2, graph.getOverlaps(mondays).size());
+        final CronOverlapAnalyzer.Overlap first = graph.getOverlaps().get(0);
+        assertSame(hourly, first.getFirst());
+        assertSame(noon, first.getSecond());
+        assertEquals(START.withHour(12), first.getFirstSharedExecution());
+        //2025-01-06 is the first Monday of the window
+        for (final CronOverlapAnalyzer.Overlap overlap : graph.getOverlaps(mondays)) {
+            assertEquals(ZonedDateTime.of(2025, 1, 6, 12, 0, 0, 0, UTC), overlap.getFirstSharedExecution());
+        }
+    }
+
+    @Test
+    void testOverlapsOutsideWindowAreIgnored() {
+        final Cron leapDay = parser.parse("0 0 29 2 *");
+        final Cron daily = parser.parse("0 0 * * *");
+        assertTrue(new CronOverlapAnalyzer(START, START.plusYears(1)).analyze(Arrays.asList(leapDay, daily)).getOverlaps().isEmpty());
+        assertEquals(ZonedDateTime.of(2028, 2, 29, 0, 0, 0, 0, UTC),
+                new CronOverlapAnalyzer(START, START.plusYears(4)).analyze(Arrays.asList(leapDay, daily)).getOverlaps().get(0)
+                        .getFirstSharedExecution());
+    }
+
+    @Test
+    void testMatchesPairwiseOverlap() {
+        final List<Cron> crons = new ArrayList<>();
+        for (int minute = 0; minute < 60; minute += 7) {
+            crons.add(parser.parse(String.format("%s */%s * * *", minute, minute % 5 + 2)));
+            crons.add(parser.parse(String.format("%s,%s 3 * * %s", minute, (minute + 15) % 60, minute % 7)));
+        }
+        final ZonedDateTime end = START.plusDays(14);
+        final CronOverlapAnalyzer.OverlapGraph graph = new CronOverlapAnalyzer(START, end).analyze(crons);
+        int expected = 0;
+        for (int i = 0; i < crons.size(); i++) {
+            for (int j = i + 1; j < crons.size(); j++) {
+                if (CronOverlap.firstOverlap(crons.get(i), crons.get(j), START).filter(date -> !date.isAfter(end)).isPresent()) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, graph.getOverlaps().size());
+    }
+
+    @Test
+    void testNestedCompositeMembersOverlap() {
+        final Cron nested = new CompositeCron(Arrays.asList(parser.parse("0 6 * * *"),
+                new CompositeCron(Arrays.asList(parser.parse("15 9 * * *"), parser.parse("45 18 * * *")))));
+        final Cron evening = parser.parse("45 18 * * *");
+        final List<CronOverlapAnalyzer.Overlap> overlaps = new CronOverlapAnalyzer(START, START.plusDays(1))
+                .analyze(Arrays.asList(nested, evening)).getOverlaps();
+        assertEquals(1, overlaps.size());
+        assertEquals(START.withHour(18).withMinute(45), overlaps.get(0).getFirstSharedExecution());
+    }
+
+    @Test
+    void testCronsSharingMinuteAtDistinctHours() {
+        final List<Cron> crons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            crons.add(parser.parse(String.format("0 %s %s * *", i % 24, i / 24 % 28 + 1)));
+        }
+        final CronOverlapAnalyzer.OverlapGraph graph = new CronOverlapAnalyzer(START, START.plusDays(31)).analyze(crons);
+        //only crons at the same hour and day of month overlap
+        int expected = 0;
+        for (int i = 0; i < crons.size(); i++) {
+            for (int j = i + 1; j < crons.size(); j++) {
+                if (crons.get(i).asString().equals(crons.get(j).asString())) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, graph.getOverlaps().size());
+    }
+}
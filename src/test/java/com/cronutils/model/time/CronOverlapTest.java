@@ -0,0 +1,87 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for CronOverlap.java
+ */
+class CronOverlapTest {
+
+    private CronParser unixParser;
+    private CronParser quartzParser;
+
+    @BeforeEach
+    public void setUp() {
+        unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+        quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+    }
+
+    @Test
+    void testYearlyAndMonthlyOverlapFarAhead() {
+        final Cron yearly = unixParser.parse("0 0 29 2 *");
+        final Cron monthly = unixParser.parse("0 0 * * 1");
+        final ZonedDateTime reference = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC);
+        //Feb 29th falls on a Monday in 2044
+        assertEquals(Optional.of(ZonedDateTime.of(2044, 2, 29, 0, 0, 0, 0, UTC)), CronOverlap.firstOverlap(yearly, monthly, reference));
+        assertTrue(yearly.overlap(monthly));
+    }
+
+    @Test
+    void testFirstOverlapIsStrictlyAfterReference() {
+        final Cron every5 = unixParser.parse("*/5 * * * *");
+        final Cron every10 = unixParser.parse("*/10 * * * *");
+        final ZonedDateTime reference = ZonedDateTime.of(2025, 1, 1, 10, 10, 0, 0, UTC);
+        assertEquals(Optional.of(reference.plusMinutes(10)), CronOverlap.firstOverlap(every5, every10, reference));
+        assertEquals(Optional.of(reference.plusMinutes(10)), CronOverlap.firstOverlap(every10, every5, reference));
+    }
+
+    @Test
+    void testFirstOverlapCrossesDayBoundary() {
+        final Cron first = quartzParser.parse("0 30 23 * * ? *");
+        final Cron second = quartzParser.parse("0 30 * ? * SAT *");
+        final ZonedDateTime reference = ZonedDateTime.of(2025, 12, 27, 23, 45, 0, 0, UTC);
+        assertEquals(Optional.of(ZonedDateTime.of(2026, 1, 3, 23, 30, 0, 0, UTC)), CronOverlap.firstOverlap(first, second, reference));
+    }
+
+    @Test
+    void testDisjointFieldsNeverOverlap() {
+        assertFalse(CronOverlap.firstOverlap(unixParser.parse("0 10 * * *"), unixParser.parse("0 11 * * *"),
+                ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC)).isPresent());
+        assertFalse(CronOverlap.overlap(quartzParser.parse("0 0 0 31 * ? *"), quartzParser.parse("0 0 0 ? 2 * *")));
+    }
+
+    @Test
+    void testYearRestrictionsAreIntersected() {
+        final Cron christmas = quartzParser.parse("0 0 12 25 12 ? 2025-2030");
+        final Cron fridays = quartzParser.parse("0 0 12 ? 12 FRI *");
+        assertEquals(Optional.of(ZonedDateTime.of(2026, 12, 25, 12, 0, 0, 0, UTC)),
+                CronOverlap.firstOverlap(christmas, fridays, ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, UTC)));
+        assertFalse(CronOverlap.firstOverlap(christmas, fridays, ZonedDateTime.of(2027, 1, 1, 0, 0, 0, 0, UTC)).isPresent());
+    }
+
+    @Test
+    void testCompositeCronOverlap() {
+        final Cron composite = new CompositeCron(Arrays.asList(unixParser.parse("0 10 * * *"), unixParser.parse("0 12 * * *")));
+        final ZonedDateTime reference = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, UTC);
+        assertEquals(Optional.of(ZonedDateTime.of(2025, 1, 1, 12, 0, 0, 0, UTC)),
+                CronOverlap.firstOverlap(unixParser.parse("0 12,18 * * *"), composite, reference));
+        assertTrue(unixParser.parse("0 12,18 * * *").overlap(composite));
+    }
+}
@@ -0,0 +1,115 @@
+package com.cronutils.model.time;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for CronRebalancer.java */
+public class CronRebalancerTest {
+    private static final CronParser UNIX = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+    private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+
+    @Test
+    public void testSpreadsCronsAtSameMinute() {
+        final List<Cron> crons = Collections.nCopies(6, UNIX.parse("0 0 * * *"));
+        final RebalancePlan plan = CronRebalancer.rebalance(crons, Duration.ofMinutes(10));
+        assertEquals(6, plan.getPeakBefore());
+        assertEquals(1, plan.getPeakAfter());
+        assertEquals(List.of("0 0 * * *", "1 0 * * *", "2 0 * * *", "3 0 * * *", "4 0 * * *", "5 0 * * *"),
+                plan.getCrons().stream().map(Cron::asString).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testKeepsShiftsWithinTolerance() {
+        final List<Cron> crons = Collections.nCopies(10, UNIX.parse("30 2 * * 1"));
+        final RebalancePlan plan = CronRebalancer.rebalance(crons, Duration.ofMinutes(2));
+        assertEquals(10, plan.getPeakBefore());
+        assertEquals(2, plan.getPeakAfter());
+        for (final Cron cron : plan.getCrons()) {
+            final String[] fields = cron.asString().split(" ");
+            assertTrue(Math.abs(Integer.parseInt(fields[0]) - 30) <= 2, cron.asString());
+            assertEquals("2 * * 1", String.join(" ", fields[1], fields[2], fields[3], fields[4]));
+        }
+    }
+
+    @Test
+    public void testAvoidsMinutesUsedByOtherCrons() {
+        final Cron everyFiveMinutes = UNIX.parse("*/5 * * * *");
+        final RebalancePlan plan = CronRebalancer.rebalance(List.of(everyFiveMinutes, UNIX.parse("10 * * * *")), Duration.ofMinutes(3));
+        assertEquals(2, plan.getPeakBefore());
+        assertEquals(1, plan.getPeakAfter());
+        assertSame(everyFiveMinutes, plan.getCrons().get(0));
+        assertEquals("9 * * * *", plan.getCrons().get(1).asString());
+    }
+
+    @Test
+    public void testSpreadsSecondsWithinMinute() {
+        final List<Cron> crons = Collections.nCopies(3, QUARTZ.parse("0 0 12 ? * MON-FRI"));
+        final RebalancePlan plan = CronRebalancer.rebalance(crons, Duration.ofSeconds(30));
+        assertEquals(3, plan.getPeakBefore());
+        assertEquals(3, plan.getPeakAfter());
+        assertEquals(3, plan.getSecondPeakBefore());
+        assertEquals(1, plan.getSecondPeakAfter());
+        assertEquals(List.of("0 0 12 ? * 2-6", "1 0 12 ? * 2-6", "2 0 12 ? * 2-6"),
+                plan.getCrons().stream().map(Cron::asString).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testLowersProfiledPeak() {
+        final List<Cron> crons = Collections.nCopies(20, QUARTZ.parse("0 0 0 * * ?"));
+        final RebalancePlan plan = CronRebalancer.rebalance(crons, Duration.ofMinutes(10));
+        final ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(20, CronLoadProfiler.profile(crons, start, start.plusDays(1), ChronoUnit.SECONDS).getPeak());
+        assertEquals(1, CronLoadProfiler.profile(plan.getCrons(), start, start.plusDays(1), ChronoUnit.SECONDS).getPeak());
+    }
+
+    @Test
+    public void testKeepsCronsThatCannotMove() {
+        final Cron composite = new CompositeCron(List.of(UNIX.parse("0 1 * * *"), UNIX.parse("0 2 * * *")));
+        final Cron range = UNIX.parse("0-5 * * * *");
+        final RebalancePlan plan = CronRebalancer.rebalance(List.of(composite, range), Duration.ofMinutes(10));
+        assertEquals(List.of(composite, range), plan.getCrons());
+        assertEquals(2, plan.getPeakBefore());
+        assertEquals(2, plan.getPeakAfter());
+    }
+
+    @Test
+    public void testKeepsCronsWhenPeaksAreNotLowered() {
+        final Cron everySecond = QUARTZ.parse("* * * ? * *");
+        final Cron noon = QUARTZ.parse("30 0 12 ? * *");
+        final RebalancePlan plan = CronRebalancer.rebalance(List.of(everySecond, noon), Duration.ofSeconds(30));
+        assertSame(noon, plan.getCrons().get(1));
+        assertEquals(2, plan.getPeakAfter());
+        assertEquals(2, plan.getSecondPeakBefore());
+        assertEquals(2, plan.getSecondPeakAfter());
+    }
+
+    @Test
+    public void testZeroToleranceKeepsCrons() {
+        final List<Cron> crons = Collections.nCopies(3, UNIX.parse("15 * * * *"));
+        final RebalancePlan plan = CronRebalancer.rebalance(crons, Duration.ZERO);
+        assertEquals(crons, plan.getCrons());
+        assertEquals(3, plan.getPeakAfter());
+    }
+
+    @Test
+    public void testRejectsNegativeTolerance() {
+        assertThrows(IllegalArgumentException.class, () -> CronRebalancer.rebalance(List.of(UNIX.parse("0 * * * *")), Duration.ofMinutes(-1)));
+    }
+}
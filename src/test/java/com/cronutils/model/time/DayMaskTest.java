@@ -0,0 +1,126 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for DayMask.java
+ */
+class DayMaskTest {
+
+    private final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+    private final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+
+    @Test
+    void testLastDayOfMonth() {
+        assertEquals(days(26), quartz("0 0 0 L-3 * ?").daysOfMonthMask(2024, 2));
+        assertEquals(days(28), quartz("0 0 0 L * ?").daysOfMonthMask(2023, 2));
+        assertEquals(0, quartz("0 0 0 L-30 * ?").daysOfMonthMask(2023, 2));
+    }
+
+    @Test
+    void testListsMixingRulesAndValues() {
+        assertEquals(days(15, 28), quartz("0 0 0 L,15 * ?").daysOfMonthMask(2023, 2));
+        assertEquals(days(1, 26), quartz("0 0 0 L-3,1 * ?").daysOfMonthMask(2024, 2));
+        final ZonedDateTime next = ExecutionTime.forCron(quartzParser.parse("0 0 0 L,15 * ?"))
+                .nextExecution(ZonedDateTime.of(2023, 2, 16, 0, 0, 0, 0, ZoneOffset.UTC)).orElseThrow();
+        assertEquals(ZonedDateTime.of(2023, 2, 28, 0, 0, 0, 0, ZoneOffset.UTC), next);
+    }
+
+    @Test
+    void testNearestWeekday() {
+        //2024-06-15 is a Saturday and 2024-09-15 a Sunday
+        assertEquals(days(14), quartz("0 0 0 15W * ?").daysOfMonthMask(2024, 6));
+        assertEquals(days(16), quartz("0 0 0 15W * ?").daysOfMonthMask(2024, 9));
+        //2024-06-01 is a Saturday, the weekday is not searched in the previous month
+        assertEquals(days(3), quartz("0 0 0 1W * ?").daysOfMonthMask(2024, 6));
+        assertEquals(0, quartz("0 0 0 31W * ?").daysOfMonthMask(2024, 6));
+        //2024-08-31 is a Saturday and 2024-03-31 a Sunday
+        assertEquals(days(30), quartz("0 0 0 LW * ?").daysOfMonthMask(2024, 8));
+        assertEquals(days(29), quartz("0 0 0 LW * ?").daysOfMonthMask(2024, 3));
+    }
+
+    @Test
+    void testNearestWeekdayOfSundayEndingMonth() {
+        //Monday belongs to the next month, so the closest weekday is the previous Friday
+        assertEquals(days(28), quartz("0 0 0 30W * ?").daysOfMonthMask(2023, 4));
+        assertEquals(days(28), quartz("0 0 0 30W * ?").daysOfMonthMask(2024, 6));
+        assertEquals(days(29), quartz("0 0 0 31W * ?").daysOfMonthMask(2023, 12));
+        assertEquals(days(29), quartz("0 0 0 31W * ?").daysOfMonthMask(2025, 8));
+        final ZonedDateTime next = ExecutionTime.forCron(quartzParser.parse("0 0 0 31W * ?"))
+                .nextExecution(ZonedDateTime.of(2023, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC)).orElseThrow();
+        assertEquals(ZonedDateTime.of(2023, 12, 29, 0, 0, 0, 0, ZoneOffset.UTC), next);
+    }
+
+    @Test
+    void testNthAndLastDayOfWeek() {
+        //Fridays of February 2024 are the 2nd, 9th, 16th and 23rd
+        assertEquals(days(16), quartz("0 0 0 ? * 6#3").daysOfMonthMask(2024, 2));
+        assertEquals(0, quartz("0 0 0 ? * 6#5").daysOfMonthMask(2024, 2));
+        assertEquals(days(29), quartz("0 0 0 ? * 5L").daysOfMonthMask(2024, 2));
+        assertEquals(days(2, 16, 29), quartz("0 0 0 ? * 6#1,6#3,5L").daysOfMonthMask(2024, 2));
+    }
+
+    @Test
+    void testPlainDaysOfWeek() {
+        assertEquals(daysMatching(2024, 2, date -> date.getDayOfWeek().getValue() <= 5),
+                quartz("0 0 0 ? * MON-FRI").daysOfMonthMask(2024, 2));
+        assertEquals(daysMatching(2023, 2, date -> date.getDayOfWeek().getValue() == 7),
+                unix("0 0 * * 0").daysOfMonthMask(2023, 2));
+    }
+
+    @Test
+    void testDayOfMonthOrDayOfWeek() {
+        //Fridays of October 2024 are the 4th, 11th, 18th and 25th
+        assertEquals(days(4, 11, 13, 18, 25), unix("0 0 13 * 5").daysOfMonthMask(2024, 10));
+    }
+
+    @Test
+    void testMatchesDateArithmetic() {
+        final SingleExecutionTime executionTime = unix("0 0 * * 1,3");
+        for (int year = 1999; year <= 2030; year++) {
+            for (int month = 1; month <= 12; month++) {
+                assertEquals(daysMatching(year, month, date -> date.getDayOfWeek().getValue() % 2 == 1 && date.getDayOfWeek().getValue() < 5),
+                        executionTime.daysOfMonthMask(year, month), year + "-" + month);
+            }
+        }
+    }
+
+    private SingleExecutionTime quartz(final String expression) {
+        return (SingleExecutionTime) ExecutionTime.forCron(quartzParser.parse(expression));
+    }
+
+    private SingleExecutionTime unix(final String expression) {
+        return (SingleExecutionTime) ExecutionTime.forCron(unixParser.parse(expression));
+    }
+
+    private static long days(final int... days) {
+        long mask = 0;
+        for (final int day : days) {
+            mask |= 1L << day;
+        }
+        return mask;
+    }
+
+    private static long daysMatching(final int year, final int month, final Predicate<LocalDate> predicate) {
+        long mask = 0;
+        final LocalDate first = LocalDate.of(year, month, 1);
+        for (LocalDate date = first; date.getMonthValue() == month; date = date.plusDays(1)) {
+            if (predicate.test(date)) {
+                mask |= 1L << date.getDayOfMonth();
+            }
+        }
+        return mask;
+    }
+}
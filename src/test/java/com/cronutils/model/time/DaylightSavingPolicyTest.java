@@ -0,0 +1,101 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for DaylightSavingPolicy.java, as applied by ExecutionTime.
+ */
+class DaylightSavingPolicyTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+
+    @Test
+    void testGapIsSkipped() {
+        //clocks move from 02:00 to 03:00 on 2024-03-10
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("30 2 * * *"));
+        final Instant before = Instant.parse("2024-03-09T08:00:00Z");
+        final Instant after = Instant.parse("2024-03-11T05:00:00Z");
+        for (final DaylightSavingPolicy policy : Arrays.asList(DaylightSavingPolicy.SKIP, DaylightSavingPolicy.FIRE_TWICE)) {
+            assertEquals(Optional.of(Instant.parse("2024-03-11T06:30:00Z")), executionTime.nextExecution(before, NEW_YORK, policy));
+            assertEquals(Optional.of(Instant.parse("2024-03-09T07:30:00Z")), executionTime.lastExecution(after, NEW_YORK, policy));
+        }
+    }
+
+    @Test
+    void testGapIsShifted() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("30 2 * * *"));
+        final Instant transition = Instant.parse("2024-03-10T07:00:00Z");
+        assertEquals(Optional.of(transition),
+                executionTime.nextExecution(Instant.parse("2024-03-09T08:00:00Z"), NEW_YORK, DaylightSavingPolicy.SHIFT));
+        assertEquals(Optional.of(Instant.parse("2024-03-11T06:30:00Z")),
+                executionTime.nextExecution(transition, NEW_YORK, DaylightSavingPolicy.SHIFT));
+        assertEquals(Optional.of(transition),
+                executionTime.lastExecution(Instant.parse("2024-03-11T05:00:00Z"), NEW_YORK, DaylightSavingPolicy.SHIFT));
+    }
+
+    @Test
+    void testOverlapExecutesOnce() {
+        //clocks move from 02:00 back to 01:00 on 2024-11-03
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("30 1 * * *"));
+        final Instant firstPass = Instant.parse("2024-11-03T05:30:00Z");
+        final Instant nextDay = Instant.parse("2024-11-04T06:30:00Z");
+        assertEquals(Optional.of(firstPass),
+                executionTime.nextExecution(Instant.parse("2024-11-03T04:00:00Z"), NEW_YORK, DaylightSavingPolicy.SKIP));
+        assertEquals(Optional.of(nextDay), executionTime.nextExecution(firstPass, NEW_YORK, DaylightSavingPolicy.SKIP));
+        //01:10 after clocks moved back
+        assertEquals(Optional.of(nextDay),
+                executionTime.nextExecution(Instant.parse("2024-11-03T06:10:00Z"), NEW_YORK, DaylightSavingPolicy.SHIFT));
+        assertEquals(Optional.of(firstPass),
+                executionTime.lastExecution(Instant.parse("2024-11-03T07:00:00Z"), NEW_YORK, DaylightSavingPolicy.SKIP));
+    }
+
+    @Test
+    void testOverlapExecutesTwice() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("30 1 * * *"));
+        final Instant secondPass = Instant.parse("2024-11-03T06:30:00Z");
+        assertEquals(Optional.of(secondPass),
+                executionTime.nextExecution(Instant.parse("2024-11-03T05:30:00Z"), NEW_YORK, DaylightSavingPolicy.FIRE_TWICE));
+        assertEquals(Optional.of(secondPass),
+                executionTime.nextExecution(Instant.parse("2024-11-03T06:10:00Z"), NEW_YORK, DaylightSavingPolicy.FIRE_TWICE));
+        assertEquals(Optional.of(Instant.parse("2024-11-04T06:30:00Z")),
+                executionTime.nextExecution(secondPass, NEW_YORK, DaylightSavingPolicy.FIRE_TWICE));
+        assertEquals(Optional.of(secondPass),
+                executionTime.lastExecution(Instant.parse("2024-11-03T07:00:00Z"), NEW_YORK, DaylightSavingPolicy.FIRE_TWICE));
+        assertEquals(Optional.of(Instant.parse("2024-11-03T05:30:00Z")),
+                executionTime.lastExecution(secondPass, NEW_YORK, DaylightSavingPolicy.FIRE_TWICE));
+    }
+
+    @Test
+    void testMatchesZonedDateTimeAwayFromTransitions() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CompositeCron(Arrays.asList(parser.parse("0 9-17 * * 1-5"),
+                parser.parse("15 6 29 2 *"))));
+        final Random random = new Random(11);
+        final long start = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, NEW_YORK).toEpochSecond();
+        for (int i = 0; i < 200; i++) {
+            final Instant reference = Instant.ofEpochSecond(start + random.nextInt(8 * 365 * 24 * 3600));
+            assertEquals(executionTime.nextExecution(reference.atZone(NEW_YORK)).map(ZonedDateTime::toInstant),
+                    executionTime.nextExecution(reference, NEW_YORK, DaylightSavingPolicy.SKIP));
+            assertEquals(executionTime.lastExecution(reference.atZone(NEW_YORK)).map(ZonedDateTime::toInstant),
+                    executionTime.lastExecution(reference, NEW_YORK, DaylightSavingPolicy.SKIP));
+            assertEquals(executionTime.nextExecution(reference.atZone(NEW_YORK)).map(date -> date.toInstant().toEpochMilli())
+                    .orElse(ExecutionTime.NO_EXECUTION),
+                    executionTime.nextExecutionEpochMillis(reference.toEpochMilli(), NEW_YORK, DaylightSavingPolicy.SKIP));
+        }
+    }
+}
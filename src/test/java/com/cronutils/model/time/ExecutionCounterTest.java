@@ -0,0 +1,113 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for ExecutionCounter.java, as used by ExecutionTime.countByBucket
+ */
+class ExecutionCounterTest {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+    private final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+
+    @Test
+    void testHourlyCountsPerDay() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 * * * *"));
+        assertArrayEquals(new long[] { 24, 24, 24 }, executionTime.countByBucket(ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                ZonedDateTime.of(2024, 3, 4, 0, 0, 0, 0, ZoneOffset.UTC), ChronoUnit.DAYS));
+    }
+
+    @Test
+    void testDaylightSavingDays() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 * * * *"));
+        //02:00 does not exist on 2024-03-10, while 01:00 is repeated on 2024-11-03 and executes once
+        assertArrayEquals(new long[] { 24, 23, 24 }, executionTime.countByBucket(ZonedDateTime.of(2024, 3, 9, 0, 0, 0, 0, NEW_YORK),
+                ZonedDateTime.of(2024, 3, 12, 0, 0, 0, 0, NEW_YORK), ChronoUnit.DAYS));
+        assertArrayEquals(new long[] { 24, 24, 24 }, executionTime.countByBucket(ZonedDateTime.of(2024, 11, 2, 0, 0, 0, 0, NEW_YORK),
+                ZonedDateTime.of(2024, 11, 5, 0, 0, 0, 0, NEW_YORK), ChronoUnit.DAYS));
+    }
+
+    @Test
+    void testMatchesEnumeration() {
+        final ZonedDateTime start = ZonedDateTime.of(2024, 2, 20, 7, 13, 20, 500_000_000, NEW_YORK);
+        assertCountsMatchEnumeration(unixParser.parse("*/15 9-17 * * 1-5"), start, start.plusMonths(1), ChronoUnit.HOURS);
+        assertCountsMatchEnumeration(unixParser.parse("30 1,2 * * *"), start, start.plusMonths(10), ChronoUnit.DAYS);
+        assertCountsMatchEnumeration(quartzParser.parse("*/10 0 8 ? * MON#2"), start, start.plusYears(2), ChronoUnit.MONTHS);
+        assertCountsMatchEnumeration(quartzParser.parse("0 0 12 L * ? 2024-2025"), start, start.plusYears(3), ChronoUnit.WEEKS);
+    }
+
+    @Test
+    void testCompositeCountsSharedExecutionsOnce() {
+        final ZonedDateTime start = ZonedDateTime.of(2024, 10, 5, 0, 0, 0, 0, NEW_YORK);
+        final Cron cron = new CompositeCron(Arrays.asList(unixParser.parse("0 9 * * *"), unixParser.parse("0 9 * * 1-5"),
+                unixParser.parse("*/30 8-10 * * 6")));
+        //Saturday 2024-10-05: 09:00 belongs to two members
+        assertArrayEquals(new long[] { 6 }, ExecutionTime.forCron(cron).countByBucket(start, start.plusDays(1), ChronoUnit.DAYS));
+        assertCountsMatchEnumeration(cron, start, start.plusMonths(2), ChronoUnit.DAYS);
+    }
+
+    @Test
+    void testEndMustFollowStart() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 * * * *"));
+        final ZonedDateTime start = ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertThrows(IllegalArgumentException.class, () -> executionTime.countByBucket(start, start, ChronoUnit.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> executionTime.countByBucket(start, start.plusDays(1), ChronoUnit.FOREVER));
+    }
+
+    private static void assertCountsMatchEnumeration(final Cron cron, final ZonedDateTime start, final ZonedDateTime end, final ChronoUnit bucket) {
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron);
+        final ExecutionTime enumerated = new ExecutionTime() {
+            @Override
+            public Optional<ZonedDateTime> nextExecution(final ZonedDateTime date) {
+                return executionTime.nextExecution(date);
+            }
+
+            @Override
+            public Optional<Instant> nextExecution(final Instant date, final ZoneId zone, final DaylightSavingPolicy policy) {
+                return executionTime.nextExecution(date, zone, policy);
+            }
+
+            @Override
+            public Optional<Duration> timeToNextExecution(final ZonedDateTime date) {
+                return executionTime.timeToNextExecution(date);
+            }
+
+            @Override
+            public Optional<ZonedDateTime> lastExecution(final ZonedDateTime date) {
+                return executionTime.lastExecution(date);
+            }
+
+            @Override
+            public Optional<Duration> timeFromLastExecution(final ZonedDateTime date) {
+                return executionTime.timeFromLastExecution(date);
+            }
+
+            @Override
+            public boolean isMatch(final ZonedDateTime date) {
+                return executionTime.isMatch(date);
+            }
+        };
+        assertArrayEquals(enumerated.countByBucket(start, end, bucket), executionTime.countByBucket(start, end, bucket), cron.asString());
+    }
+}
@@ -0,0 +1,157 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for batch methods of ExecutionTime.java
+ */
+class ExecutionTimeBatchTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Madrid");
+
+    private CronParser unixParser;
+    private CronParser quartzParser;
+    private long[] references;
+
+    @BeforeEach
+    public void setUp() {
+        unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+        quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+        final long start = ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZONE).toEpochSecond();
+        final Random random = new Random(42);
+        references = new long[500];
+        for (int i = 0; i < references.length; i++) {
+            references[i] = start + random.nextInt(40 * 24 * 3600);
+        }
+        //duplicates and exact matches
+        references[1] = references[0];
+        references[2] = ZonedDateTime.of(2024, 3, 4, 9, 0, 0, 0, ZONE).toEpochSecond();
+    }
+
+    @Test
+    void testNextExecutionsMatchNextExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 9-17/2 * * 1-5"));
+        assertArrayEquals(expectedNext(executionTime), executionTime.nextExecutions(references, ZONE));
+    }
+
+    @Test
+    void testLastExecutionsMatchLastExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 9-17/2 * * 1-5"));
+        assertArrayEquals(expectedLast(executionTime), executionTime.lastExecutions(references, ZONE));
+    }
+
+    @Test
+    void testCompositeExecutionTime() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CompositeCron(Arrays.asList(unixParser.parse("0 9 * * *"),
+                unixParser.parse("30 18 * * 6"))));
+        assertArrayEquals(expectedNext(executionTime), executionTime.nextExecutions(references, ZONE));
+        assertArrayEquals(expectedLast(executionTime), executionTime.lastExecutions(references, ZONE));
+    }
+
+    @Test
+    void testSweepsAcrossDaylightSavingTransitions() {
+        //every ten minutes around the transitions of 2024, in both directions
+        final long[] dates = new long[2 * 6 * 24 * 3];
+        final long spring = ZonedDateTime.of(2024, 3, 30, 0, 0, 0, 0, ZONE).toEpochSecond();
+        final long autumn = ZonedDateTime.of(2024, 10, 26, 0, 0, 0, 0, ZONE).toEpochSecond();
+        for (int i = 0; i < dates.length / 2; i++) {
+            dates[i] = spring + 600L * i + 7;
+            dates[dates.length / 2 + i] = autumn + 600L * i;
+        }
+        for (final ExecutionTime executionTime : Arrays.asList(ExecutionTime.forCron(quartzParser.parse("0 30 2 * * ?")),
+                ExecutionTime.forCron(quartzParser.parse("0 */20 1-3 * * ?")), ExecutionTime.forCron(quartzParser.parse("* * * * * ?")),
+                ExecutionTime.forCron(new CompositeCron(Arrays.asList(quartzParser.parse("0 15 2 * * ?"), quartzParser.parse("0 0 3 * * ?")))))) {
+            final long[] next = executionTime.nextExecutions(dates, ZONE);
+            final long[] last = executionTime.lastExecutions(dates, ZONE);
+            for (int i = 0; i < dates.length; i++) {
+                final Instant date = Instant.ofEpochSecond(dates[i]);
+                assertEquals(executionTime.nextExecution(date, ZONE).map(Instant::getEpochSecond).orElse(ExecutionTime.NO_EXECUTION), next[i],
+                        "next " + date);
+                assertEquals(executionTime.lastExecution(date, ZONE).map(Instant::getEpochSecond).orElse(ExecutionTime.NO_EXECUTION), last[i],
+                        "last " + date);
+            }
+        }
+    }
+
+    @Test
+    void testNoExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("0 0 12 1 3 ? 2023"));
+        final long[] results = executionTime.nextExecutions(references, ZONE);
+        for (final long result : results) {
+            assertEquals(ExecutionTime.NO_EXECUTION, result);
+        }
+        assertEquals(0, executionTime.nextExecutions(new long[0], ZONE).length);
+    }
+
+    @Test
+    void testMatchMaskMatchesIsMatch() {
+        //quarter hours over two years, across daylight saving transitions
+        final long start = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZONE).toEpochSecond();
+        final Random random = new Random(7);
+        final long[] dates = new long[5000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start + 900L * random.nextInt(2 * 365 * 96);
+        }
+        Arrays.sort(dates, 0, dates.length / 2);
+        for (final ExecutionTime executionTime : Arrays.asList(ExecutionTime.forCron(unixParser.parse("*/15 9-17 * * 1-5")),
+                ExecutionTime.forCron(unixParser.parse("0,30 2 * * *")),
+                ExecutionTime.forCron(quartzParser.parse("0 45 * L * ? 2024")),
+                ExecutionTime.forCron(new CompositeCron(Arrays.asList(quartzParser.parse("0 0 * ? * 1"), quartzParser.parse("0 15 * ? * 6#2")))))) {
+            final BitSet matches = new BitSet();
+            matches.set(dates.length + 3);
+            executionTime.matchMask(dates, ZONE, matches);
+            final BitSet expected = new BitSet();
+            for (int i = 0; i < dates.length; i++) {
+                expected.set(i, executionTime.isMatch(Instant.ofEpochSecond(dates[i]).atZone(ZONE)));
+            }
+            expected.set(dates.length + 3);
+            assertTrue(expected.cardinality() > 1);
+            assertEquals(expected, matches);
+        }
+    }
+
+    @Test
+    void testMatchMaskOfImpossibleCron() {
+        final BitSet matches = new BitSet();
+        matches.set(0, references.length);
+        ExecutionTime.forCron(quartzParser.parse("0 0 0 30 2 ?")).matchMask(references, ZONE, matches);
+        assertTrue(matches.isEmpty());
+    }
+
+    private long[] expectedNext(final ExecutionTime executionTime) {
+        final long[] expected = new long[references.length];
+        for (int i = 0; i < references.length; i++) {
+            final Optional<ZonedDateTime> next = executionTime.nextExecution(Instant.ofEpochSecond(references[i]).atZone(ZONE));
+            expected[i] = next.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION);
+        }
+        return expected;
+    }
+
+    private long[] expectedLast(final ExecutionTime executionTime) {
+        final long[] expected = new long[references.length];
+        for (int i = 0; i < references.length; i++) {
+            final Optional<ZonedDateTime> last = executionTime.lastExecution(Instant.ofEpochSecond(references[i]).atZone(ZONE));
+            expected[i] = last.map(ZonedDateTime::toEpochSecond).orElse(ExecutionTime.NO_EXECUTION);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.SPRING;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for ExecutionTimeCache.java
+ */
+class ExecutionTimeCacheTest {
+
+    private final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+
+    @Test
+    void testEqualCronsShareInstance() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(10);
+        final Cron first = unixParser.parse("0 12 * * 1-5");
+        final Cron second = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX)).parse("0 12 * * 1-5");
+        assertSame(cache.get(first), cache.get(second));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testForCronUsesSharedCache() {
+        final Cron cron = unixParser.parse("17 3 * * *");
+        assertSame(ExecutionTime.forCron(cron), ExecutionTime.forCron(unixParser.parse("17 3 * * *")));
+        assertSame(ExecutionTimeCache.shared().get(cron), ExecutionTime.forCron(cron));
+    }
+
+    @Test
+    void testDefinitionIsPartOfKey() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(10);
+        final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+        final CronParser springParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(SPRING));
+        //day of week 2 is Monday for Quartz and Tuesday for Spring
+        assertNotSame(cache.get(quartzParser.parse("0 0 12 ? * 2")), cache.get(springParser.parse("0 0 12 ? * 2")));
+    }
+
+    @Test
+    void testCompositeCronsKeyedByMembers() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(10);
+        final Cron first = new CompositeCron(Arrays.asList(unixParser.parse("0 10 * * 1"), unixParser.parse("0 12 * * 2")));
+        final Cron second = new CompositeCron(Arrays.asList(unixParser.parse("0 10 * * 2"), unixParser.parse("0 12 * * 1")));
+        assertNotSame(cache.get(first), cache.get(second));
+        final Cron single = unixParser.parse("0 10 * * 1");
+        assertNotSame(cache.get(single), cache.get(new CompositeCron(Collections.singletonList(single))));
+    }
+
+    @Test
+    void testEvictsOnceFull() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(2);
+        final ExecutionTime first = cache.get(unixParser.parse("1 * * * *"));
+        cache.get(unixParser.parse("2 * * * *"));
+        cache.get(unixParser.parse("3 * * * *"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotSame(first, cache.get(unixParser.parse("1 * * * *")));
+        assertTrue(cache.toString().contains("evictions=2"));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testKeepsEntriesUsedSinceInserted() {
+        final ExecutionTimeCache cache = new ExecutionTimeCache(2);
+        final ExecutionTime frequent = cache.get(unixParser.parse("1 * * * *"));
+        cache.get(unixParser.parse("1 * * * *"));
+        final ExecutionTime rare = cache.get(unixParser.parse("2 * * * *"));
+        cache.get(unixParser.parse("3 * * * *"));
+        assertSame(frequent, cache.get(unixParser.parse("1 * * * *")));
+        assertNotSame(rare, cache.get(unixParser.parse("2 * * * *")));
+    }
+
+    @Test
+    void testBulkAnalysisBypassesSharedCache() {
+        final Cron cron = unixParser.parse("41 7 * * 3");
+        final long misses = ExecutionTimeCache.shared().getMissCount();
+        ExecutionCounter.members(new CompositeCron(Arrays.asList(cron, unixParser.parse("42 7 * * 3"))));
+        assertEquals(misses, ExecutionTimeCache.shared().getMissCount());
+    }
+
+    @Test
+    void testMaximumSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecutionTimeCache(0));
+    }
+}
@@ -0,0 +1,105 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.Cron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for epoch and Instant based methods of ExecutionTime.java
+ */
+class ExecutionTimeEpochTest {
+
+    private static final List<ZoneId> ZONES = Arrays.asList(ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.ofHours(-8),
+            ZoneId.of("America/New_York"));
+
+    private final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+    private final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+
+    @Test
+    void testUnixCrons() {
+        for (final String expression : Arrays.asList("*/7 * * * *", "0 9-17 * * 1-5", "15 3 29 2 *", "0 0 1,15 * 3", "59 23 31 * *")) {
+            assertSamePath(unixParser.parse(expression));
+        }
+    }
+
+    @Test
+    void testQuartzCrons() {
+        for (final String expression : Arrays.asList("*/13 * * * * ? *", "0 0 12 L * ? *", "0 30 10 ? * 6#3 *", "0 0 8 LW * ? *",
+                "0 0 0 1 1 ? 2026-2028", "30 15 10 ? * 2L *")) {
+            assertSamePath(quartzParser.parse(expression));
+        }
+    }
+
+    @Test
+    void testCompositeCron() {
+        assertSamePath(new CompositeCron(Arrays.asList(unixParser.parse("0 9 * * 1-5"), unixParser.parse("30 */4 * * 0,6"))));
+    }
+
+    @Test
+    void testNoExecution() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("0 0 12 1 1 ? 2020"));
+        final long reference = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        assertEquals(ExecutionTime.NO_EXECUTION, executionTime.nextExecutionEpochMillis(reference, ZoneOffset.UTC));
+        assertEquals(ZonedDateTime.of(2020, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+                executionTime.lastExecutionEpochMillis(reference, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testSubSecondReferences() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("* * * * * ? *"));
+        final Instant reference = Instant.parse("2024-05-01T10:00:00.500Z");
+        assertEquals(Instant.parse("2024-05-01T10:00:01Z"), executionTime.nextExecution(reference, ZoneOffset.UTC).get());
+        assertEquals(Instant.parse("2024-05-01T10:00:00Z"), executionTime.lastExecution(reference, ZoneOffset.UTC).get());
+        assertEquals(Instant.parse("2024-05-01T10:00:00Z").toEpochMilli(),
+                executionTime.lastExecutionEpochMillis(reference.toEpochMilli(), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testDaylightSavingZonesSkipAffectedLocalTimes() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("0 30 2 * * ?"));
+        //02:30 does not exist on 2024-03-10 in New York
+        final Instant beforeGap = Instant.parse("2024-03-10T06:00:00Z");
+        final ZoneId newYork = ZoneId.of("America/New_York");
+        assertEquals(Instant.parse("2024-03-11T06:30:00Z"), executionTime.nextExecution(beforeGap, newYork).get());
+        assertEquals(executionTime.nextExecutionEpochMillis(beforeGap.toEpochMilli(), newYork, DaylightSavingPolicy.SKIP),
+                executionTime.nextExecutionEpochMillis(beforeGap.toEpochMilli(), newYork));
+        //02:30 is repeated on 2020-10-25 in Paris, and already executed at the earlier offset
+        final Instant withinOverlap = Instant.parse("2020-10-25T00:57:09Z");
+        final ZoneId paris = ZoneId.of("Europe/Paris");
+        assertEquals(Instant.parse("2020-10-26T01:30:00Z"), executionTime.nextExecution(withinOverlap, paris).get());
+        assertEquals(Instant.parse("2020-10-25T00:30:00Z"), executionTime.lastExecution(Instant.parse("2020-10-25T01:56:47Z"), paris).get());
+    }
+
+    private void assertSamePath(final Cron cron) {
+        final ExecutionTime executionTime = ExecutionTime.forCron(cron);
+        final Random random = new Random(7);
+        final long start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        for (final ZoneId zone : ZONES) {
+            for (int i = 0; i < 50; i++) {
+                final long epochSecond = start + random.nextInt(3 * 365 * 24 * 3600);
+                final ZonedDateTime reference = Instant.ofEpochSecond(epochSecond).atZone(zone);
+                final long expectedNext = executionTime.nextExecution(reference).map(date -> date.toInstant().toEpochMilli())
+                        .orElse(ExecutionTime.NO_EXECUTION);
+                final long expectedLast = executionTime.lastExecution(reference).map(date -> date.toInstant().toEpochMilli())
+                        .orElse(ExecutionTime.NO_EXECUTION);
+                assertEquals(expectedNext, executionTime.nextExecutionEpochMillis(epochSecond * 1000, zone), cron.asString() + " next " + reference);
+                assertEquals(expectedLast, executionTime.lastExecutionEpochMillis(epochSecond * 1000, zone), cron.asString() + " last " + reference);
+            }
+        }
+    }
+}
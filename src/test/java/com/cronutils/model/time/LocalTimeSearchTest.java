@@ -0,0 +1,51 @@
+package com.cronutils.model.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for LocalTimeSearch.java
+ */
+class LocalTimeSearchTest {
+
+    @Test
+    void testCivilConversions() {
+        for (long epochDay = LocalDate.of(1600, 1, 1).toEpochDay(); epochDay < LocalDate.of(2500, 1, 1).toEpochDay(); epochDay += 17) {
+            final LocalDate date = LocalDate.ofEpochDay(epochDay);
+            final long civil = LocalTimeSearch.civilFromDays(epochDay);
+            assertEquals(date.getYear(), LocalTimeSearch.year(civil));
+            assertEquals(date.getMonthValue(), LocalTimeSearch.month(civil));
+            assertEquals(date.getDayOfMonth(), LocalTimeSearch.day(civil));
+            assertEquals(epochDay, LocalTimeSearch.daysFromCivil(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    void testBits() {
+        final long mask = 1L | 1L << 5 | 1L << 63;
+        assertEquals(0, LocalTimeSearch.nextBit(mask, 0));
+        assertEquals(5, LocalTimeSearch.nextBit(mask, 1));
+        assertEquals(63, LocalTimeSearch.nextBit(mask, 6));
+        assertEquals(-1, LocalTimeSearch.nextBit(mask, 64));
+        assertEquals(63, LocalTimeSearch.previousBit(mask, 63));
+        assertEquals(5, LocalTimeSearch.previousBit(mask, 62));
+        assertEquals(0, LocalTimeSearch.previousBit(mask, 4));
+        assertEquals(-1, LocalTimeSearch.previousBit(mask, -1));
+    }
+
+    @Test
+    void testSecondOfDay() {
+        final long hours = 1L << 5 | 1L << 7;
+        final long minutes = 1L << 30;
+        final long seconds = 1L;
+        assertEquals(5 * 3600 + 30 * 60, LocalTimeSearch.nextSecondOfDay(hours, minutes, seconds, 0));
+        assertEquals(7 * 3600 + 30 * 60, LocalTimeSearch.nextSecondOfDay(hours, minutes, seconds, 5 * 3600 + 30 * 60 + 1));
+        assertEquals(-1, LocalTimeSearch.nextSecondOfDay(hours, minutes, seconds, 7 * 3600 + 31 * 60));
+        assertEquals(7 * 3600 + 30 * 60, LocalTimeSearch.previousSecondOfDay(hours, minutes, seconds, 86399));
+        assertEquals(5 * 3600 + 30 * 60, LocalTimeSearch.previousSecondOfDay(hours, minutes, seconds, 7 * 3600 + 29 * 60 + 59));
+        assertEquals(-1, LocalTimeSearch.previousSecondOfDay(hours, minutes, seconds, 5 * 3600 + 29 * 60));
+    }
+}
@@ -0,0 +1,91 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.CompositeCron;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for SearchBudget.java
+ */
+class SearchBudgetTest {
+
+    private static final ZonedDateTime REFERENCE = ZonedDateTime.of(2025, 3, 1, 0, 0, 1, 0, ZoneOffset.UTC);
+
+    private final CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+
+    @Test
+    void testHorizonLimit() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 29 2 ?"));
+        final SearchBudget budget = SearchBudget.of(1000, Duration.ofDays(365));
+        assertEquals(Optional.empty(), executionTime.nextExecution(REFERENCE, budget));
+        assertEquals(Optional.empty(), executionTime.lastExecution(REFERENCE, budget));
+        assertEquals(2, budget.getHorizonLimitHits());
+        assertEquals(0, budget.getIterationLimitHits());
+        assertEquals(Optional.of(ZonedDateTime.of(2028, 2, 29, 0, 0, 0, 0, ZoneOffset.UTC)),
+                executionTime.nextExecution(REFERENCE, SearchBudget.of(1000, Duration.ofDays(3 * 366))));
+    }
+
+    @Test
+    void testIterationLimit() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 29 2 ?"));
+        final SearchBudget budget = SearchBudget.of(1, SearchBudget.DEFAULT_MAX_HORIZON);
+        assertEquals(Optional.empty(), executionTime.nextExecution(REFERENCE, budget));
+        assertEquals(1, budget.getIterationLimitHits());
+        assertTrue(budget.toString().contains("iterationLimitHits=1"));
+    }
+
+    @Test
+    void testCompositeUsesBudget() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(new CompositeCron(Arrays.asList(parser.parse("0 0 0 29 2 ?"),
+                parser.parse("0 0 0 L 2 ?"))));
+        final SearchBudget budget = SearchBudget.of(1000, Duration.ofDays(365));
+        assertEquals(Optional.of(ZonedDateTime.of(2026, 2, 28, 0, 0, 0, 0, ZoneOffset.UTC)), executionTime.nextExecution(REFERENCE, budget));
+        assertEquals(1, budget.getHorizonLimitHits());
+    }
+
+    @Test
+    void testImpossibleScheduleIsDetected() {
+        final ExecutionTime impossible = ExecutionTime.forCron(parser.parse("0 0 0 30 2 ?"));
+        assertFalse(impossible.isSatisfiable());
+        final SearchBudget budget = SearchBudget.of(1, Duration.ofDays(1));
+        assertEquals(Optional.empty(), impossible.nextExecution(REFERENCE, budget));
+        assertEquals(Optional.empty(), impossible.lastExecution(REFERENCE, budget));
+        assertEquals(0, budget.getIterationLimitHits() + budget.getHorizonLimitHits());
+        assertEquals(ExecutionTime.NO_EXECUTION, impossible.nextExecutionEpochMillis(REFERENCE.toInstant().toEpochMilli(), ZoneOffset.UTC));
+        assertFalse(ExecutionTime.forCron(parser.parse("0 0 0 31 4,6,9,11 ?")).isSatisfiable());
+        assertFalse(ExecutionTime.forCron(parser.parse("0 0 0 ? 2 MON#6")).isSatisfiable());
+        assertFalse(ExecutionTime.forCron(new CompositeCron(Arrays.asList(parser.parse("0 0 0 30 2 ?"),
+                parser.parse("0 0 0 31 4 ?")))).isSatisfiable());
+    }
+
+    @Test
+    void testRareScheduleIsSatisfiable() {
+        //February has five Mondays only in leap years starting on a Monday
+        final ExecutionTime executionTime = ExecutionTime.forCron(parser.parse("0 0 0 ? 2 MON#5"));
+        assertTrue(executionTime.isSatisfiable());
+        assertTrue(executionTime.nextExecution(REFERENCE).isPresent());
+        assertTrue(ExecutionTime.forCron(new CompositeCron(Arrays.asList(parser.parse("0 0 0 30 2 ?"),
+                parser.parse("0 0 0 31 3 ?")))).isSatisfiable());
+    }
+
+    @Test
+    void testLimitsMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.of(0, Duration.ofDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.of(1, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> SearchBudget.of(1, null));
+    }
+}
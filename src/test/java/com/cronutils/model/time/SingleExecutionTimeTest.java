@@ -0,0 +1,72 @@
+package com.cronutils.model.time;
+
+import static com.cronutils.model.CronType.QUARTZ;
+import static com.cronutils.model.CronType.UNIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+
+/**
+ * Test for SingleExecutionTime.java
+ */
+class SingleExecutionTimeTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    private final CronParser unixParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(UNIX));
+    private final CronParser quartzParser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(QUARTZ));
+
+    @Test
+    void testNextJumpsWithCarry() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("0 0 * * * ? *"));
+        final ZonedDateTime date = ZonedDateTime.of(2024, 12, 31, 23, 0, 1, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, BERLIN), executionTime.nextExecution(date).get());
+    }
+
+    @Test
+    void testPreviousJumpsWithCarry() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("30 45 * * * ? *"));
+        final ZonedDateTime date = ZonedDateTime.of(2025, 1, 1, 0, 10, 0, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2024, 12, 31, 23, 45, 30, 0, BERLIN), executionTime.lastExecution(date).get());
+    }
+
+    @Test
+    void testJumpsOverDaylightSavingGap() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("30 2 * * *"));
+        //2:30 does not exist on 2018-03-25 in Berlin
+        final ZonedDateTime afterGap = ZonedDateTime.of(2018, 3, 25, 4, 0, 0, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2018, 3, 24, 2, 30, 0, 0, BERLIN), executionTime.lastExecution(afterGap).get());
+        final ZonedDateTime beforeGap = ZonedDateTime.of(2018, 3, 25, 1, 0, 0, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2018, 3, 26, 2, 30, 0, 0, BERLIN), executionTime.nextExecution(beforeGap).get());
+    }
+
+    @Test
+    void testNextSkipsToSparseYear() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(quartzParser.parse("0 0 0 29 2 ? 2096/4"));
+        final ZonedDateTime date = ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2096, 2, 29, 0, 0, 0, 0, BERLIN), executionTime.nextExecution(date).get());
+    }
+
+    @Test
+    void testNextSkipsMonthsWithoutMatchingDays() {
+        final ExecutionTime leapDay = ExecutionTime.forCron(unixParser.parse("0 0 29 2 *"));
+        final ZonedDateTime date = ZonedDateTime.of(2025, 3, 1, 0, 0, 0, 0, BERLIN);
+        assertEquals(ZonedDateTime.of(2028, 2, 29, 0, 0, 0, 0, BERLIN), leapDay.nextExecution(date).get());
+        final ExecutionTime thirteenth = ExecutionTime.forCron(quartzParser.parse("0 0 12 13 * ? 2026"));
+        assertEquals(ZonedDateTime.of(2026, 1, 13, 12, 0, 0, 0, BERLIN), thirteenth.nextExecution(date).get());
+        assertFalse(thirteenth.nextExecution(ZonedDateTime.of(2026, 12, 13, 12, 0, 0, 0, BERLIN)).isPresent());
+    }
+
+    @Test
+    void testNextWithoutMatchingDays() {
+        final ExecutionTime executionTime = ExecutionTime.forCron(unixParser.parse("0 0 31 2 *"));
+        assertFalse(executionTime.nextExecution(ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, BERLIN)).isPresent());
+    }
+}
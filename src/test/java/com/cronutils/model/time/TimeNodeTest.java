@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TimeNodeTest {
     private static final int LIST_START_VALUE = 2;
@@ -60,6 +62,18 @@ public class TimeNodeTest {
         assertEquals(values, timeNode.getValues());
     }
 
+    @Test
+    public void testPrimitiveAccessors() {
+        final TimeNode node = new TimeNode(new int[] { LIST_END_VALUE, LIST_START_VALUE, LIST_MEDIUM_VALUE, LIST_START_VALUE });
+        assertEquals(values, node.getValues());
+        assertEquals(3, node.size());
+        assertEquals(LIST_START_VALUE, node.first());
+        assertEquals(LIST_END_VALUE, node.last());
+        assertTrue(node.contains(LIST_MEDIUM_VALUE));
+        assertFalse(node.contains(LOW_INTERMEDIATE_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new TimeNode(new int[0]));
+    }
+
     @Test
     public void testGetPreviousValue() {
         assertResult(LIST_START_VALUE, 0, timeNode.getPreviousValue(LIST_START_VALUE, 0));
@@ -44,4 +44,10 @@ public class FieldValueGeneratorTest {
         assertTrue(candidates.contains(start));
         assertTrue(candidates.contains(end));
     }
+
+    @Test
+    public void testGenerateCandidateValues() {
+        assertArrayEquals(new int[] { 1, 2 }, fieldValueGenerator.generateCandidateValues(1, 2));
+        assertArrayEquals(new int[] { 5 }, fieldValueGenerator.generateCandidateValues(5, 5));
+    }
 }
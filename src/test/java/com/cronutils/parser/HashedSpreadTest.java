@@ -0,0 +1,107 @@
+package com.cronutils.parser;
+
+import com.cronutils.model.Cron;
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.model.field.CronFieldName;
+import com.cronutils.model.field.expression.Every;
+import com.cronutils.model.field.expression.On;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for HashedSpread.java */
+public class HashedSpreadTest {
+    private static final CronParser UNIX = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.UNIX));
+    private static final CronParser QUARTZ = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.QUARTZ));
+
+    private static int minute(final Cron cron) {
+        return ((On) cron.retrieve(CronFieldName.MINUTE).getExpression()).getTime().getValue();
+    }
+
+    @Test
+    public void testSameKeyGivesSameCron() {
+        assertEquals(UNIX.parse("H H * * *", "job-42").asString(), UNIX.parse("H H * * *", "job-42").asString());
+        assertNotEquals(UNIX.parse("H H * * *", "job-42").asString(), UNIX.parse("H H * * *", "job-43").asString());
+    }
+
+    @Test
+    public void testHashedValuesAreResolvedToOn() {
+        final Cron cron = UNIX.parse("H 3 * * *", "job");
+        assertTrue(cron.retrieve(CronFieldName.MINUTE).getExpression() instanceof On);
+        assertEquals("3", cron.retrieve(CronFieldName.HOUR).getExpression().asString());
+    }
+
+    @Test
+    public void testHashedStepIsResolvedToEvery() {
+        final Cron cron = UNIX.parse("H/15 * * * *", "job");
+        assertTrue(cron.retrieve(CronFieldName.MINUTE).getExpression() instanceof Every);
+        final String[] parts = cron.retrieve(CronFieldName.MINUTE).getExpression().asString().split("/");
+        assertTrue(Integer.parseInt(parts[0]) < 15);
+        assertEquals("15", parts[1]);
+    }
+
+    @Test
+    public void testHashedRangeWithStep() {
+        for (int i = 0; i < 100; i++) {
+            final String minutes = UNIX.parse("H(0-29)/10 * * * *", "job-" + i).retrieve(CronFieldName.MINUTE).getExpression().asString();
+            final int start = Integer.parseInt(minutes.substring(0, minutes.indexOf('-')));
+            assertTrue(start >= 0 && start < 10, minutes);
+            assertTrue(minutes.endsWith("-29/10"), minutes);
+        }
+    }
+
+    @Test
+    public void testHashedDayOfMonthExecutesEveryMonth() {
+        for (int i = 0; i < 200; i++) {
+            final int day = ((On) UNIX.parse("0 0 H * *", "job-" + i).retrieve(CronFieldName.DAY_OF_MONTH).getExpression()).getTime().getValue();
+            assertTrue(day >= 1 && day <= 28, String.valueOf(day));
+        }
+    }
+
+    @Test
+    public void testDayNamesAreNotHashed() {
+        final Cron cron = QUARTZ.parse("0 H 9 ? * THU", "job");
+        assertTrue(cron.retrieve(CronFieldName.MINUTE).getExpression() instanceof On);
+        assertEquals("5", cron.retrieve(CronFieldName.DAY_OF_WEEK).getExpression().asString());
+    }
+
+    @Test
+    public void testKeysAreSpreadEvenly() {
+        final int[] counts = new int[60];
+        for (int i = 0; i < 6000; i++) {
+            counts[minute(UNIX.parse("H * * * *", "tenant-" + i))]++;
+        }
+        for (final int count : counts) {
+            assertTrue(count > 50 && count < 150, String.valueOf(count));
+        }
+    }
+
+    @Test
+    public void testNicknamesAreSpread() {
+        final CronParser parser = new CronParser(CronDefinitionBuilder.defineCron()
+                .withMinutes().withValidRange(0, 59).withStrictRange().and()
+                .withHours().withValidRange(0, 23).withStrictRange().and()
+                .withDayOfMonth().withValidRange(1, 31).withStrictRange().and()
+                .withMonth().withValidRange(1, 12).withStrictRange().and()
+                .withDayOfWeek().withValidRange(0, 7).withMondayDoWValue(1).withIntMapping(7, 0).withStrictRange().and()
+                .withSupportedNicknameHourly().withSupportedNicknameMidnight()
+                .instance());
+        final Cron hourly = parser.parse("@hourly", "job-7");
+        assertEquals(minute(parser.parse("H * * * *", "job-7")), minute(hourly));
+        assertEquals("*", hourly.retrieve(CronFieldName.HOUR).getExpression().asString());
+        for (int i = 0; i < 50; i++) {
+            final int hour = ((On) parser.parse("@midnight", "job-" + i).retrieve(CronFieldName.HOUR).getExpression()).getTime().getValue();
+            assertTrue(hour <= 2, String.valueOf(hour));
+        }
+    }
+
+    @Test
+    public void testHashedValuesNeedKey() {
+        assertThrows(IllegalArgumentException.class, () -> UNIX.parse("H * * * *"));
+        assertThrows(NullPointerException.class, () -> UNIX.parse("H * * * *", null));
+    }
+}
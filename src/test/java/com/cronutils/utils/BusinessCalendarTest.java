@@ -0,0 +1,87 @@
+package com.cronutils.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Test for BusinessCalendar.java */
+public class BusinessCalendarTest {
+    private static final List<LocalDate> HOLIDAYS = Arrays.asList(
+            LocalDate.of(2024, 12, 24), LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26),
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 4));
+
+    @Test
+    public void testBusinessDays() {
+        final BusinessCalendar calendar = BusinessCalendar.of(WeekendPolicy.SATURDAY_SUNDAY, HOLIDAYS);
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2024, 12, 23)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 12, 25)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 12, 28)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2025, 1, 4)));
+        assertTrue(calendar.isWeekend(DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    public void testNextAndPreviousBusinessDay() {
+        final BusinessCalendar calendar = BusinessCalendar.of(WeekendPolicy.SATURDAY_SUNDAY, HOLIDAYS);
+        assertEquals(LocalDate.of(2024, 12, 27), calendar.nextBusinessDay(LocalDate.of(2024, 12, 24)));
+        assertEquals(LocalDate.of(2024, 12, 23), calendar.previousBusinessDay(LocalDate.of(2024, 12, 26)));
+        assertEquals(LocalDate.of(2024, 12, 27), calendar.previousBusinessDay(LocalDate.of(2024, 12, 29)));
+        assertEquals(LocalDate.of(2024, 12, 30), calendar.nextBusinessDay(LocalDate.of(2024, 12, 30)));
+    }
+
+    @Test
+    public void testWorkdaysCount() {
+        final BusinessCalendar calendar = BusinessCalendar.of(WeekendPolicy.SATURDAY_SUNDAY,
+                Arrays.asList(LocalDate.of(2018, 5, 1), LocalDate.of(2018, 5, 25)));
+        assertEquals(21, calendar.workdaysCount(LocalDate.of(2018, 5, 1), LocalDate.of(2018, 5, 31)));
+        assertEquals(1, calendar.workdaysCount(LocalDate.of(2018, 5, 2), LocalDate.of(2018, 5, 2)));
+        assertEquals(0, calendar.workdaysCount(LocalDate.of(2018, 5, 5), LocalDate.of(2018, 5, 6)));
+    }
+
+    @Test
+    public void testWorkdaysCountMatchesDayByDayCount() {
+        final BusinessCalendar calendar = BusinessCalendar.of(EnumSet.of(DayOfWeek.FRIDAY), HOLIDAYS);
+        final Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            final LocalDate start = LocalDate.of(2023, 6, 1).plusDays(random.nextInt(1000));
+            final LocalDate end = start.plusDays(random.nextInt(100));
+            int expected = 0;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                if (day.getDayOfWeek() != DayOfWeek.FRIDAY && !HOLIDAYS.contains(day)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, calendar.workdaysCount(start, end), start + " to " + end);
+        }
+    }
+
+    @Test
+    public void testWithoutHolidays() {
+        final BusinessCalendar calendar = BusinessCalendar.of(WeekendPolicy.THURSDAY_FRIDAY, Collections.emptyList());
+        assertEquals(5, calendar.workdaysCount(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7)));
+    }
+
+    @Test
+    public void testWeekendMustLeaveBusinessDays() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BusinessCalendar.of(EnumSet.allOf(DayOfWeek.class), Collections.emptyList()));
+    }
+
+    @Test
+    public void testEndMustNotBeBeforeStart() {
+        final BusinessCalendar calendar = BusinessCalendar.of(WeekendPolicy.SATURDAY_SUNDAY, HOLIDAYS);
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.workdaysCount(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1)));
+    }
+}
@@ -11,6 +11,9 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,4 +50,12 @@ public class CronFrequencyComparatorTest {
         Cron cronx = parser.parse("0 0 9-17 * * MON-FRI");//on the hour nine-to-five weekdays -> 9 executions per day, five times a week -> 45 executions per week
         assertEquals(0, comparator.compare(cron1, cronx));
     }
+
+    @Test
+    public void sortByFrequency() {
+        Cron hourly = parser.parse("0 0 * * * *");
+        List<Cron> crons = new ArrayList<>(Arrays.asList(hourly, cron1, cron2));
+        crons.sort(comparator);
+        assertEquals(Arrays.asList(cron2, cron1, hourly), crons);
+    }
 }
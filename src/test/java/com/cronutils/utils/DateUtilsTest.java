@@ -53,4 +53,36 @@ public class DateUtilsTest {
         int daysToWorkday = DateUtils.workdaysCount(start, end, holidays, policy);
         assertEquals(21, daysToWorkday);
     }
+
+    @Test
+    public void workdaysCountDoesNotSortHolidays() {
+        ZoneId zone = ZoneId.of("America/Argentina/Buenos_Aires");
+        ZonedDateTime start = ZonedDateTime.of(LocalDate.of(2018, 5, 1), LocalTime.of(1, 0), zone);
+        ZonedDateTime may25 = ZonedDateTime.of(LocalDate.of(2018, 5, 25), LocalTime.of(1, 0), zone);
+        ZonedDateTime may1 = ZonedDateTime.of(LocalDate.of(2018, 5, 1), LocalTime.of(1, 0), zone);
+        List<ZonedDateTime> holidays = new ArrayList<>(Arrays.asList(may25, may1));
+        assertEquals(21, DateUtils.workdaysCount(start, 30, holidays, WeekendPolicy.SATURDAY_SUNDAY));
+        assertEquals(Arrays.asList(may25, may1), holidays);
+    }
+
+    @Test
+    public void workdaysCountOverWholeWeeks() {
+        ZoneId zone = ZoneId.of("UTC");
+        //from a Sunday to the next Sunday
+        assertEquals(5, DateUtils.workdaysCount(ZonedDateTime.of(LocalDate.of(2024, 8, 25), LocalTime.NOON, zone),
+                ZonedDateTime.of(LocalDate.of(2024, 9, 1), LocalTime.NOON, zone), new ArrayList<>(), WeekendPolicy.SATURDAY_SUNDAY));
+        assertEquals(24, DateUtils.workdaysCount(ZonedDateTime.of(LocalDate.of(2024, 9, 4), LocalTime.NOON, zone),
+                ZonedDateTime.of(LocalDate.of(2024, 10, 7), LocalTime.NOON, zone), new ArrayList<>(), WeekendPolicy.THURSDAY_FRIDAY));
+    }
+
+    @Test
+    public void workdaysCountSubtractsWeekdayHolidaysOnce() {
+        ZoneId zone = ZoneId.of("UTC");
+        ZonedDateTime start = ZonedDateTime.of(LocalDate.of(2024, 9, 2), LocalTime.NOON, zone);
+        ZonedDateTime wednesday = ZonedDateTime.of(LocalDate.of(2024, 9, 4), LocalTime.NOON, zone);
+        ZonedDateTime saturday = ZonedDateTime.of(LocalDate.of(2024, 9, 7), LocalTime.NOON, zone);
+        ZonedDateTime afterEnd = ZonedDateTime.of(LocalDate.of(2024, 9, 16), LocalTime.NOON, zone);
+        List<ZonedDateTime> holidays = Arrays.asList(wednesday, wednesday.withHour(18), saturday, afterEnd);
+        assertEquals(9, DateUtils.workdaysCount(start, 13, holidays, WeekendPolicy.SATURDAY_SUNDAY));
+    }
 }